@@ -0,0 +1,70 @@
+package com.techchallenge.configuration.compressao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU por resposta de uma listagem de itens do cardápio: só Jackson (sem compressão), Jackson + gzip a cada
+ * requisição (o que o Tomcat faria) e o acerto no cache de {@link CompressaoRespostas}. Os bytes economizados saem
+ * no log do setup. Uso: gradle jmhSpring -PjmhInclude=CompressaoBenchmark -PjmhProf=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressaoBenchmark {
+
+    private static final String DESCRICAO = "Massa fresca em camadas com molho de tomate da casa, ragu de carne cozido "
+            + "por seis horas, bechamel, mozzarella e parmesão gratinados; acompanha salada verde e pão de fermentação "
+            + "natural. Contém glúten e lactose. ";
+
+    @Param({"50", "500"})
+    public int itens;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CompressaoRespostas compressao;
+    private List<ItemCardapioResponseDTO> pagina;
+
+    @Setup
+    public void setup() throws Exception {
+        pagina = new ArrayList<>(itens);
+        for (long i = 1; i <= itens; i++) {
+            pagina.add(new ItemCardapioResponseDTO(i, "Lasanha " + i, DESCRICAO + i, new BigDecimal("39.90"),
+                    i % 2 == 0, "/imagens/lasanha-" + i + ".jpg", i % 20 + 1, "Cantina " + (i % 20 + 1), 0L));
+        }
+        compressao = new CompressaoRespostas(objectMapper, new SimpleMeterRegistry(), 1024, 64L << 20);
+
+        int json = objectMapper.writeValueAsBytes(pagina).length;
+        int gzip = Compressao.gzip(objectMapper.writeValueAsBytes(pagina)).length;
+        System.out.printf("%n%d itens: json %d bytes, gzip %d bytes (%.1f%% a menos)%n",
+                itens, json, gzip, 100.0 * (json - gzip) / json);
+    }
+
+    @Benchmark
+    public byte[] jsonSemCompressao() throws Exception {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] jsonGzipPorRequisicao() throws Exception {
+        return Compressao.gzip(objectMapper.writeValueAsBytes(pagina));
+    }
+
+    @Benchmark
+    public byte[] cacheDeCorposPorEtag() {
+        return compressao.corpo("\"abc\" /v1/api/itens-cardapio", pagina).bytes();
+    }
+}
@@ -0,0 +1,153 @@
+package com.techchallenge.configuration.datasource;
+
+import com.techchallenge.Application;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga HTTP autenticada em {@code GET /v1/api/restaurantes/{id}} com {@value #CLIENTES} clientes simultâneos:
+ * Tomcat em threads de plataforma contra virtual threads, com o banco limitado pelo bulkhead.
+ * Throughput dá requisições/ms; SampleTime dá o p99. Cada conexão fica presa {@value #LATENCIA_BANCO_MS} ms
+ * antes de voltar ao pool, simulando a latência de um banco remoto sobre o H2 em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(ThreadsVirtuaisCargaBenchmark.CLIENTES)
+public class ThreadsVirtuaisCargaBenchmark {
+
+    static final int CLIENTES = 400;
+    private static final long LATENCIA_BANCO_MS = 20;
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"false", "true"})
+    private boolean threadsVirtuais;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new SpringApplicationBuilder(Application.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(latenciaNoBanco()))
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=50",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.threads.virtual.enabled=" + threadsVirtuais,
+                        // Fila longa no bulkhead: aqui interessa comparar latência, não o 503 de fail-fast
+                        "--app.db.bulkheadEsperaMs=10000",
+                        "--server.port=0",
+                        "--app.auth.jwtSecret=benchmark-secret-benchmark-secret-benchmark-secret",
+                        "--app.auth.jwtExpirationMs=3600000",
+                        "--app.auth.email=benchmark@tech.com",
+                        "--app.auth.password=123456",
+                        "--logging.level.root=WARN");
+
+        int porta = ((WebServerApplicationContext) context).getWebServer().getPort();
+        Long restauranteId = context.getBean(RestauranteRepository.class)
+                .findByNomeIgnoreCase("Cantina da Praca")
+                .orElseThrow()
+                .getId();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + porta + "/v1/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"admin@tech.com\",\"password\":\"123456\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher token = TOKEN.matcher(login.body());
+        if (!token.find()) {
+            throw new IllegalStateException("Login falhou: " + login.statusCode() + " " + login.body());
+        }
+
+        request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + porta + "/v1/api/restaurantes/" + restauranteId))
+                .header("Authorization", "Bearer " + token.group(1))
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int buscarRestaurante() throws Exception {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    // Registrado direto no BeanFactory: roda antes do post-processor do bulkhead, que fica por fora
+    private static BeanPostProcessor latenciaNoBanco() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return comLatencia(super.getConnection());
+                    }
+                };
+            }
+        };
+    }
+
+    private static Connection comLatencia(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("close")) {
+                        Thread.sleep(LATENCIA_BANCO_MS);
+                    }
+                    try {
+                        return metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,48 @@
+package com.techchallenge.domain.auth.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classificação de uma requisição: a trie da {@link PoliticaRotas} contra o stream com {@code startsWith} que o
+ * AuthFilter usava. Uso: gradle jmhSpring -PjmhInclude=PoliticaRotasBenchmark -PjmhProf=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PoliticaRotasBenchmark {
+
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/v1/api/auth/login",
+            "/v1/api/auth/refresh",
+            "/v1/api/auth/logout",
+            "/swagger-ui",
+            "/v3/api-docs",
+            "/swagger-resources",
+            "/webjars/",
+            "/v1/api/usuarios/registrar"
+    );
+
+    @Param({"/v1/api/auth/login", "/v1/api/restaurantes/42/cardapio", "/swagger-ui/index.html"})
+    public String caminho;
+
+    private final PoliticaRotas politica = new PoliticaRotas();
+
+    @Benchmark
+    public boolean streamComStartsWith() {
+        return PUBLIC_PATHS.stream().anyMatch(caminho::startsWith);
+    }
+
+    @Benchmark
+    public PoliticaRotas.Acesso trie() {
+        return politica.classificar("GET", caminho);
+    }
+}
@@ -0,0 +1,180 @@
+package com.techchallenge.domain.auth.controller;
+
+import com.techchallenge.Application;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import com.techchallenge.domain.usuario.service.UsuarioEmailFiltro;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Carga HTTP nos fluxos do {@link AuthController} com {@code usuarios} clientes cadastrados no H2: login de um
+ * usuário sorteado, {@code GET /me} e {@code POST /refresh} com a sessão de cada thread. Throughput dá
+ * requisições/ms, SampleTime dá p50/p99 e {@code -prof gc} a alocação por requisição, somando cliente e servidor.
+ * Uso: gradle perfAuth [-PperfThreads=8], que grava o JSON em build/results/perf/auth.json para comparar builds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(AuthFluxoCargaBenchmark.CLIENTES)
+public class AuthFluxoCargaBenchmark {
+
+    static final int CLIENTES = 8;
+    private static final String SENHA = "123456";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern REFRESH_TOKEN = Pattern.compile("\"refreshToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"5000"})
+    private int usuarios;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String base;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:auth;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--server.port=0",
+                        "--app.auth.jwtSecret=benchmark-secret-benchmark-secret-benchmark-secret",
+                        "--app.auth.jwtExpirationMs=3600000",
+                        "--app.auth.email=benchmark@tech.com",
+                        "--app.auth.password=" + SENHA,
+                        // Todo login vem de 127.0.0.1: o limite por IP iria medir o 429, não o login
+                        "--app.auth.loginPorIpMinuto=16000",
+                        "--logging.level.root=WARN");
+
+        semear();
+
+        int porta = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        base = "http://localhost:" + porta + "/v1/api/auth";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** Sessão de cada thread: o refresh é rotacionado a cada renovação, então não pode ser dividido. */
+    @State(Scope.Thread)
+    public static class Sessao {
+
+        private String accessToken;
+        private String refreshToken;
+
+        @Setup(Level.Iteration)
+        public void login(AuthFluxoCargaBenchmark carga) throws Exception {
+            String corpo = carga.login(carga.emailSorteado());
+            accessToken = extrair(TOKEN, corpo);
+            refreshToken = extrair(REFRESH_TOKEN, corpo);
+        }
+    }
+
+    @Benchmark
+    public String login() throws Exception {
+        return login(emailSorteado());
+    }
+
+    @Benchmark
+    public String me(Sessao sessao) throws Exception {
+        return enviar(HttpRequest.newBuilder()
+                .uri(URI.create(base + "/me"))
+                .header("Authorization", "Bearer " + sessao.accessToken)
+                .GET()
+                .build());
+    }
+
+    @Benchmark
+    public String refresh(Sessao sessao) throws Exception {
+        String corpo = enviar(post("/refresh", "{\"refreshToken\":\"" + sessao.refreshToken + "\"}"));
+        sessao.accessToken = extrair(ACCESS_TOKEN, corpo);
+        sessao.refreshToken = extrair(REFRESH_TOKEN, corpo);
+        return corpo;
+    }
+
+    private String login(String email) throws Exception {
+        return enviar(post("/login", "{\"email\":\"" + email + "\",\"password\":\"" + SENHA + "\"}"));
+    }
+
+    private String emailSorteado() {
+        return "carga" + ThreadLocalRandom.current().nextInt(usuarios) + "@tech.com";
+    }
+
+    private HttpRequest post(String caminho, String json) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(base + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String enviar(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " HTTP " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    // Um único hash para todos: o custo do BCrypt no login é o mesmo, e semear não leva minutos
+    private void semear() {
+        String hash = context.getBean(PasswordEncoder.class).encode(SENHA);
+        LocalDateTime agora = LocalDateTime.now();
+
+        List<Usuario> novos = new ArrayList<>(usuarios);
+        for (int i = 0; i < usuarios; i++) {
+            novos.add(Usuario.builder()
+                    .nome("Cliente Carga " + i)
+                    .email("carga" + i + "@tech.com")
+                    .senha(hash)
+                    .endereco("Rua da Carga, " + i)
+                    .role(UsuarioRole.CLIENT)
+                    .ultimaAtualizacao(agora)
+                    .build());
+        }
+        context.getBean(UsuarioRepository.class).saveAll(novos);
+        context.getBean(UsuarioEmailFiltro.class).reconstruir();
+    }
+
+    private static String extrair(Pattern padrao, String corpo) {
+        Matcher matcher = padrao.matcher(corpo);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Resposta sem " + padrao.pattern() + ": " + corpo);
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.techchallenge.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho autenticado com o token já no cache, do cabeçalho ao SecurityContextHolder: o {@link VerifiedTokenCache}
+ * atual, pela assinatura do token e com a autenticação imutável, contra o anterior, que buscava por digest SHA-256
+ * em hex e guardava um UsernamePasswordAuthenticationToken. Os dois montam um contexto novo por requisição.
+ * Uso: gradle jmhSpring -PjmhInclude=AutenticacaoCacheBenchmark -PjmhProf=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AutenticacaoCacheBenchmark {
+
+    private static final String SEGREDO = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private VerifiedTokenCache cache;
+    private Cache<String, Authentication> porDigest;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtTokenCodec codec = new JwtTokenCodec(SEGREDO, 3_600_000L);
+        token = codec.gerarToken("admin@tech.com", "ADMIN");
+
+        cache = new VerifiedTokenCache(codec, new SimpleMeterRegistry(), 10_000);
+        cache.autenticar(token);
+
+        porDigest = Caffeine.newBuilder().maximumSize(10_000).build();
+        String role = "ADMIN";
+        porDigest.put(digest(token), new UsernamePasswordAuthenticationToken(
+                "admin@tech.com", token, Collections.singleton(() -> "ROLE_" + role)));
+    }
+
+    @Benchmark
+    public Authentication anterior() {
+        Authentication authentication = porDigest.getIfPresent(digest(token));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Authentication atual() {
+        VerifiedTokenCache.TokenAutenticado autenticado = cache.autenticar(token);
+        SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+        contexto.setAuthentication(autenticado.authentication());
+        SecurityContextHolder.setContext(contexto);
+        SecurityContextHolder.clearContext();
+        return autenticado.authentication();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de emitir e validar um token por algoritmo: HS256 com segredo compartilhado contra ES256 com chave do
+ * diretório local. Uso: gradle jmhSpring -PjmhInclude=JwtAssinaturaBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAssinaturaBenchmark {
+
+    private static final String SEGREDO = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({JwtTokenCodec.HS256, JwtTokenCodec.ES256})
+    public String algoritmo;
+
+    private JwtTokenCodec codec;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        Path chaves = Files.createTempDirectory("jwt-chaves");
+        gerarChave(chaves, "bench");
+        chaves.toFile().deleteOnExit();
+
+        codec = new JwtTokenCodec(SEGREDO, 3_600_000L, algoritmo, chaves.toString());
+        token = codec.gerarToken("admin@tech.com", "ADMIN");
+    }
+
+    @Benchmark
+    public String emitir() {
+        return codec.gerarToken("admin@tech.com", "ADMIN");
+    }
+
+    @Benchmark
+    public Claims validar() {
+        return codec.validar(token);
+    }
+
+    private static void gerarChave(Path diretorio, String kid) throws Exception {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+        gerador.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair par = gerador.generateKeyPair();
+
+        Files.writeString(diretorio.resolve(kid + ".pub"), pem("PUBLIC KEY", par.getPublic().getEncoded()));
+        Files.writeString(diretorio.resolve(kid + ".key"), pem("PRIVATE KEY", par.getPrivate().getEncoded()));
+    }
+
+    private static String pem(String tipo, byte[] der) {
+        return "-----BEGIN " + tipo + "-----\n" + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + tipo + "-----\n";
+    }
+}
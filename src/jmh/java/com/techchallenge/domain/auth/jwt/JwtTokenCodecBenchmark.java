@@ -0,0 +1,49 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenCodecBenchmark {
+
+    private static final String SEGREDO = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtTokenCodec codec;
+    private String token;
+
+    @Setup
+    public void setup() {
+        codec = new JwtTokenCodec(SEGREDO, 3_600_000L);
+        token = codec.gerarToken("admin@tech.com", "ADMIN");
+    }
+
+    @Benchmark
+    public Claims validarReconstruindoChaveEParser() {
+        Key key = Keys.hmacShaKeyFor(SEGREDO.getBytes(StandardCharsets.UTF_8));
+
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims validarComCodec() {
+        return codec.validar(token);
+    }
+}
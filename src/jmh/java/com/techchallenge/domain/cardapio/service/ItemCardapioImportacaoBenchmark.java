@@ -0,0 +1,96 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.techchallenge.Application;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoResultadoDTO;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linhas gravadas por segundo no H2 em memória: um POST por item ({@code criar}) contra a importação em lote.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ItemCardapioImportacaoBenchmark {
+
+    private static final int LINHAS = 500;
+
+    private ConfigurableApplicationContext context;
+    private ItemCardapioService itemService;
+    private ItemCardapioImportacaoService importacaoService;
+    private Long restauranteId;
+    private List<ItemCardapioImportacaoDTO> itens;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Argumentos de linha de comando: sobrepõem os ${...} obrigatórios do application.properties
+        context = new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--server.port=0",
+                        "--app.auth.jwtSecret=benchmark-secret-benchmark-secret-benchmark-secret",
+                        "--app.auth.jwtExpirationMs=3600000",
+                        "--app.auth.email=benchmark@tech.com",
+                        "--app.auth.password=123456",
+                        "--app.cardapio.importacaoLimiteLinhas=" + LINHAS,
+                        "--logging.level.root=WARN");
+
+        itemService = context.getBean(ItemCardapioService.class);
+        importacaoService = context.getBean(ItemCardapioImportacaoService.class);
+        restauranteId = context.getBean(RestauranteRepository.class)
+                .findByNomeIgnoreCase("Cantina da Praca")
+                .orElseThrow()
+                .getId();
+
+        itens = new ArrayList<>(LINHAS);
+        for (int i = 0; i < LINHAS; i++) {
+            itens.add(new ItemCardapioImportacaoDTO(
+                    "Prato " + i, "Descricao do prato " + i, new BigDecimal("19.90"), false, "/imagens/prato.jpg"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public void criarUmPorVez(Blackhole blackhole) {
+        for (ItemCardapioImportacaoDTO item : itens) {
+            blackhole.consume(itemService.criar(new ItemCardapioCreateDTO(
+                    item.nome(), item.descricao(), item.preco(), item.somenteNoRestaurante(), item.fotoPath(),
+                    restauranteId)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public ItemCardapioImportacaoResultadoDTO importarEmLote() {
+        return importacaoService.importar(restauranteId, itens);
+    }
+}
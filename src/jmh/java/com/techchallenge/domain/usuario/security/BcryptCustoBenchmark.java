@@ -0,0 +1,47 @@
+package com.techchallenge.domain.usuario.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de CPU de um login ({@code matches}) e de um cadastro ({@code encode}) por custo do BCrypt, passando pelo
+ * mesmo encoder delegante da aplicação. Logins/s por núcleo ≈ 1000 / ms de {@code conferir}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BcryptCustoBenchmark {
+
+    private static final String SENHA = "Senha@Forte123";
+
+    @Param({"8", "10", "11", "12", "13"})
+    private int custo;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        encoder = new SecurityBeansConfig().passwordEncoder(SecurityBeansConfig.BCRYPT, custo);
+        hash = encoder.encode(SENHA);
+    }
+
+    @Benchmark
+    public boolean conferir() {
+        return encoder.matches(SENHA, hash);
+    }
+
+    @Benchmark
+    public String codificar() {
+        return encoder.encode(SENHA);
+    }
+}
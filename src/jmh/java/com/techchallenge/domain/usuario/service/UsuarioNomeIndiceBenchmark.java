@@ -0,0 +1,99 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.domain.usuario.dto.UsuarioNomeDTO;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Limit;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por nome em 1M de usuários: índice de trigramas (ranqueado, limitado) contra a varredura completa
+ * que o {@code LIKE '%x%'} sem limite fazia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UsuarioNomeIndiceBenchmark {
+
+    private static final int USUARIOS = 1_000_000;
+    private static final int LIMITE = 50;
+
+    private static final String[] NOMES = {
+            "João", "José", "Maria", "Ana", "Antônio", "Francisca", "Carlos", "Paulo", "Pedro", "Lucas",
+            "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Márcia", "Daniel", "Marcelo", "Bruno", "Eduardo",
+            "Felipe", "Raimundo", "Rodrigo", "Adriana", "Juliana", "Fernanda", "Patrícia", "Aline", "Sandra", "Camila",
+            "Letícia", "Amanda", "Bruna", "Jéssica", "Vitória", "Beatriz", "Larissa", "Sônia", "Conceição", "Débora"};
+
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+            "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas",
+            "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira", "Araújo", "Correia", "Brandão", "Monteiro", "Falcão"};
+
+    @Param({"joao", "conceicao", "ana sou", "brandao falc"})
+    private String termo;
+
+    private UsuarioNomeIndice indice;
+    private List<UsuarioNomeDTO> usuarios;
+    private String[] normalizados;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        usuarios = new ArrayList<>(USUARIOS);
+        for (int i = 1; i <= USUARIOS; i++) {
+            usuarios.add(new UsuarioNomeDTO((long) i, NOMES[random.nextInt(NOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)]));
+        }
+
+        normalizados = usuarios.stream().map(u -> UsuarioNomeIndice.normalizar(u.nome())).toArray(String[]::new);
+
+        indice = new UsuarioNomeIndice(repositorio());
+        indice.recarregar();
+    }
+
+    @Benchmark
+    public List<Long> indiceDeTrigramas() {
+        return indice.buscar(termo, LIMITE);
+    }
+
+    @Benchmark
+    public List<Long> varreduraLinear() {
+        String consulta = UsuarioNomeIndice.normalizar(termo);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < normalizados.length; i++) {
+            if (normalizados[i].contains(consulta)) {
+                ids.add((long) i + 1);
+            }
+        }
+        return ids;
+    }
+
+    // Só a carga paginada por ID é usada pelo índice
+    private UsuarioRepository repositorio() {
+        return (UsuarioRepository) Proxy.newProxyInstance(
+                UsuarioRepository.class.getClassLoader(),
+                new Class<?>[]{UsuarioRepository.class},
+                (proxy, metodo, args) -> {
+                    if (!metodo.getName().equals("findNomePage")) {
+                        throw new UnsupportedOperationException(metodo.getName());
+                    }
+                    int inicio = (int) (long) args[0];
+                    int fim = Math.min(usuarios.size(), inicio + ((Limit) args[1]).max());
+                    return usuarios.subList(inicio, fim);
+                });
+    }
+}
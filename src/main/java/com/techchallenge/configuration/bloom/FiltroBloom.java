@@ -0,0 +1,92 @@
+package com.techchallenge.configuration.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de strings. {@link #talvezContenha(String)} nunca dá falso negativo; o falso positivo fica perto
+ * de {@code taxaFalsoPositivo} enquanto o filtro tiver até {@code capacidade} elementos. Não remove elementos:
+ * quem precisa descartar monta um filtro novo. Seguro para leituras e escritas concorrentes.
+ */
+public final class FiltroBloom {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray palavras;
+    private final long totalBits;
+    private final int funcoes;
+    private final int capacidade;
+
+    public FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0 || taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva e taxa entre 0 e 1");
+        }
+
+        long bits = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (LN2 * LN2));
+        int quantidadePalavras = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.totalBits = quantidadePalavras * 64L;
+        this.funcoes = Math.max(1, (int) Math.round((double) totalBits / capacidade * LN2));
+        this.capacidade = capacidade;
+    }
+
+    public void adicionar(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, totalBits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+
+            long atual = palavras.get(indice);
+            while ((atual & mascara) == 0 && !palavras.compareAndSet(indice, atual, atual | mascara)) {
+                atual = palavras.get(indice);
+            }
+        }
+    }
+
+    public boolean talvezContenha(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, totalBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int capacidade() {
+        return capacidade;
+    }
+
+    /** Falso positivo esperado pela fração de bits ligados; percorre o filtro inteiro, próprio para métricas. */
+    public double taxaFalsoPositivoEstimada() {
+        long ligados = 0;
+        for (int i = 0; i < palavras.length(); i++) {
+            ligados += Long.bitCount(palavras.get(i));
+        }
+        return Math.pow((double) ligados / totalBits, funcoes);
+    }
+
+    // FNV-1a de 64 bits sobre os chars, misturado com o finalizador do MurmurHash3 para espalhar as duas metades
+    static long hash64(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            hash ^= valor.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53cd3e5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
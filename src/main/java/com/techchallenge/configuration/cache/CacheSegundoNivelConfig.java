@@ -0,0 +1,118 @@
+package com.techchallenge.configuration.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate em memória (JCache sobre Caffeine), com uma região por entidade e uma de
+ * consultas por entidade. Escritas pelo Hibernate ({@code save}, {@code delete}, JPQL de alteração) atualizam a
+ * região da entidade e invalidam as consultas das tabelas tocadas no commit; alterações feitas por outro nó só são
+ * vistas aqui depois do TTL da região. Cada região publica {@code cache.gets{cache, result}} e
+ * {@code cache.taxa.acerto{cache}}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.segundoNivel", havingValue = "true", matchIfMissing = true)
+public class CacheSegundoNivelConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheSegundoNivelConfig.class);
+
+    public static final String RESTAURANTE = "restaurante";
+    public static final String RESTAURANTE_CONSULTAS = "restaurante.consultas";
+    public static final String ITEM_CARDAPIO = "item_cardapio";
+    public static final String ITEM_CARDAPIO_CONSULTAS = "item_cardapio.consultas";
+
+    // Regiões que o Hibernate sempre cria: consultas cacheáveis sem região própria e o instante da última escrita em
+    // cada tabela, que não pode expirar antes das consultas que dependem dele
+    private static final String CONSULTAS_PADRAO = "default-query-results-region";
+    private static final String TIMESTAMPS = "default-update-timestamps-region";
+    private static final long TIMESTAMPS_MAXIMO = 10_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheSegundoNivel(MeterRegistry meterRegistry,
+                                          @Value("${app.cache.restauranteMaximo:1000}") long restauranteMaximo,
+                                          @Value("${app.cache.restauranteTtlMs:300000}") long restauranteTtlMs,
+                                          @Value("${app.cache.itemCardapioMaximo:20000}") long itemMaximo,
+                                          @Value("${app.cache.itemCardapioTtlMs:300000}") long itemTtlMs,
+                                          @Value("${app.cache.consultasMaximo:5000}") long consultasMaximo,
+                                          @Value("${app.cache.consultasTtlMs:60000}") long consultasTtlMs) {
+        // Um gerenciador por contexto: nos testes vários contextos convivem na mesma JVM
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        criar(cacheManager, meterRegistry, RESTAURANTE, restauranteMaximo, restauranteTtlMs);
+        criar(cacheManager, meterRegistry, RESTAURANTE_CONSULTAS, consultasMaximo, consultasTtlMs);
+        criar(cacheManager, meterRegistry, ITEM_CARDAPIO, itemMaximo, itemTtlMs);
+        criar(cacheManager, meterRegistry, ITEM_CARDAPIO_CONSULTAS, consultasMaximo, consultasTtlMs);
+        criar(cacheManager, meterRegistry, CONSULTAS_PADRAO, consultasMaximo, consultasTtlMs);
+        criar(cacheManager, meterRegistry, TIMESTAMPS, TIMESTAMPS_MAXIMO, 0);
+
+        log.info("🗃️ Cache de segundo nível: restaurante {} / {} ms, item_cardapio {} / {} ms, consultas {} / {} ms",
+                restauranteMaximo, restauranteTtlMs, itemMaximo, itemTtlMs, consultasMaximo, consultasTtlMs);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelHibernate(CacheManager cacheSegundoNivel) {
+        return propriedades -> {
+            propriedades.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            propriedades.put(AvailableSettings.USE_QUERY_CACHE, true);
+            propriedades.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            propriedades.put(ConfigSettings.CACHE_MANAGER, cacheSegundoNivel);
+            // Região sem configuração aqui é erro de digitação na entidade, não um cache sem limite
+            propriedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void criar(CacheManager cacheManager, MeterRegistry meterRegistry, String regiao,
+                              long maximo, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setMaximumSize(OptionalLong.of(maximo));
+        if (ttlMs > 0) {
+            configuracao.setExpireAfterWrite(OptionalLong.of(Duration.ofMillis(ttlMs).toNanos()));
+        }
+        configuracao.setStatisticsEnabled(true);
+
+        Cache<Object, Object> cache = cacheManager.createCache(regiao, configuracao);
+        JCacheMetrics.monitor(meterRegistry, cache);
+        Gauge.builder("cache.taxa.acerto", cache, CacheSegundoNivelConfig::taxaAcerto)
+                .description("Percentual de leituras da região servidas pelo cache desde a subida")
+                .tag("cache", regiao)
+                .baseUnit("percent")
+                .register(meterRegistry);
+    }
+
+    // Lido do MXBean de estatísticas do JCache, o mesmo que o JCacheMetrics usa para cache.gets
+    private static double taxaAcerto(Cache<?, ?> cache) {
+        try {
+            ObjectName nome = new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                    + cache.getCacheManager().getURI().toString().replaceAll("[,:=\n]", ".")
+                    + ",Cache=" + cache.getName().replaceAll("[,:=\n]", "."));
+            return ((Number) ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(nome, "CacheHitPercentage")).doubleValue();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
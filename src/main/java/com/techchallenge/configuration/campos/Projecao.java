@@ -0,0 +1,141 @@
+package com.techchallenge.configuration.campos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Campos que um DTO aceita em {@code ?fields=}, na ordem do DTO, cada um com as expressões JPQL que o trazem. A
+ * consulta de uma {@link Selecao} leva só os campos pedidos, mais o id e a versão (cursor e ETag) e os internos, e
+ * só faz a junção quando algum campo pedido vem dela.
+ */
+public final class Projecao {
+
+    private final String entidade;
+    private final String id;
+    private final String versao;
+    private final String juncao;
+    private final Map<String, Campo> campos;
+    private final Map<String, String> internos;
+    private final List<String> ordem;
+
+    private Projecao(Construtor construtor) {
+        this.entidade = construtor.entidade;
+        this.id = construtor.id;
+        this.versao = construtor.versao;
+        this.juncao = construtor.juncao;
+        this.campos = Map.copyOf(construtor.campos);
+        this.internos = new LinkedHashMap<>(construtor.internos);
+        this.ordem = List.copyOf(construtor.campos.keySet());
+    }
+
+    /**
+     * @param entidade entidade e alias, como {@code "ItemCardapio i"}
+     * @param id       expressão do id, usada no cursor e na ordenação
+     * @param versao   expressão do {@code @Version}; {@code null} faz o ETag cobrir os valores dos campos
+     */
+    public static Construtor de(String entidade, String id, String versao) {
+        return new Construtor(entidade, id, versao);
+    }
+
+    /** Valida a lista separada por vírgula contra os campos aceitos; a resposta segue a ordem do DTO. */
+    public Selecao selecionar(String fields) {
+        List<String> pedidos = fields == null ? List.of()
+                : Arrays.stream(fields.split(",")).map(String::trim).filter(c -> !c.isEmpty()).toList();
+        if (pedidos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo em 'fields'. Aceitos: " + ordem + ".");
+        }
+        for (String pedido : pedidos) {
+            if (!campos.containsKey(pedido)) {
+                throw new IllegalArgumentException(
+                        "Campo '" + pedido + "' não existe em 'fields'. Aceitos: " + ordem + ".");
+            }
+        }
+
+        List<Campo> selecionados = new ArrayList<>();
+        for (String nome : ordem) {
+            if (pedidos.contains(nome)) {
+                selecionados.add(campos.get(nome));
+            }
+        }
+        return new Selecao(this, selecionados);
+    }
+
+    String entidade() {
+        return entidade;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String versao() {
+        return versao;
+    }
+
+    String juncao() {
+        return juncao;
+    }
+
+    Map<String, String> internos() {
+        return internos;
+    }
+
+    record Campo(String nome, List<String> expressoes, boolean daJuncao, Function<Object[], Object> montar) {}
+
+    public static final class Construtor {
+
+        private final String entidade;
+        private final String id;
+        private final String versao;
+        private String juncao;
+        private final Map<String, Campo> campos = new LinkedHashMap<>();
+        private final Map<String, String> internos = new LinkedHashMap<>();
+
+        private Construtor(String entidade, String id, String versao) {
+            this.entidade = entidade;
+            this.id = id;
+            this.versao = versao;
+        }
+
+        /** Junção feita só quando algum {@link #campoDaJuncao} é pedido, como {@code "left join i.restaurante r"}. */
+        public Construtor juncao(String juncao) {
+            this.juncao = juncao;
+            return this;
+        }
+
+        public Construtor campo(String nome, String expressao) {
+            return adicionar(new Campo(nome, List.of(expressao), false, valores -> valores[0]));
+        }
+
+        public Construtor campoDaJuncao(String nome, String expressao) {
+            return adicionar(new Campo(nome, List.of(expressao), true, valores -> valores[0]));
+        }
+
+        /** Campo montado de várias colunas da junção, como um DTO aninhado. */
+        public Construtor campoDaJuncao(String nome, Function<Object[], Object> montar, String... expressoes) {
+            return adicionar(new Campo(nome, List.of(expressoes), true, montar));
+        }
+
+        /** Coluna sempre lida e fora do JSON, para regras do serviço (ex.: checar o dono do registro). */
+        public Construtor interno(String nome, String expressao) {
+            internos.put(nome, expressao);
+            return this;
+        }
+
+        public Projecao construir() {
+            return new Projecao(this);
+        }
+
+        private Construtor adicionar(Campo campo) {
+            if (campo.daJuncao() && juncao == null) {
+                throw new IllegalStateException("Campo '" + campo.nome() + "' usa uma junção não declarada");
+            }
+            campos.put(campo.nome(), campo);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.techchallenge.configuration.campos;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.techchallenge.configuration.etag.Versionado;
+
+import java.util.Map;
+
+/** Registro com só os campos pedidos em {@code ?fields=}; vira no JSON apenas o mapa {@code campos}. */
+public record RegistroParcial(long id, long hashVersao, @JsonValue Map<String, Object> campos,
+                              Map<String, Object> internos) implements Versionado {
+
+    public Object interno(String nome) {
+        return internos.get(nome);
+    }
+}
@@ -0,0 +1,102 @@
+package com.techchallenge.configuration.campos;
+
+import com.techchallenge.configuration.etag.Etags;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** Campos validados de um {@code ?fields=} e a consulta JPQL que traz só eles. */
+public final class Selecao {
+
+    private final Projecao projecao;
+    private final List<Projecao.Campo> campos;
+    private final String select;
+    private final String chave;
+    private final int colunasFixas;
+
+    Selecao(Projecao projecao, List<Projecao.Campo> campos) {
+        this.projecao = projecao;
+        this.campos = campos;
+
+        List<String> colunas = new ArrayList<>();
+        colunas.add(projecao.id());
+        if (projecao.versao() != null) {
+            colunas.add(projecao.versao());
+        }
+        colunas.addAll(projecao.internos().values());
+        this.colunasFixas = colunas.size();
+        campos.forEach(campo -> colunas.addAll(campo.expressoes()));
+
+        boolean juncao = campos.stream().anyMatch(Projecao.Campo::daJuncao);
+        this.select = "select " + String.join(", ", colunas) + " from " + projecao.entidade()
+                + (juncao ? " " + projecao.juncao() : "") + " ";
+        this.chave = String.join(",", campos.stream().map(Projecao.Campo::nome).toList());
+    }
+
+    /** Até {@code maximo} registros depois de {@code afterId}, em ordem de id. */
+    public List<RegistroParcial> pagina(EntityManager entityManager, long afterId, int maximo) {
+        return entityManager.createQuery(jpql("where " + projecao.id() + " > :afterId order by " + projecao.id()),
+                        Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(maximo)
+                .getResultStream()
+                .map(this::montar)
+                .toList();
+    }
+
+    public List<RegistroParcial> todos(EntityManager entityManager) {
+        return entityManager.createQuery(jpql("order by " + projecao.id()), Object[].class)
+                .getResultStream()
+                .map(this::montar)
+                .toList();
+    }
+
+    public Optional<RegistroParcial> porId(EntityManager entityManager, Long id) {
+        return entityManager.createQuery(jpql("where " + projecao.id() + " = :id"), Object[].class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(this::montar);
+    }
+
+    String jpql(String resto) {
+        return select + resto;
+    }
+
+    RegistroParcial montar(Object[] linha) {
+        long id = ((Number) linha[0]).longValue();
+
+        Map<String, Object> internos = new LinkedHashMap<>();
+        int coluna = projecao.versao() != null ? 2 : 1;
+        for (String interno : projecao.internos().keySet()) {
+            internos.put(interno, linha[coluna++]);
+        }
+
+        // Versão cobre as colunas da própria entidade; o que vem da junção entra no hash pelo valor
+        List<Object> partes = new ArrayList<>();
+        partes.add(chave);
+        partes.add(id);
+        if (projecao.versao() != null) {
+            partes.add(linha[1]);
+        }
+
+        Map<String, Object> valores = new LinkedHashMap<>();
+        coluna = colunasFixas;
+        for (Projecao.Campo campo : campos) {
+            int quantidade = campo.expressoes().size();
+            Object valor = campo.montar().apply(Arrays.copyOfRange(linha, coluna, coluna + quantidade));
+            coluna += quantidade;
+            valores.put(campo.nome(), valor);
+            if (campo.daJuncao() || projecao.versao() == null) {
+                partes.add(valor);
+            }
+        }
+
+        return new RegistroParcial(id, Etags.hash(partes.toArray()), valores, internos);
+    }
+}
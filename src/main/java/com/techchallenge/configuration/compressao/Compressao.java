@@ -0,0 +1,44 @@
+package com.techchallenge.configuration.compressao;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip e negociação de {@code Accept-Encoding}. Brotli e zstd não têm implementação no JDK e ficam a cargo de um
+ * proxy na frente, se houver; aqui só gzip.
+ */
+public final class Compressao {
+
+    public static final String GZIP = "gzip";
+
+    private Compressao() {
+    }
+
+    public static byte[] gzip(byte[] conteudo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(conteudo.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(conteudo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    /** Se o cliente aceita gzip; {@code gzip;q=0} recusa explicitamente. */
+    public static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] partes = codificacao.split(";");
+            String nome = partes[0].trim();
+            if (nome.equals(GZIP) || nome.equals("*")) {
+                return partes.length == 1 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,130 @@
+package com.techchallenge.configuration.compressao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Respostas JSON com ETag forte (listagens e buscas por ID) saem de um cache de corpos já serializados e, acima de
+ * {@code app.compressao.minimoBytes}, já em gzip, com chave no ETag e na URL: a mesma versão dos dados não passa de
+ * novo pelo Jackson nem pelo gzip. O ETag identifica a versão, então a entrada nunca fica velha; só sai por tamanho.
+ * O resto (exportações, respostas sem ETag) fica com a compressão do Tomcat, que não mexe em respostas com ETag
+ * forte nem em quem já tem {@code Content-Encoding}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.compressao.habilitada", havingValue = "true", matchIfMissing = true)
+public class CompressaoRespostas implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final int minimoBytes;
+    private final Cache<String, Corpo> cache;
+
+    public CompressaoRespostas(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.compressao.minimoBytes:1024}") int minimoBytes,
+                               @Value("${app.compressao.cacheMaximoBytes:16777216}") long cacheMaximoBytes) {
+        this.objectMapper = objectMapper;
+        this.minimoBytes = minimoBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaximoBytes)
+                .weigher((String chave, Corpo corpo) -> chave.length() + corpo.bytes().length)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "compressao.corpos");
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || body instanceof MappingJacksonValue
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpHeaders headers = response.getHeaders();
+        String etag = headers.getETag();
+        if (etag == null || etag.startsWith("W/")
+                || !HttpMethod.GET.matches(httpRequest.getMethod())
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()
+                || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return body;
+        }
+
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (!Compressao.aceitaGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return body;
+        }
+
+        Corpo corpo = corpo(chave(etag, httpRequest), body);
+        headers.setContentType(selectedContentType);
+        headers.setContentLength(corpo.bytes().length);
+        if (corpo.gzip()) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, Compressao.GZIP);
+            // Os bytes mudaram, a representação não: o ETag vira fraco e o If-None-Match continua dando 304
+            headers.setETag("W/" + etag);
+        }
+
+        try {
+            response.getBody().write(corpo.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Corpo já escrito: o conversor do Jackson não roda
+        return null;
+    }
+
+    Corpo corpo(String chave, Object body) {
+        return cache.get(chave, k -> montar(body));
+    }
+
+    private Corpo montar(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return json.length < minimoBytes ? new Corpo(json, false) : new Corpo(Compressao.gzip(json), true);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String chave(String etag, HttpServletRequest request) {
+        String consulta = request.getQueryString();
+        return consulta == null ? etag + ' ' + request.getRequestURI()
+                : etag + ' ' + request.getRequestURI() + '?' + consulta;
+    }
+
+    record Corpo(byte[] bytes, boolean gzip) {}
+}
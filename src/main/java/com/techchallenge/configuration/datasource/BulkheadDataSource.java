@@ -0,0 +1,115 @@
+package com.techchallenge.configuration.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas threads seguram conexão ao mesmo tempo. Com virtual threads o Tomcat não tem mais o teto de
+ * 200 threads: milhares de requisições podem chegar juntas ao pool. Elas esperam aqui, em fila justa e sem prender a
+ * thread carregadora, e desistem depois de {@code esperaMaximaMs} em vez dos 30 s do timeout do Hikari.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final long esperaMaximaMs;
+    private final Timer espera;
+    private final Counter rejeicoes;
+
+    public BulkheadDataSource(DataSource alvo, int permissoes, long esperaMaximaMs, MeterRegistry meterRegistry) {
+        super(alvo);
+        this.permissoes = new Semaphore(permissoes, true);
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.espera = Timer.builder("db.bulkhead.espera")
+                .description("Tempo esperando permissão para pegar conexão")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("db.bulkhead.rejeicoes")
+                .description("Pedidos de conexão recusados por esgotar a espera")
+                .register(meterRegistry);
+
+        Gauge.builder("db.bulkhead.disponiveis", this.permissoes, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("db.bulkhead.aguardando", this.permissoes, Semaphore::getQueueLength).register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberandoAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberandoAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    int disponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    private void adquirir() throws SQLException {
+        long inicio = System.nanoTime();
+        boolean adquiriu;
+        try {
+            adquiriu = permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadSaturadoException("Interrompido esperando conexão com o banco");
+        } finally {
+            espera.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+
+        if (!adquiriu) {
+            rejeicoes.increment();
+            throw new BulkheadSaturadoException(
+                    "Limite de conexões simultâneas com o banco atingido após " + esperaMaximaMs + " ms");
+        }
+    }
+
+    // A permissão volta no primeiro close(); closes repetidos não devolvem de novo
+    private Connection liberandoAoFechar(Connection conexao) {
+        AtomicBoolean fechada = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("close") && fechada.compareAndSet(false, true)) {
+                        try {
+                            return metodo.invoke(conexao, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            permissoes.release();
+                        }
+                    }
+                    try {
+                        return metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
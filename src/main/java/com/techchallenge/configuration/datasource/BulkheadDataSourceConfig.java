@@ -0,0 +1,41 @@
+package com.techchallenge.configuration.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class BulkheadDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadDataSourceConfig.class);
+
+    // static: post-processor precisa existir antes do DataSource; o MeterRegistry só é resolvido ao embrulhar
+    @Bean
+    static BeanPostProcessor bulkheadDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.db.bulkheadPermissoes:10}") int permissoes,
+            @Value("${app.db.bulkheadEsperaMs:2000}") long esperaMaximaMs) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource || permissoes <= 0) {
+                    return bean;
+                }
+
+                log.info("🚧 DataSource '{}' limitado a {} conexões simultâneas (espera máxima {} ms)",
+                        beanName, permissoes, esperaMaximaMs);
+                return new BulkheadDataSource(dataSource, permissoes, esperaMaximaMs,
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.techchallenge.configuration.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+public class BulkheadSaturadoException extends SQLTransientConnectionException {
+
+    public BulkheadSaturadoException(String message) {
+        super(message, "08001");
+    }
+}
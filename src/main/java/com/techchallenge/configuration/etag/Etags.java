@@ -0,0 +1,64 @@
+package com.techchallenge.configuration.etag;
+
+import com.techchallenge.configuration.paginacao.PaginaDTO;
+
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * ETags fortes a partir de {@link Versionado#hashVersao()}. Com o ETag no {@code ResponseEntity}, o Spring compara o
+ * {@code If-None-Match} antes de escrever o corpo e responde 304 sem passar pelo Jackson.
+ */
+public final class Etags {
+
+    private static final long SEMENTE = 0xcbf29ce484222325L;
+    private static final long PRIMO = 0x100000001b3L;
+    private static final char SEPARADOR = '\u001f';
+    private static final char NULO = '\u0000';
+
+    private Etags() {
+    }
+
+    /** FNV-1a de 64 bits sobre o texto de cada parte, com separador para "a", "bc" não colidir com "ab", "c". */
+    public static long hash(Object... partes) {
+        long h = SEMENTE;
+        for (Object parte : partes) {
+            if (parte == null) {
+                h = (h ^ NULO) * PRIMO;
+            } else {
+                String texto = parte.toString();
+                for (int i = 0; i < texto.length(); i++) {
+                    h = (h ^ texto.charAt(i)) * PRIMO;
+                }
+            }
+            h = (h ^ SEPARADOR) * PRIMO;
+        }
+        return h;
+    }
+
+    public static String de(Versionado representacao) {
+        return formatar(representacao.hashVersao());
+    }
+
+    /** Lista na ordem da resposta: o ETag muda se um item muda, entra, sai ou troca de posição. */
+    public static String de(Collection<? extends Versionado> itens) {
+        return formatar(combinar(itens));
+    }
+
+    public static String de(PaginaDTO<? extends Versionado> pagina) {
+        return formatar(hash(combinar(pagina.itens()), pagina.next()));
+    }
+
+    private static long combinar(Collection<? extends Versionado> itens) {
+        long h = SEMENTE ^ itens.size();
+        for (Versionado item : itens) {
+            h = (h ^ item.hashVersao()) * PRIMO;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+
+    private static String formatar(long hash) {
+        return "\"" + HexFormat.of().toHexDigits(hash) + "\"";
+    }
+}
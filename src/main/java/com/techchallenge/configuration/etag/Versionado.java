@@ -0,0 +1,11 @@
+package com.techchallenge.configuration.etag;
+
+/**
+ * Representação cujo ETag sai da versão das entidades que a compõem e dos campos trazidos por junção, sem
+ * serializar o corpo.
+ */
+public interface Versionado {
+
+    /** Hash que muda sempre que a representação muda; monte com {@link Etags#hash(Object...)}. */
+    long hashVersao();
+}
@@ -0,0 +1,54 @@
+package com.techchallenge.configuration.exportacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Escreve um {@link Stream} como NDJSON (um objeto JSON por linha) direto no corpo da resposta,
+ * sem materializar a lista. O primeiro registro é enviado assim que lido do banco.
+ */
+@Component
+public class ExportadorNdjson {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /** Linhas trazidas do banco por ida ao servidor nas consultas de exportação. */
+    public static final String FETCH_SIZE = "500";
+
+    private static final int FLUSH_A_CADA = 500;
+
+    private final ObjectMapper objectMapper;
+
+    public ExportadorNdjson(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public long escrever(Stream<?> registros, OutputStream out) throws IOException {
+        long total = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<?> iterator = registros.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+
+                if (++total == 1 || total % FLUSH_A_CADA == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        out.flush();
+        return total;
+    }
+}
@@ -3,15 +3,19 @@ package com.techchallenge.configuration.handler;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.auth.exception.EmailNotFoundException;
 import com.techchallenge.domain.auth.exception.InvalidPasswordException;
+import com.techchallenge.domain.auth.exception.LoginBloqueadoException;
 import com.techchallenge.domain.usuario.exception.InvalidRoleException;
+import com.techchallenge.domain.usuario.exception.SenhaSobrecarregadaException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -97,6 +101,31 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDTO(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
     }
 
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleSemConexao(CannotCreateTransactionException e) {
+        log.warn("🚧 Sem conexão com o banco: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponseDTO(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Serviço sobrecarregado, tente novamente em instantes"));
+    }
+
+    @ExceptionHandler(SenhaSobrecarregadaException.class)
+    public ResponseEntity<ErrorResponseDTO> handleSenhaSobrecarregada(SenhaSobrecarregadaException e) {
+        log.warn("🚧 Fila de senhas cheia: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponseDTO(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Serviço sobrecarregado, tente novamente em instantes"));
+    }
+
+    @ExceptionHandler(LoginBloqueadoException.class)
+    public ResponseEntity<ErrorResponseDTO> handleLoginBloqueado(LoginBloqueadoException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAposSegundos()))
+                .body(new ErrorResponseDTO(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGeneral(Exception e) {
         log.error("💥 Erro interno não tratado: {}", e.getMessage(), e);
@@ -0,0 +1,48 @@
+package com.techchallenge.configuration.initializer;
+
+import com.techchallenge.domain.cardapio.entity.ItemCardapio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bases criadas quando {@code item_cardapio.id} ainda era IDENTITY já têm IDs gravados; antes de qualquer
+ * insert, avança a linha do gerador em tabela para além do maior ID existente.
+ * Roda quando os singletons ficam prontos, com o schema já criado e antes de o servidor web aceitar requisições;
+ * um CommandLineRunner só rodaria com o Tomcat já atendendo.
+ */
+@Component
+public class SequenciaIdInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenciaIdInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenciaIdInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long maiorId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from item_cardapio", Long.class);
+        long minimo = maiorId + ItemCardapio.ID_ALOCACAO;
+
+        Integer linhas = jdbcTemplate.queryForObject(
+                "select count(*) from " + ItemCardapio.ID_TABELA_SEQUENCIA + " where entidade = ?",
+                Integer.class, ItemCardapio.ID_SEQUENCIA);
+
+        if (linhas == null || linhas == 0) {
+            jdbcTemplate.update(
+                    "insert into " + ItemCardapio.ID_TABELA_SEQUENCIA + " (entidade, proximo_id) values (?, ?)",
+                    ItemCardapio.ID_SEQUENCIA, minimo);
+        } else {
+            jdbcTemplate.update(
+                    "update " + ItemCardapio.ID_TABELA_SEQUENCIA + " set proximo_id = ? where entidade = ? and proximo_id < ?",
+                    minimo, ItemCardapio.ID_SEQUENCIA, minimo);
+        }
+
+        log.info("🔢 Gerador de IDs de item_cardapio alinhado após o ID {}", maiorId);
+    }
+}
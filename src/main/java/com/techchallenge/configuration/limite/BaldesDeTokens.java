@@ -0,0 +1,113 @@
+package com.techchallenge.configuration.limite;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Baldes de tokens sem lock, um por listra: a chave cai numa listra por hash com semente aleatória, então a memória é
+ * fixa mesmo com milhões de IPs ou emails distintos; chaves que colidem dividem o balde. Cada listra é um {@code long}
+ * com o instante da última reposição nos 40 bits altos e o saldo, em milésimos de token, nos 24 baixos, atualizado
+ * por CAS. A reposição é contínua: {@code capacidade} tokens por {@code periodo}.
+ */
+public final class BaldesDeTokens {
+
+    private static final int BITS_SALDO = 24;
+    private static final long MASCARA_SALDO = (1L << BITS_SALDO) - 1;
+    private static final long MILESIMOS = 1000;
+    private static final int CAPACIDADE_MAXIMA = (int) (MASCARA_SALDO / MILESIMOS);
+
+    private final AtomicLongArray listras;
+    private final int mascaraListra;
+    private final long capacidadeMilesimos;
+    private final long periodoMs;
+    private final long semente = new SecureRandom().nextLong();
+    private final LongSupplier relogioMs;
+    private final long origemMs;
+
+    public BaldesDeTokens(int listras, int capacidade, Duration periodo) {
+        this(listras, capacidade, periodo, () -> System.nanoTime() / 1_000_000);
+    }
+
+    BaldesDeTokens(int listras, int capacidade, Duration periodo, LongSupplier relogioMs) {
+        if (capacidade <= 0 || capacidade > CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Capacidade deve estar entre 1 e " + CAPACIDADE_MAXIMA);
+        }
+        if (periodo.toMillis() <= 0) {
+            throw new IllegalArgumentException("Período deve ser positivo");
+        }
+
+        int tamanho = Integer.highestOneBit(Math.max(1, listras - 1)) << 1;
+        this.listras = new AtomicLongArray(tamanho);
+        this.mascaraListra = tamanho - 1;
+        this.capacidadeMilesimos = capacidade * MILESIMOS;
+        this.periodoMs = periodo.toMillis();
+        this.relogioMs = relogioMs;
+        // Instante 0 marca listra nunca usada, que conta como cheia
+        this.origemMs = relogioMs.getAsLong() - 1;
+    }
+
+    /** Gasta um token da chave; {@code false} se o balde está vazio. */
+    public boolean consumir(String chave) {
+        int indice = indice(chave);
+
+        while (true) {
+            long estado = listras.get(indice);
+            long reposto = repor(estado, agora());
+            if ((reposto & MASCARA_SALDO) < MILESIMOS) {
+                return false;
+            }
+            if (listras.compareAndSet(indice, estado, reposto - MILESIMOS)) {
+                return true;
+            }
+        }
+    }
+
+    /** Se há ao menos um token, sem gastar. */
+    public boolean disponivel(String chave) {
+        return (repor(listras.get(indice(chave)), agora()) & MASCARA_SALDO) >= MILESIMOS;
+    }
+
+    /** Milissegundos até a chave ter um token de novo; 0 se já tem. */
+    public long esperaMs(String chave) {
+        long falta = MILESIMOS - (repor(listras.get(indice(chave)), agora()) & MASCARA_SALDO);
+        return falta <= 0 ? 0 : (falta * periodoMs + capacidadeMilesimos - 1) / capacidadeMilesimos;
+    }
+
+    // Estado com o saldo reposto até agora. O instante só avança o tempo que virou token: com tentativas a poucos ms
+    // uma da outra, a fração arredondada para baixo não se perde e o balde continua enchendo
+    private long repor(long estado, long agora) {
+        long ultimo = estado >>> BITS_SALDO;
+        long decorrido = agora - ultimo;
+        if (ultimo == 0 || decorrido >= periodoMs) {
+            return agora << BITS_SALDO | capacidadeMilesimos;
+        }
+        if (decorrido <= 0) {
+            return estado;
+        }
+
+        long reposto = decorrido * capacidadeMilesimos / periodoMs;
+        long saldo = (estado & MASCARA_SALDO) + reposto;
+        if (saldo >= capacidadeMilesimos) {
+            return agora << BITS_SALDO | capacidadeMilesimos;
+        }
+        long usado = (reposto * periodoMs + capacidadeMilesimos - 1) / capacidadeMilesimos;
+        return (ultimo + usado) << BITS_SALDO | saldo;
+    }
+
+    private long agora() {
+        return relogioMs.getAsLong() - origemMs;
+    }
+
+    private int indice(String chave) {
+        long h = semente;
+        for (int i = 0; i < chave.length(); i++) {
+            h = (h ^ chave.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mascaraListra;
+    }
+}
@@ -0,0 +1,16 @@
+package com.techchallenge.configuration.paginacao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de resultados ordenada por ID")
+public record PaginaDTO<T>(
+
+        @Schema(description = "Itens da página")
+        List<T> itens,
+
+        @Schema(description = "Cursor opaco da próxima página; ausente quando não há mais itens", example = "MTA")
+        String next
+
+) {}
@@ -0,0 +1,76 @@
+package com.techchallenge.configuration.paginacao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Paginação por cursor (keyset) sobre o ID: cada página busca {@code id > cursor order by id limit n + 1},
+ * então páginas profundas custam o mesmo que a primeira.
+ */
+@Component
+public class Paginacao {
+
+    private final int limitePadrao;
+    private final int limiteMaximo;
+    private final int limiteListagemCompleta;
+
+    public Paginacao(@Value("${app.paginacao.limitePadrao:50}") int limitePadrao,
+                     @Value("${app.paginacao.limiteMaximo:500}") int limiteMaximo,
+                     @Value("${app.paginacao.limiteListagemCompleta:1000}") int limiteListagemCompleta) {
+        this.limitePadrao = limitePadrao;
+        this.limiteMaximo = limiteMaximo;
+        this.limiteListagemCompleta = limiteListagemCompleta;
+    }
+
+    public int resolverLimite(Integer limit) {
+        if (limit == null) {
+            return limitePadrao;
+        }
+        if (limit < 1 || limit > limiteMaximo) {
+            throw new IllegalArgumentException("O parâmetro 'limit' deve estar entre 1 e " + limiteMaximo + ".");
+        }
+        return limit;
+    }
+
+    public long resolverCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    public <T> PaginaDTO<T> montar(List<T> linhas, int limite, ToLongFunction<T> id) {
+        if (linhas.size() <= limite) {
+            return new PaginaDTO<>(linhas, null);
+        }
+
+        List<T> itens = linhas.subList(0, limite);
+        return new PaginaDTO<>(List.copyOf(itens), codificar(id.applyAsLong(itens.get(limite - 1))));
+    }
+
+    public int limiteListagemCompleta() {
+        return limiteListagemCompleta;
+    }
+
+    public <T> List<T> validarListagemCompleta(List<T> linhas) {
+        if (linhas.size() > limiteListagemCompleta) {
+            throw new IllegalArgumentException("A listagem completa excede " + limiteListagemCompleta
+                    + " registros. Use a paginação com 'limit' e 'cursor'.");
+        }
+        return linhas;
+    }
+
+    private static String codificar(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,167 @@
+package com.techchallenge.domain.auth.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Única declaração das rotas públicas, usada pelo {@link SecurityConfig} e pelo
+ * {@link com.techchallenge.domain.auth.filter.AuthFilter}. As regras viram na subida uma trie com as cadeias sem
+ * bifurcação comprimidas numa aresta só e os métodos permitidos em máscara de bits; classificar uma requisição é uma
+ * passada pelo caminho, sem alocar.
+ * Rota de prefixo vale para o próprio caminho e para o que vier depois de uma {@code /}, como {@code /x/**}.
+ */
+@Component
+public class PoliticaRotas implements RequestMatcher {
+
+    public enum Acesso { PUBLICO, AUTENTICADO }
+
+    private static final String[] METODOS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+    private static final int OUTRO_METODO = 1 << METODOS.length;
+    private static final int TODOS_METODOS = (OUTRO_METODO << 1) - 1;
+
+    private static final List<Rota> ROTAS = List.of(
+            Rota.prefixo("/swagger-ui"),
+            Rota.exata("/swagger-ui.html"),
+            Rota.prefixo("/v3/api-docs"),
+            Rota.prefixo("/swagger-resources"),
+            Rota.prefixo("/webjars"),
+            Rota.exata("/v1/api/auth/login"),
+            Rota.exata("/v1/api/auth/refresh"),
+            Rota.exata("/v1/api/auth/logout"),
+            Rota.exata("/v1/api/usuarios/registrar", "POST")
+    );
+
+    private final No raiz = new No();
+
+    public PoliticaRotas() {
+        this(ROTAS);
+    }
+
+    PoliticaRotas(List<Rota> rotas) {
+        for (Rota rota : rotas) {
+            No no = raiz;
+            for (int i = 0; i < rota.caminho().length(); i++) {
+                no = no.filhoOuNovo(rota.caminho().charAt(i));
+            }
+            if (rota.prefixo()) {
+                no.prefixo |= rota.metodos();
+            } else {
+                no.exata |= rota.metodos();
+            }
+        }
+        raiz.comprimir();
+    }
+
+    public Acesso classificar(String metodo, String caminho) {
+        int bit = bit(metodo);
+        No no = raiz;
+        int i = 0;
+
+        while (i < caminho.length()) {
+            char c = caminho.charAt(i);
+            if (c == '/' && (no.prefixo & bit) != 0) {
+                return Acesso.PUBLICO;
+            }
+
+            int aresta = no.aresta(c);
+            if (aresta < 0) {
+                return Acesso.AUTENTICADO;
+            }
+            String rotulo = no.rotulos[aresta];
+            if (!caminho.regionMatches(i, rotulo, 0, rotulo.length())) {
+                return Acesso.AUTENTICADO;
+            }
+            i += rotulo.length();
+            no = no.filhos[aresta];
+        }
+
+        return ((no.exata | no.prefixo) & bit) != 0 ? Acesso.PUBLICO : Acesso.AUTENTICADO;
+    }
+
+    public boolean publica(HttpServletRequest request) {
+        return classificar(request.getMethod(), request.getRequestURI()) == Acesso.PUBLICO;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return publica(request);
+    }
+
+    record Rota(String caminho, boolean prefixo, int metodos) {
+
+        static Rota exata(String caminho, String... metodos) {
+            return new Rota(caminho, false, mascara(metodos));
+        }
+
+        static Rota prefixo(String caminho, String... metodos) {
+            return new Rota(caminho, true, mascara(metodos));
+        }
+
+        private static int mascara(String... metodos) {
+            return metodos.length == 0 ? TODOS_METODOS
+                    : Arrays.stream(metodos).mapToInt(PoliticaRotas::bit).reduce(0, (a, b) -> a | b);
+        }
+    }
+
+    private static int bit(String metodo) {
+        for (int i = 0; i < METODOS.length; i++) {
+            if (METODOS[i].equals(metodo)) {
+                return 1 << i;
+            }
+        }
+        return OUTRO_METODO;
+    }
+
+    private static final class No {
+
+        private char[] iniciais = new char[0];
+        private String[] rotulos = new String[0];
+        private No[] filhos = new No[0];
+        private int exata;
+        private int prefixo;
+
+        int aresta(char c) {
+            for (int i = 0; i < iniciais.length; i++) {
+                if (iniciais[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        No filhoOuNovo(char c) {
+            int existente = aresta(c);
+            if (existente >= 0) {
+                return filhos[existente];
+            }
+
+            No novo = new No();
+            iniciais = Arrays.copyOf(iniciais, iniciais.length + 1);
+            rotulos = Arrays.copyOf(rotulos, rotulos.length + 1);
+            filhos = Arrays.copyOf(filhos, filhos.length + 1);
+            iniciais[iniciais.length - 1] = c;
+            rotulos[rotulos.length - 1] = String.valueOf(c);
+            filhos[filhos.length - 1] = novo;
+            return novo;
+        }
+
+        // Junta na aresta os nós de um filho só e sem regra: "/v1/api/auth/" vira um salto, não treze
+        void comprimir() {
+            for (int i = 0; i < filhos.length; i++) {
+                StringBuilder rotulo = new StringBuilder(rotulos[i]);
+                No filho = filhos[i];
+                while (filho.filhos.length == 1 && filho.exata == 0 && filho.prefixo == 0) {
+                    rotulo.append(filho.rotulos[0]);
+                    filho = filho.filhos[0];
+                }
+                rotulos[i] = rotulo.toString();
+                filhos[i] = filho;
+                filho.comprimir();
+            }
+        }
+    }
+}
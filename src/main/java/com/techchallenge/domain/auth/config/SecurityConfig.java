@@ -3,9 +3,9 @@ package com.techchallenge.domain.auth.config;
 
 import com.techchallenge.domain.auth.filter.AuthFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,9 +25,12 @@ public class SecurityConfig {
 
     private final AuthFilter authFilter;
 
+    private final PoliticaRotas politicaRotas;
+
     @Autowired
-    public SecurityConfig(AuthFilter authFilter) {
+    public SecurityConfig(AuthFilter authFilter, PoliticaRotas politicaRotas) {
         this.authFilter = authFilter;
+        this.politicaRotas = politicaRotas;
     }
 
 
@@ -38,10 +41,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**",
-                                "/swagger-resources/**","/webjars/**").permitAll()
-                        .requestMatchers("/v1/api/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/v1/api/usuarios/registrar").permitAll()
+                        .requestMatchers(politicaRotas).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class);
@@ -50,6 +50,16 @@ public class SecurityConfig {
     }
 
 
+    // O AuthFilter roda só dentro da cadeia do Spring Security; sem isto o Boot o registra também como filtro do
+    // servlet e cada requisição autenticada passava por ele duas vezes
+    @Bean
+    public FilterRegistrationBean<AuthFilter> authFilterRegistration() {
+        FilterRegistrationBean<AuthFilter> registration = new FilterRegistrationBean<>(authFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -3,7 +3,10 @@ package com.techchallenge.domain.auth.controller;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.auth.dto.LoginRequestDTO;
 import com.techchallenge.domain.auth.dto.LoginResponseDTO;
+import com.techchallenge.domain.auth.dto.RefreshTokenRequestDTO;
+import com.techchallenge.domain.auth.dto.RefreshTokenResponseDTO;
 import com.techchallenge.domain.auth.dto.UserInfoDTO;
+import com.techchallenge.domain.auth.security.UsuarioAutenticado;
 import com.techchallenge.domain.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,12 +17,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/v1/api/auth")
 @Tag(name = "Autenticação", description = "Endpoints de login e geração de token JWT")
@@ -47,7 +54,7 @@ public class AuthController {
                             schema = @Schema(implementation = LoginResponseDTO.class),
                             examples = @ExampleObject(
                                     name = "Login OK",
-                                    value = "{\n  \"token\": \"eyJhbGciOiJIUzI1NiJ9...\",\n  \"refreshToken\": \"\"\n}"
+                                    value = "{\n  \"status\": \"ok\",\n  \"message\": \"logged\",\n  \"token\": \"eyJhbGciOiJIUzI1NiJ9...\",\n  \"refreshToken\": \"q3N0...\"\n}"
                             )
                     )
             ),
@@ -74,10 +81,34 @@ public class AuthController {
                                     value = "{\n  \"status\": 404,\n  \"message\": \"Email não encontrado\"\n}"
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Tentativas demais deste IP ou falhas demais para este email; tentar após o Retry-After",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Bloqueado",
+                                    value = "{\n  \"status\": 429,\n  \"message\": \"Muitas tentativas de login; tente novamente mais tarde\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Fila de verificação de senhas cheia; tentar de novo após o Retry-After",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Sobrecarga",
+                                    value = "{\n  \"status\": 503,\n  \"message\": \"Serviço sobrecarregado, tente novamente em instantes\"\n}"
+                            )
+                    )
             )
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Credenciais de login",
                     required = true,
@@ -90,16 +121,17 @@ public class AuthController {
                             )
                     )
             )
-            @RequestBody LoginRequestDTO dto
+            @RequestBody LoginRequestDTO dto,
+            HttpServletRequest request
     ) {
 
         log.info("🔐 Tentativa de login para o email: {}", dto.email());
 
-        LoginResponseDTO response = authService.login(dto);
-
-        log.info("✅ Login bem-sucedido para: {}", dto.email());
-
-        return ResponseEntity.ok(response);
+        // Resposta assíncrona: a thread do Tomcat é liberada enquanto o BCrypt roda
+        return authService.login(dto, request.getRemoteAddr()).thenApply(response -> {
+            log.info("✅ Login bem-sucedido para: {}", dto.email());
+            return ResponseEntity.ok(response);
+        });
     }
 
     @Operation(
@@ -141,20 +173,75 @@ public class AuthController {
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/me")
     public ResponseEntity<UserInfoDTO> getUserInfo(
-            @RequestHeader("Authorization")
-            @Parameter(
-                    description = "Bearer token JWT",
-                    example = "Bearer eyJhbGciOiJIUzI1NiJ9..."
-            )
-            String token
+            @Parameter(hidden = true) @AuthenticationPrincipal UsuarioAutenticado usuario
     ) {
 
         log.info("👤 Solicitando informações do usuário autenticado");
 
-        UserInfoDTO info = authService.getUserInfo(token);
+        UserInfoDTO info = authService.getUserInfo(usuario);
 
         log.info("📌 Dados do usuário retornados com sucesso: {}", info.email());
 
         return ResponseEntity.ok(info);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Renovar tokens",
+            description = "Troca o refresh token por um novo par access + refresh. O refresh enviado deixa de valer; "
+                    + "reenviar um refresh já usado revoga a sessão inteira"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tokens renovados",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RefreshTokenResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Refresh token inválido, expirado, revogado ou reutilizado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Refresh inválido",
+                                    value = "{\n  \"status\": 401,\n  \"message\": \"Refresh token inválido ou expirado\"\n}"
+                            )
+                    )
+            )
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<RefreshTokenResponseDTO> refresh(@RequestBody RefreshTokenRequestDTO dto) {
+
+        log.info("♻️ Solicitando renovação de tokens");
+
+        return ResponseEntity.ok(authService.refreshToken(dto.refreshToken()));
+    }
+
+    @Operation(
+            summary = "Encerrar sessão",
+            description = "Revoga o refresh token e todos os tokens de acesso emitidos na mesma sessão"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Sessão encerrada"),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Refresh token desconhecido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequestDTO dto) {
+
+        authService.logout(dto.refreshToken());
+
+        log.info("🚪 Sessão encerrada");
+
+        return ResponseEntity.noContent().build();
+    }
+}
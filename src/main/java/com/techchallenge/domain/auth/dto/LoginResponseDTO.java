@@ -12,5 +12,8 @@ public record LoginResponseDTO(
         String message,
 
         @Schema(description = "Token JWT gerado")
-        String token
+        String token,
+
+        @Schema(description = "Refresh token opaco, trocado por um novo a cada uso em /v1/api/auth/refresh")
+        String refreshToken
 ) {}
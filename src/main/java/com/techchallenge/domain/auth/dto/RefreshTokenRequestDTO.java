@@ -5,6 +5,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "Requisição para renovar o token JWT")
 public record RefreshTokenRequestDTO(
 
-        @Schema(description = "Token atual a ser renovado")
+        @Schema(description = "Refresh token recebido no login ou na última renovação")
         String refreshToken
 ) {}
@@ -8,6 +8,6 @@ public record RefreshTokenResponseDTO(
         @Schema(description = "Novo token de acesso (JWT)")
         String accessToken,
 
-        @Schema(description = "Novo refresh token caso gere novamente")
+        @Schema(description = "Novo refresh token; o enviado deixa de valer")
         String refreshToken
 ) {}
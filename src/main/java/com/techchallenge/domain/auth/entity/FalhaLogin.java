@@ -0,0 +1,30 @@
+package com.techchallenge.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Falhas de login de um nó numa janela de um minuto, para o limite por email valer somado entre os nós.
+ * O email é guardado só como SHA-256; o id junta nó, janela e chave, então cada nó só escreve as próprias linhas.
+ */
+@Entity
+@Table(name = "falha_login", indexes = @Index(name = "idx_falha_login_janela", columnList = "janela"))
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FalhaLogin {
+
+    @Id
+    @Column(length = 120)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String chave;
+
+    @Column(nullable = false)
+    private long janela;
+
+    @Column(nullable = false)
+    private int tentativas;
+}
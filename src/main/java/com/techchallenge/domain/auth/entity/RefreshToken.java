@@ -0,0 +1,46 @@
+package com.techchallenge.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token opaco. Só o SHA-256 do valor entregue ao cliente é guardado. Cada uso troca o token por um novo
+ * da mesma {@code familia}; apresentar de novo um já usado revoga a família inteira e os access tokens dela.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_familia", columnList = "familia"))
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 36)
+    private String familia;
+
+    @Column(nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false, length = 36)
+    private String accessJti;
+
+    @Column(nullable = false)
+    private LocalDateTime accessExpiraEm;
+
+    @Column(nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(nullable = false)
+    private LocalDateTime expiraEm;
+
+    private LocalDateTime usadoEm;
+
+    private boolean revogado;
+}
@@ -0,0 +1,25 @@
+package com.techchallenge.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "token_revogado", indexes = @Index(name = "idx_token_revogado_revogado_em", columnList = "revogadoEm"))
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenRevogado {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiraEm;
+
+    @Column(nullable = false)
+    private LocalDateTime revogadoEm;
+}
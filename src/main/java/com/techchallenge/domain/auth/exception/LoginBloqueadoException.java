@@ -0,0 +1,15 @@
+package com.techchallenge.domain.auth.exception;
+
+public class LoginBloqueadoException extends RuntimeException {
+
+    private final long retryAposSegundos;
+
+    public LoginBloqueadoException(String message, long retryAposSegundos) {
+        super(message);
+        this.retryAposSegundos = retryAposSegundos;
+    }
+
+    public long getRetryAposSegundos() {
+        return retryAposSegundos;
+    }
+}
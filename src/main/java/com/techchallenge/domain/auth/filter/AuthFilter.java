@@ -1,11 +1,12 @@
 package com.techchallenge.domain.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.domain.auth.config.PoliticaRotas;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
-import io.jsonwebtoken.Claims;
+import com.techchallenge.domain.auth.jwt.TokenRevogados;
+import com.techchallenge.domain.auth.jwt.VerifiedTokenCache;
+import com.techchallenge.domain.auth.jwt.VerifiedTokenCache.TokenAutenticado;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpFilter;
@@ -13,36 +14,33 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.util.Collections;
-import java.util.Set;
 
 @Component
 public class AuthFilter extends HttpFilter {
 
-    @Value("${app.auth.jwtSecret}")
-    private String jwtSecret;
-
     private static final Logger log = LoggerFactory.getLogger(AuthFilter.class);
 
-    private static final Set<String> PUBLIC_PATHS = Set.of(
-            "/v1/api/auth/login",
-            "/swagger-ui",
-            "/v3/api-docs",
-            "/swagger-resources",
-            "/webjars/",
-            "/v1/api/usuarios/registrar"
-    );
-
     private final ObjectMapper mapper = new ObjectMapper();
 
+    private final VerifiedTokenCache tokenCache;
+
+    private final TokenRevogados tokenRevogados;
+
+    private final PoliticaRotas politicaRotas;
+
+    @Autowired
+    public AuthFilter(VerifiedTokenCache tokenCache, TokenRevogados tokenRevogados, PoliticaRotas politicaRotas) {
+        this.tokenCache = tokenCache;
+        this.tokenRevogados = tokenRevogados;
+        this.politicaRotas = politicaRotas;
+    }
+
     @Override
     protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -58,7 +56,7 @@ public class AuthFilter extends HttpFilter {
             return;
         }
 
-        if (isPublic(path)) {
+        if (politicaRotas.classificar(method, path) == PoliticaRotas.Acesso.PUBLICO) {
             chain.doFilter(request, response);
             return;
         }
@@ -73,28 +71,17 @@ public class AuthFilter extends HttpFilter {
         String token = authHeader.substring(7);
 
         try {
-            Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String email = claims.getSubject();
-            request.setAttribute("email", email);
+            TokenAutenticado autenticado = tokenCache.autenticar(token);
 
-            String role = claims.get("role", String.class);
-            request.setAttribute("role", role);
+            if (tokenRevogados.revogado(autenticado.jti())) {
+                sendUnauthorized(response, "Token revogado. Faça login novamente.");
+                return;
+            }
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            email,
-                            token,
-                            Collections.singleton(() -> "ROLE_" + role)
-                    );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // Só a autenticação vem do cache; o contexto é da requisição, e quem o alterar não afeta as outras
+            SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+            contexto.setAuthentication(autenticado.authentication());
+            SecurityContextHolder.setContext(contexto);
 
             chain.doFilter(request, response);
 
@@ -108,10 +95,6 @@ public class AuthFilter extends HttpFilter {
         }
     }
 
-    private boolean isPublic(String path) {
-        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
-    }
-
     private void sendUnauthorized(HttpServletResponse response, String message) throws IOException {
         log.warn("🔒 Acesso negado: {}", message);
 
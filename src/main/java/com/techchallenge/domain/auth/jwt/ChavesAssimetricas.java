@@ -0,0 +1,215 @@
+package com.techchallenge.domain.auth.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Chaves EC (ES256) lidas de um diretório local: {@code <kid>.pub} com a pública (PEM X.509) e, nos nós que emitem,
+ * {@code <kid>.key} com a privada (PEM PKCS#8). Assina com o maior {@code kid} que tem privada; verifica qualquer
+ * {@code kid} com pública. Para rotacionar sem derrubar sessões: publicar o {@code .pub} novo em todos os nós, depois
+ * o {@code .key}, e só remover o antigo depois que os tokens dele expirarem.
+ */
+final class ChavesAssimetricas {
+
+    private static final Logger log = LoggerFactory.getLogger(ChavesAssimetricas.class);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int LIMITE_CABECALHOS = 64;
+
+    private final Path diretorio;
+
+    private volatile Conjunto conjunto;
+
+    ChavesAssimetricas(Path diretorio) {
+        this.diretorio = diretorio;
+        this.conjunto = ler(diretorio, 0L);
+        log.info("🔑 Chaves JWT carregadas de {}: {} (assinando com {})",
+                diretorio, conjunto.porKid().keySet(), kidAtivo(conjunto));
+    }
+
+    Chave ativa() {
+        Chave ativa = conjunto.ativa();
+        if (ativa == null) {
+            throw new IllegalStateException("Nenhuma chave privada em " + diretorio + "; este nó só verifica tokens");
+        }
+        return ativa;
+    }
+
+    /** Parser da chave indicada no {@code kid} do token, ou {@code null} se o token não tem {@code kid}. */
+    JwtParser parser(String token) {
+        int ponto = token.indexOf('.');
+        if (ponto <= 0) {
+            throw new MalformedJwtException("Token JWT malformado");
+        }
+
+        // Tokens da mesma chave têm o mesmo cabeçalho: o kid só é decodificado na primeira vez
+        Conjunto atual = conjunto;
+        String cabecalho = token.substring(0, ponto);
+        JwtParser parser = atual.porCabecalho().get(cabecalho);
+        if (parser != null) {
+            return parser;
+        }
+
+        String kid = kid(cabecalho);
+        if (kid == null) {
+            return null;
+        }
+        Chave chave = atual.porKid().get(kid);
+        if (chave == null) {
+            throw new UnsupportedJwtException("Chave JWT desconhecida: " + kid);
+        }
+        if (atual.porCabecalho().size() < LIMITE_CABECALHOS) {
+            atual.porCabecalho().put(cabecalho, chave.parser());
+        }
+        return chave.parser();
+    }
+
+    long versao() {
+        return conjunto.versao();
+    }
+
+    /** Relê o diretório se algum arquivo mudou; um conjunto inválido é descartado e o anterior segue valendo. */
+    synchronized boolean recarregar() {
+        Conjunto anterior = conjunto;
+
+        try {
+            if (anterior.impressao().equals(impressao(diretorio))) {
+                return false;
+            }
+            Conjunto novo = ler(diretorio, anterior.versao() + 1);
+            conjunto = novo;
+            log.info("🔑 Chaves JWT recarregadas: {} (assinando com {})", novo.porKid().keySet(), kidAtivo(novo));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("❌ Chaves JWT em {} inválidas; mantendo as anteriores: {}", diretorio, e.getMessage());
+            return false;
+        }
+    }
+
+    record Chave(String kid, PrivateKey privada, JwtParser parser) {}
+
+    private record Conjunto(Map<String, Chave> porKid, Chave ativa, Map<String, JwtParser> porCabecalho,
+                            String impressao, long versao) {}
+
+    private static Conjunto ler(Path diretorio, long versao) {
+        String impressao = impressao(diretorio);
+        Map<String, PublicKey> publicas = new TreeMap<>();
+        Map<String, PrivateKey> privadas = new HashMap<>();
+
+        for (Path arquivo : arquivos(diretorio)) {
+            String nome = arquivo.getFileName().toString();
+            if (nome.endsWith(".pub")) {
+                publicas.put(nome.substring(0, nome.length() - 4), publica(arquivo));
+            } else if (nome.endsWith(".key")) {
+                privadas.put(nome.substring(0, nome.length() - 4), privada(arquivo));
+            }
+        }
+        if (publicas.isEmpty()) {
+            throw new IllegalStateException("Nenhuma chave pública (.pub) em " + diretorio);
+        }
+
+        Map<String, Chave> porKid = new HashMap<>();
+        Chave ativa = null;
+        for (Map.Entry<String, PublicKey> publica : publicas.entrySet()) {
+            String kid = publica.getKey();
+            JwtParser parser = Jwts.parserBuilder().setSigningKey(publica.getValue()).build();
+            Chave chave = new Chave(kid, privadas.get(kid), parser);
+            porKid.put(kid, chave);
+            if (chave.privada() != null) {
+                ativa = chave;
+            }
+        }
+        privadas.keySet().stream()
+                .filter(kid -> !publicas.containsKey(kid))
+                .forEach(kid -> log.warn("⚠️ Chave privada {} sem {}.pub ignorada", kid, kid));
+
+        return new Conjunto(Map.copyOf(porKid), ativa, new ConcurrentHashMap<>(), impressao, versao);
+    }
+
+    private static String kid(String cabecalho) {
+        try {
+            JsonNode kid = JSON.readTree(Base64.getUrlDecoder().decode(cabecalho)).get("kid");
+            return kid != null && kid.isTextual() ? kid.asText() : null;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new MalformedJwtException("Cabeçalho JWT inválido", e);
+        }
+    }
+
+    private static PublicKey publica(Path arquivo) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(pem(arquivo)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Chave pública EC inválida: " + arquivo, e);
+        }
+    }
+
+    private static PrivateKey privada(Path arquivo) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(pem(arquivo)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Chave privada EC inválida (esperado PKCS#8): " + arquivo, e);
+        }
+    }
+
+    private static byte[] pem(Path arquivo) {
+        try {
+            String base64 = Files.readString(arquivo, StandardCharsets.US_ASCII)
+                    .replaceAll("-----[A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(base64);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String impressao(Path diretorio) {
+        StringBuilder impressao = new StringBuilder();
+        for (Path arquivo : arquivos(diretorio)) {
+            try {
+                impressao.append(arquivo.getFileName()).append(':')
+                        .append(Files.getLastModifiedTime(arquivo).toMillis()).append(':')
+                        .append(Files.size(arquivo)).append(';');
+            } catch (IOException e) {
+                // Arquivo removido durante a leitura: a próxima recarga vê o estado final
+                impressao.append(arquivo.getFileName()).append(":?;");
+            }
+        }
+        return impressao.toString();
+    }
+
+    private static Iterable<Path> arquivos(Path diretorio) {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(Files::isRegularFile).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Diretório de chaves JWT inacessível: " + diretorio, e);
+        }
+    }
+
+    private static String kidAtivo(Conjunto conjunto) {
+        return conjunto.ativa() != null ? conjunto.ativa().kid() : "nenhuma";
+    }
+}
@@ -0,0 +1,212 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Centraliza a chave HMAC e o {@link JwtParser} usados para emitir e validar tokens.
+ * A chave e o parser são construídos uma única vez e trocados atomicamente em {@link #rotacionar(String)};
+ * tokens assinados com o segredo anterior continuam válidos até expirarem. Só o anterior é mantido: duas rotações
+ * dentro de {@code jwtExpirationMs} derrubam os tokens ainda não expirados do segredo de duas rotações atrás.
+ * Com {@code app.auth.jwtSecretArquivo} o segredo vem desse arquivo (ex.: secret montado) e é relido a cada
+ * {@code app.auth.jwtChavesRecargaMs}; mudou o conteúdo, rotaciona sem restart.
+ * Com {@code app.auth.jwtAlgoritmo=ES256} assina com as chaves EC de {@link ChavesAssimetricas}, com {@code kid} no
+ * cabeçalho; o segredo HMAC, se configurado, segue validando os tokens HS256 ainda não expirados.
+ */
+@Component
+public class JwtTokenCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenCodec.class);
+
+    public static final String HS256 = "HS256";
+    public static final String ES256 = "ES256";
+
+    private final long jwtExpirationMs;
+    private final ChavesAssimetricas assimetricas;
+    private final Path arquivoSegredo;
+
+    private volatile Chaves chaves;
+    private String segredoLido;
+
+    public JwtTokenCodec(String jwtSecret, long jwtExpirationMs) {
+        this(jwtSecret, jwtExpirationMs, HS256, "");
+    }
+
+    public JwtTokenCodec(String jwtSecret, long jwtExpirationMs, String algoritmo, String diretorioChaves) {
+        this(jwtSecret, "", jwtExpirationMs, algoritmo, diretorioChaves);
+    }
+
+    @Autowired
+    public JwtTokenCodec(@Value("${app.auth.jwtSecret:}") String jwtSecret,
+                         @Value("${app.auth.jwtSecretArquivo:}") String arquivoSegredo,
+                         @Value("${app.auth.jwtExpirationMs}") long jwtExpirationMs,
+                         @Value("${app.auth.jwtAlgoritmo:HS256}") String algoritmo,
+                         @Value("${app.auth.jwtChaves:}") String diretorioChaves) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.arquivoSegredo = arquivoSegredo.isBlank() ? null : Path.of(arquivoSegredo);
+        String segredo = this.arquivoSegredo != null ? lerSegredo(this.arquivoSegredo) : jwtSecret;
+        this.segredoLido = segredo;
+
+        switch (algoritmo.toUpperCase()) {
+            case HS256 -> {
+                if (segredo.isBlank()) {
+                    throw new IllegalArgumentException(
+                            "app.auth.jwtSecret ou app.auth.jwtSecretArquivo é obrigatório com HS256");
+                }
+                this.assimetricas = null;
+            }
+            case ES256 -> {
+                if (diretorioChaves.isBlank()) {
+                    throw new IllegalArgumentException("app.auth.jwtChaves é obrigatório com ES256");
+                }
+                this.assimetricas = new ChavesAssimetricas(Path.of(diretorioChaves));
+            }
+            default -> throw new IllegalArgumentException("Algoritmo JWT não suportado: " + algoritmo
+                    + " (use " + HS256 + " ou " + ES256 + ")");
+        }
+        this.chaves = new Chaves(segredo.isBlank() ? null : Assinatura.de(segredo), null, 0L);
+    }
+
+    public String gerarToken(String email, String role) {
+        return gerarToken(email, role, null);
+    }
+
+    public String gerarToken(String email, String role, PerfilToken perfil) {
+        return emitir(email, role, perfil).token();
+    }
+
+    public TokenEmitido emitir(String email, String role, PerfilToken perfil) {
+        long agora = System.currentTimeMillis();
+        long expiraEm = agora + jwtExpirationMs;
+        String jti = UUID.randomUUID().toString();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", role);
+        if (perfil != null) {
+            perfil.escrever(claims);
+        }
+
+        JwtBuilder builder = Jwts.builder()
+                .setClaims(claims)
+                .setId(jti)
+                .setSubject(email)
+                .setIssuedAt(new Date(agora))
+                .setExpiration(new Date(expiraEm));
+
+        if (assimetricas != null) {
+            ChavesAssimetricas.Chave chave = assimetricas.ativa();
+            builder.setHeaderParam(JwsHeader.KEY_ID, chave.kid())
+                    .signWith(chave.privada(), SignatureAlgorithm.ES256);
+        } else {
+            builder.signWith(chaves.atual().key(), SignatureAlgorithm.HS256);
+        }
+        String token = builder.compact();
+
+        return new TokenEmitido(token, jti, expiraEm);
+    }
+
+    public Claims validar(String token) {
+        if (assimetricas != null) {
+            JwtParser parser = assimetricas.parser(token);
+            if (parser != null) {
+                return parser.parseClaimsJws(token).getBody();
+            }
+        }
+
+        Chaves snapshot = chaves;
+        if (snapshot.atual() == null) {
+            throw new UnsupportedJwtException("Token sem kid");
+        }
+
+        try {
+            return snapshot.atual().parser().parseClaimsJws(token).getBody();
+        } catch (SignatureException e) {
+            if (snapshot.anterior() == null) {
+                throw e;
+            }
+            return snapshot.anterior().parser().parseClaimsJws(token).getBody();
+        }
+    }
+
+    public long versao() {
+        return chaves.versao() + (assimetricas != null ? assimetricas.versao() : 0L);
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.jwtChavesRecargaMs:60000}",
+            fixedDelayString = "${app.auth.jwtChavesRecargaMs:60000}")
+    public void recarregarChaves() {
+        if (assimetricas != null) {
+            assimetricas.recarregar();
+        }
+        if (arquivoSegredo != null) {
+            recarregarSegredo();
+        }
+    }
+
+    private synchronized void recarregarSegredo() {
+        String segredo;
+        try {
+            segredo = lerSegredo(arquivoSegredo);
+        } catch (IllegalStateException e) {
+            // Arquivo sumido ou ilegível no meio da troca: mantém o segredo atual e tenta na próxima recarga
+            log.warn("⚠ Segredo JWT não relido: {}", e.getMessage());
+            return;
+        }
+        if (!segredo.isBlank() && !segredo.equals(segredoLido)) {
+            rotacionar(segredo);
+        }
+    }
+
+    /** O segredo anterior passa a só validar; o de antes dele é descartado com os tokens que ainda assinava. */
+    public synchronized void rotacionar(String novoSegredo) {
+        Assinatura nova = Assinatura.de(novoSegredo);
+        Chaves anteriores = chaves;
+        chaves = new Chaves(nova, anteriores.atual(), anteriores.versao() + 1);
+        segredoLido = novoSegredo;
+        log.info("🔑 Segredo JWT rotacionado; tokens do segredo anterior seguem válidos até expirar");
+    }
+
+    private static String lerSegredo(Path arquivo) {
+        try {
+            return Files.readString(arquivo, StandardCharsets.UTF_8).strip();
+        } catch (IOException e) {
+            throw new IllegalStateException("Arquivo do segredo JWT inacessível: " + arquivo, e);
+        }
+    }
+
+    private record Chaves(Assinatura atual, Assinatura anterior, long versao) {}
+
+    private record Assinatura(Key key, JwtParser parser) {
+
+        static Assinatura de(String segredo) {
+            Key key = Keys.hmacShaKeyFor(segredo.getBytes(StandardCharsets.UTF_8));
+            JwtParser parser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
+            return new Assinatura(key, parser);
+        }
+    }
+}
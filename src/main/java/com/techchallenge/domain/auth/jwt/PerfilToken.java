@@ -0,0 +1,39 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Map;
+
+/**
+ * Perfil compacto levado no token para o {@code /me} não ir ao banco: id, nome, endereço e a versão do perfil
+ * na emissão. Tokens sem essas claims continuam válidos; só não têm perfil.
+ */
+public record PerfilToken(Long id, String nome, String endereco, long versao) {
+
+    static final String ID = "uid";
+    static final String NOME = "nome";
+    static final String ENDERECO = "end";
+    // Era "pv" com a versão em segundos; o nome novo faz tokens antigos caírem no banco em vez de parecerem atuais
+    static final String VERSAO = "pver";
+
+    public static PerfilToken de(Claims claims) {
+        Number id = claims.get(ID, Number.class);
+        Number versao = claims.get(VERSAO, Number.class);
+        if (id == null || versao == null) {
+            return null;
+        }
+        return new PerfilToken(id.longValue(), claims.get(NOME, String.class), claims.get(ENDERECO, String.class),
+                versao.longValue());
+    }
+
+    void escrever(Map<String, Object> claims) {
+        claims.put(ID, id);
+        claims.put(VERSAO, versao);
+        if (nome != null) {
+            claims.put(NOME, nome);
+        }
+        if (endereco != null) {
+            claims.put(ENDERECO, endereco);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.techchallenge.domain.auth.jwt;
+
+public record TokenEmitido(String token, String jti, long expiraEmMillis) {
+}
@@ -0,0 +1,113 @@
+package com.techchallenge.domain.auth.jwt;
+
+import com.techchallenge.configuration.bloom.FiltroBloom;
+import com.techchallenge.configuration.transacao.AposCommit;
+import com.techchallenge.domain.auth.entity.TokenRevogado;
+import com.techchallenge.domain.auth.repository.TokenRevogadoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code jti} dos access tokens revogados que ainda não expiraram, consultado a cada requisição pelo
+ * {@link com.techchallenge.domain.auth.filter.AuthFilter}. O filtro de Bloom descarta quase todo token válido sem
+ * tocar no mapa; só um possível acerto vai ao conjunto exato. Revogações deste nó entram após o commit; as de outros
+ * nós, pela sincronização periódica da tabela {@code token_revogado}.
+ */
+@Component
+public class TokenRevogados {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevogados.class);
+
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+    private static final double TAXA_FALSO_POSITIVO = 0.001;
+
+    private final TokenRevogadoRepository repository;
+    private final int capacidadeMinima;
+    private final Map<String, LocalDateTime> revogados = new ConcurrentHashMap<>();
+
+    private volatile FiltroBloom filtro;
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public TokenRevogados(TokenRevogadoRepository repository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.auth.revogadosCapacidade:10000}") int capacidadeMinima) {
+        this.repository = repository;
+        this.capacidadeMinima = capacidadeMinima;
+        this.filtro = new FiltroBloom(capacidadeMinima, TAXA_FALSO_POSITIVO);
+
+        Gauge.builder("auth.token.revogados", revogados, Map::size)
+                .description("Access tokens revogados ainda não expirados")
+                .register(meterRegistry);
+    }
+
+    public boolean revogado(String jti) {
+        return jti != null && filtro.talvezContenha(jti) && revogados.containsKey(jti);
+    }
+
+    /** Grava na transação corrente; vale neste nó após o commit. Token já expirado é ignorado. */
+    public void revogar(String jti, LocalDateTime expiraEm) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (!expiraEm.isAfter(agora)) {
+            return;
+        }
+
+        repository.save(new TokenRevogado(jti, expiraEm, agora));
+        AposCommit.executar(() -> aplicar(jti, expiraEm));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.auth.revogacaoSincronizacaoMs:10000}",
+            fixedDelayString = "${app.auth.revogacaoSincronizacaoMs:10000}")
+    public synchronized void sincronizar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        List<TokenRevogado> novos = ultimaSincronizacao == null
+                ? repository.findByExpiraEmAfter(inicio)
+                : repository.findByRevogadoEmGreaterThanEqual(ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO));
+        novos.forEach(token -> aplicar(token.getJti(), token.getExpiraEm()));
+
+        // O Bloom não remove: sem os expirados, remonta a partir do conjunto exato
+        if (revogados.values().removeIf(expiraEm -> expiraEm.isBefore(inicio))) {
+            reconstruir();
+        }
+        ultimaSincronizacao = inicio;
+
+        if (!novos.isEmpty()) {
+            log.info("🔄 Tokens revogados sincronizados: {} novos, {} em memória", novos.size(), revogados.size());
+        }
+    }
+
+    int tamanho() {
+        return revogados.size();
+    }
+
+    // Escritas serializadas: uma adição não pode cair no filtro antigo enquanto o novo é montado
+    private synchronized void aplicar(String jti, LocalDateTime expiraEm) {
+        if (revogados.put(jti, expiraEm) != null) {
+            return;
+        }
+
+        filtro.adicionar(jti);
+        if (revogados.size() > filtro.capacidade()) {
+            reconstruir();
+        }
+    }
+
+    private synchronized void reconstruir() {
+        FiltroBloom novo = new FiltroBloom(Math.max(capacidadeMinima, revogados.size() * 2), TAXA_FALSO_POSITIVO);
+        revogados.keySet().forEach(novo::adicionar);
+        filtro = novo;
+    }
+}
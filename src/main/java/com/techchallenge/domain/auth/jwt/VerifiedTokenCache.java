@@ -0,0 +1,112 @@
+package com.techchallenge.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.techchallenge.domain.auth.security.AutenticacaoJwt;
+import com.techchallenge.domain.auth.security.UsuarioAutenticado;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guarda, pelo segmento de assinatura do token, a autenticação já validada pelo {@link JwtTokenCodec}.
+ * A assinatura cobre cabeçalho e payload (com o {@code jti} aleatório), então identifica o token; no acerto, o
+ * {@code hashCode} do token inteiro confirma que o resto é o mesmo que foi validado. Cada entrada expira no {@code exp}
+ * do próprio token; um acerto evita o parse, a verificação da assinatura e qualquer digest, e reaproveita a
+ * {@link AutenticacaoJwt}, que é imutável. O token inteiro não fica retido no cache.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenCodec tokenCodec;
+    private final Cache<String, TokenAutenticado> cache;
+
+    public VerifiedTokenCache(JwtTokenCodec tokenCodec,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.auth.tokenCacheMaxSize:10000}") long maxSize) {
+        this.tokenCodec = tokenCodec;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpiraNoExp())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.token.cache");
+    }
+
+    public TokenAutenticado autenticar(String token) {
+        String chave = token.substring(token.lastIndexOf('.') + 1);
+        // hashCode de String é vetorizado pela JVM: sai bem mais barato que um digest e não aloca
+        int conteudo = token.hashCode();
+
+        TokenAutenticado autenticado = cache.getIfPresent(chave);
+        if (autenticado != null
+                && autenticado.conteudo() == conteudo
+                && autenticado.versaoChaves() == tokenCodec.versao()) {
+            return autenticado;
+        }
+
+        long versao = tokenCodec.versao();
+        Claims claims = tokenCodec.validar(token);
+
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+
+        long emitidoEm = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        UsuarioAutenticado usuario = new UsuarioAutenticado(email, role, claims.getId(), emitidoEm,
+                claims.getExpiration().getTime(), PerfilToken.de(claims));
+
+        TokenAutenticado novo = new TokenAutenticado(new AutenticacaoJwt(usuario), versao, conteudo);
+        cache.put(chave, novo);
+
+        return novo;
+    }
+
+    long tamanho() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public record TokenAutenticado(AutenticacaoJwt authentication, long versaoChaves, int conteudo) {
+
+        public String email() {
+            return authentication.usuario().email();
+        }
+
+        public String role() {
+            return authentication.usuario().role();
+        }
+
+        public String jti() {
+            return authentication.usuario().jti();
+        }
+
+        public long expiraEmMillis() {
+            return authentication.usuario().expiraEmMillis();
+        }
+    }
+
+    private static class ExpiraNoExp implements Expiry<String, TokenAutenticado> {
+
+        @Override
+        public long expireAfterCreate(String chave, TokenAutenticado valor, long currentTime) {
+            long restanteMs = valor.expiraEmMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(restanteMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenAutenticado valor, long currentTime, long currentDuration) {
+            return expireAfterCreate(chave, valor, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenAutenticado valor, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
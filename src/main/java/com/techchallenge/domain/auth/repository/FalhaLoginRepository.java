@@ -0,0 +1,22 @@
+package com.techchallenge.domain.auth.repository;
+
+import com.techchallenge.domain.auth.entity.FalhaLogin;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FalhaLoginRepository extends JpaRepository<FalhaLogin, String> {
+
+    @Query("select f.chave from FalhaLogin f where f.janela = :janela "
+            + "group by f.chave having sum(f.tentativas) >= :limite")
+    List<String> findChavesNoLimite(@Param("janela") long janela, @Param("limite") long limite);
+
+    @Modifying
+    @Query("delete from FalhaLogin f where f.janela < :janela")
+    int removerAnteriores(@Param("janela") long janela);
+}
@@ -0,0 +1,29 @@
+package com.techchallenge.domain.auth.repository;
+
+import com.techchallenge.domain.auth.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // Dois usos simultâneos do mesmo token se enfileiram aqui: o segundo já o vê usado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RefreshToken r where r.hash = :hash")
+    Optional<RefreshToken> findParaRotacao(@Param("hash") String hash);
+
+    List<RefreshToken> findByFamiliaAndRevogadoFalse(String familia);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiraEm < :agora")
+    int removerExpirados(@Param("agora") LocalDateTime agora);
+}
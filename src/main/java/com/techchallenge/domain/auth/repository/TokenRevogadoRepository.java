@@ -0,0 +1,23 @@
+package com.techchallenge.domain.auth.repository;
+
+import com.techchallenge.domain.auth.entity.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, String> {
+
+    List<TokenRevogado> findByExpiraEmAfter(LocalDateTime agora);
+
+    List<TokenRevogado> findByRevogadoEmGreaterThanEqual(LocalDateTime desde);
+
+    @Modifying
+    @Query("delete from TokenRevogado t where t.expiraEm < :agora")
+    int removerExpirados(@Param("agora") LocalDateTime agora);
+}
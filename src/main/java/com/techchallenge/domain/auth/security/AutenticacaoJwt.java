@@ -0,0 +1,80 @@
+package com.techchallenge.domain.auth.security;
+
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Autenticação imutável de um token já validado, montada uma vez por token e reaproveitada em toda requisição que o
+ * apresentar. As authorities são constantes por {@link UsuarioRole}. O contexto de segurança não é compartilhado:
+ * cada requisição monta o seu e só aponta para esta autenticação. O token não fica retido como credencial.
+ */
+public final class AutenticacaoJwt implements Authentication {
+
+    private static final Map<String, List<GrantedAuthority>> AUTORIDADES = Arrays.stream(UsuarioRole.values())
+            .collect(Collectors.toUnmodifiableMap(UsuarioRole::name,
+                    role -> List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))));
+
+    private final UsuarioAutenticado usuario;
+    private final List<GrantedAuthority> autoridades;
+
+    public AutenticacaoJwt(UsuarioAutenticado usuario) {
+        this.usuario = usuario;
+        this.autoridades = autoridades(usuario.role());
+    }
+
+    public UsuarioAutenticado usuario() {
+        return usuario;
+    }
+
+    static List<GrantedAuthority> autoridades(String role) {
+        List<GrantedAuthority> constantes = role != null ? AUTORIDADES.get(role) : null;
+        return constantes != null ? constantes : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return autoridades;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public UsuarioAutenticado getPrincipal() {
+        return usuario;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        throw new IllegalArgumentException("Autenticação de token é compartilhada entre requisições e não muda");
+    }
+
+    @Override
+    public String getName() {
+        return usuario.email();
+    }
+
+    @Override
+    public String toString() {
+        return "AutenticacaoJwt[" + usuario.email() + ", " + autoridades + "]";
+    }
+}
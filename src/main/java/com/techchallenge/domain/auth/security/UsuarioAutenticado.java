@@ -0,0 +1,18 @@
+package com.techchallenge.domain.auth.security;
+
+import com.techchallenge.domain.auth.jwt.PerfilToken;
+
+import java.security.Principal;
+
+/**
+ * Principal das requisições autenticadas por JWT; o nome é o email, como no {@code sub} do token. Leva também o
+ * perfil do token (ou {@code null}), para o {@code /me} responder sem validar o token de novo.
+ */
+public record UsuarioAutenticado(String email, String role, String jti, long emitidoEmMillis, long expiraEmMillis,
+                                 PerfilToken perfil) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
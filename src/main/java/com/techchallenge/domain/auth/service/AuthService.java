@@ -5,57 +5,85 @@ import com.techchallenge.domain.auth.dto.LoginResponseDTO;
 import com.techchallenge.domain.auth.dto.RefreshTokenResponseDTO;
 import com.techchallenge.domain.auth.dto.UserInfoDTO;
 import com.techchallenge.domain.auth.exception.InvalidPasswordException;
+import com.techchallenge.domain.auth.jwt.JwtTokenCodec;
+import com.techchallenge.domain.auth.jwt.PerfilToken;
+import com.techchallenge.domain.auth.jwt.TokenEmitido;
+import com.techchallenge.domain.auth.security.UsuarioAutenticado;
+import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
 import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.exception.SenhaSobrecarregadaException;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
+import com.techchallenge.domain.usuario.service.UsuarioPerfilVersoes;
 import com.techchallenge.domain.usuario.service.UsuarioService;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
 
     private final UsuarioService usuarioService;
-    private final PasswordEncoder passwordEncoder;
+    private final SenhaExecutor senhaExecutor;
+    private final JwtTokenCodec tokenCodec;
+    private final UsuarioPerfilVersoes perfilVersoes;
+    private final boolean perfilNoToken;
+    private final RefreshTokenService refreshTokenService;
+    private final LimitesLogin limitesLogin;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
-    @Value("${app.auth.jwtSecret}")
-    private String jwtSecret;
-
-    @Value("${app.auth.jwtExpirationMs}")
-    private long jwtExpirationMs;
-
     @Autowired
-    public AuthService(UsuarioService usuarioService, PasswordEncoder passwordEncoder) {
+    public AuthService(UsuarioService usuarioService, SenhaExecutor senhaExecutor, JwtTokenCodec tokenCodec,
+                       UsuarioPerfilVersoes perfilVersoes, RefreshTokenService refreshTokenService,
+                       LimitesLogin limitesLogin,
+                       @Value("${app.auth.perfilNoToken:true}") boolean perfilNoToken) {
         this.usuarioService = usuarioService;
-        this.passwordEncoder = passwordEncoder;
+        this.senhaExecutor = senhaExecutor;
+        this.tokenCodec = tokenCodec;
+        this.perfilVersoes = perfilVersoes;
+        this.perfilNoToken = perfilNoToken;
+        this.refreshTokenService = refreshTokenService;
+        this.limitesLogin = limitesLogin;
     }
 
-    public LoginResponseDTO login(LoginRequestDTO dto) {
+    // O limite de tentativas vem antes de tudo; a busca do usuário roda na thread da requisição e o BCrypt e o token,
+    // no pool de senhas
+    public CompletableFuture<LoginResponseDTO> login(LoginRequestDTO dto, String ip) {
 
         log.info("🔐 Tentativa de login para email: {}", dto.email());
 
-        Usuario usuario = usuarioService.buscarPorEmail(dto.email());
+        limitesLogin.verificar(ip, dto.email());
 
-        if (!passwordEncoder.matches(dto.password(), usuario.getSenha())) {
-            log.warn("❌ Senha inválida para {}", dto.email());
-            throw new InvalidPasswordException("Usuário ou senha inválidos");
+        Usuario usuario;
+        try {
+            usuario = usuarioService.buscarPorEmail(dto.email());
+        } catch (EntityNotFoundException e) {
+            limitesLogin.registrarFalha(dto.email());
+            throw e;
         }
 
-        String token = generateJwtToken(usuario);
+        return senhaExecutor.conferirAsync(dto.password(), usuario.getSenha())
+                .thenApply(senhaOk -> {
+                    if (!senhaOk) {
+                        limitesLogin.registrarFalha(dto.email());
+                        log.warn("❌ Senha inválida para {}", dto.email());
+                        throw new InvalidPasswordException("Usuário ou senha inválidos");
+                    }
 
-        log.info("✅ Login bem sucedido para {}", usuario.getEmail());
+                    atualizarHashSeNecessario(usuario, dto.password());
 
-        return new LoginResponseDTO("ok", "logged", token);
+                    TokenEmitido acesso = generateJwtToken(usuario);
+                    String refresh = refreshTokenService.iniciar(usuario.getId(), acesso);
+
+                    log.info("✅ Login bem sucedido para {}", usuario.getEmail());
+
+                    return new LoginResponseDTO("ok", "logged", acesso.token(), refresh);
+                });
     }
 
     public RefreshTokenResponseDTO refreshToken(String refreshToken) {
@@ -63,83 +91,96 @@ public class AuthService {
         log.info("♻️ Tentando renovar refresh token...");
 
         try {
-            Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-            var claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(refreshToken)
-                    .getBody();
+            RefreshTokenService.Sessao sessao = refreshTokenService.rotacionar(refreshToken, usuarioId -> {
+                UsuarioResponseDTO usuario = usuarioService.buscarPorId(usuarioId);
 
-            String email = claims.getSubject();
-            String role = claims.get("role", String.class);
+                log.info("♻️ Token renovado para usuário {} com role {}", usuario.email(), usuario.role());
 
-            log.info("♻️ Token renovado para usuário {} com role {}", email, role);
+                return generateJwtToken(usuario.email(), usuario.role().name(), new PerfilToken(usuario.id(),
+                        usuario.nome(), usuario.endereco(), UsuarioPerfilVersoes.versao(usuario.versao())));
+            });
 
-            String newAccess = generateJwtToken(email, role);
-            String newRefresh = generateJwtToken(email, role);
+            return new RefreshTokenResponseDTO(sessao.acesso().token(), sessao.refreshToken());
 
-            return new RefreshTokenResponseDTO(newAccess, newRefresh);
-
-        } catch (Exception e) {
-            log.error("⛔ Refresh token inválido: {}", e.getMessage());
+        } catch (EntityNotFoundException e) {
+            log.error("⛔ Refresh token de usuário removido");
             throw new InvalidPasswordException("Refresh token inválido ou expirado");
         }
     }
 
-    public UserInfoDTO getUserInfo(String authHeader) {
+    public void logout(String refreshToken) {
+
+        log.info("🚪 Encerrando sessão...");
+
+        refreshTokenService.encerrar(refreshToken);
+    }
+
+    // O AuthFilter já validou o token; as claims vêm do principal, sem novo parse nem verificação de assinatura
+    public UserInfoDTO getUserInfo(UsuarioAutenticado autenticado) {
 
         log.debug("📌 Solicitando dados do usuário autenticado...");
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.warn("⚠️ Token ausente / malformado");
+        if (autenticado == null) {
+            log.warn("⚠️ Requisição sem usuário autenticado");
             throw new InvalidPasswordException("Token inválido");
         }
 
-        String token = authHeader.substring(7);
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        String email = autenticado.email();
+        String role = autenticado.role();
+        String issuedAt = new Date(autenticado.emitidoEmMillis()).toString();
+        String expiresAt = new Date(autenticado.expiraEmMillis()).toString();
 
-        try {
-            var claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String email = claims.getSubject();
-            String role = claims.get("role", String.class);
-            String issuedAt = claims.getIssuedAt().toString();
-            String expiresAt = claims.getExpiration().toString();
+        PerfilToken perfil = autenticado.perfil();
+        if (perfil != null && perfilVersoes.atual(perfil.id(), perfil.versao())) {
+            log.debug("👤 Info do usuário retornada do token: {} ({})", email, role);
+            return new UserInfoDTO(email, issuedAt, expiresAt, role, perfil.id(), perfil.nome(), perfil.endereco());
+        }
 
-            log.info("👤 Info do usuário retornada: {} ({})", email, role);
+        log.info("👤 Info do usuário retornada: {} ({})", email, role);
 
+        try {
             Usuario usuario = usuarioService.buscarPorEmail(email);
 
             return new UserInfoDTO(email, issuedAt, expiresAt, role, usuario.getId()
                     , usuario.getNome(), usuario.getEndereco());
 
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar token: {}", e.getMessage());
+        } catch (EntityNotFoundException e) {
+            log.error("❌ Usuário do token não existe mais: {}", email);
             throw new InvalidPasswordException("Token inválido");
         }
     }
 
 
-    private String generateJwtToken(Usuario usuario) {
-        return generateJwtToken(usuario.getEmail(), usuario.getRole().name());
+    // Em segundo plano: o login não espera o novo hash, e se o pool estiver cheio fica para o próximo login
+    private void atualizarHashSeNecessario(Usuario usuario, String senha) {
+        String hashAtual = usuario.getSenha();
+        if (!senhaExecutor.precisaAtualizar(hashAtual)) {
+            return;
+        }
+
+        try {
+            senhaExecutor.codificarAsync(senha)
+                    .thenAccept(novoHash -> usuarioService.atualizarHashSenha(usuario.getId(), hashAtual, novoHash))
+                    .exceptionally(e -> {
+                        log.warn("⚠️ Falha ao atualizar hash de senha de {}: {}", usuario.getEmail(), e.getMessage());
+                        return null;
+                    });
+        } catch (SenhaSobrecarregadaException e) {
+            log.debug("🚧 Atualização de hash de {} adiada: {}", usuario.getEmail(), e.getMessage());
+        }
     }
 
-    private String generateJwtToken(String email, String role) {
-        log.debug("🔑 Gerando token JWT para {} com role {}", email, role);
+    private TokenEmitido generateJwtToken(Usuario usuario) {
+        PerfilToken perfil = perfilNoToken
+                ? new PerfilToken(usuario.getId(), usuario.getNome(), usuario.getEndereco(),
+                        UsuarioPerfilVersoes.versao(usuario.getVersao()))
+                : null;
+        return generateJwtToken(usuario.getEmail(), usuario.getRole().name(), perfil);
+    }
 
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private TokenEmitido generateJwtToken(String email, String role, PerfilToken perfil) {
+        log.debug("🔑 Gerando token JWT para {} com role {}", email, role);
 
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        return tokenCodec.emitir(email, role, perfilNoToken ? perfil : null);
     }
 }
@@ -0,0 +1,169 @@
+package com.techchallenge.domain.auth.service;
+
+import com.techchallenge.configuration.limite.BaldesDeTokens;
+import com.techchallenge.domain.auth.entity.FalhaLogin;
+import com.techchallenge.domain.auth.exception.LoginBloqueadoException;
+import com.techchallenge.domain.auth.repository.FalhaLoginRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de tentativas de login, checado antes da busca do usuário e do BCrypt. Por IP, toda tentativa gasta do
+ * balde; por email, só as que falham, para um ataque a uma conta não bloquear quem acerta a senha de outro IP.
+ * Com {@code app.auth.loginLimiteCompartilhado} as falhas por email são somadas entre os nós pela tabela
+ * {@code falha_login}, em janelas de um minuto.
+ * <p>
+ * O IP é o {@code getRemoteAddr()} da requisição. Atrás de proxy ou balanceador ele só é o do cliente porque
+ * {@code server.forward-headers-strategy=native} faz o Tomcat aplicar o X-Forwarded-For de proxies confiáveis;
+ * sem isso todos os clientes caem no balde do proxy, e um atacante bloqueia o login de todo mundo.
+ */
+@Component
+public class LimitesLogin {
+
+    private static final Logger log = LoggerFactory.getLogger(LimitesLogin.class);
+
+    private static final int LISTRAS = 16_384;
+    private static final Duration JANELA = Duration.ofMinutes(1);
+    private static final int MAXIMO_PENDENTES = 10_000;
+    private static final String MENSAGEM = "Muitas tentativas de login; tente novamente mais tarde";
+
+    private final FalhaLoginRepository repository;
+    private final BaldesDeTokens porIp;
+    private final BaldesDeTokens porEmail;
+    private final int emailPorMinuto;
+    private final boolean compartilhado;
+    private final String no = UUID.randomUUID().toString();
+    private final Map<String, AtomicInteger> pendentes = new ConcurrentHashMap<>();
+    private final Counter bloqueiosIp;
+    private final Counter bloqueiosEmail;
+    private final Counter bloqueiosCluster;
+
+    private volatile Set<String> bloqueadosNoCluster = Set.of();
+
+    public LimitesLogin(FalhaLoginRepository repository,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.auth.loginPorIpMinuto:30}") int ipPorMinuto,
+                        @Value("${app.auth.loginPorEmailMinuto:5}") int emailPorMinuto,
+                        @Value("${app.auth.loginLimiteCompartilhado:false}") boolean compartilhado) {
+        this.repository = repository;
+        this.porIp = new BaldesDeTokens(LISTRAS, ipPorMinuto, JANELA);
+        this.porEmail = new BaldesDeTokens(LISTRAS, emailPorMinuto, JANELA);
+        this.emailPorMinuto = emailPorMinuto;
+        this.compartilhado = compartilhado;
+
+        this.bloqueiosIp = bloqueios(meterRegistry, "ip");
+        this.bloqueiosEmail = bloqueios(meterRegistry, "email");
+        this.bloqueiosCluster = bloqueios(meterRegistry, "cluster");
+        Gauge.builder("auth.login.bloqueados.cluster", this, limites -> limites.bloqueadosNoCluster.size())
+                .description("Emails no limite de falhas somando todos os nós")
+                .register(meterRegistry);
+    }
+
+    public void verificar(String ip, String email) {
+        if (ip != null && !porIp.consumir(ip)) {
+            bloqueiosIp.increment();
+            log.warn("🚫 Login bloqueado por excesso de tentativas do IP {}", ip);
+            throw new LoginBloqueadoException(MENSAGEM, segundos(porIp.esperaMs(ip)));
+        }
+
+        String chave = normalizar(email);
+        if (!porEmail.disponivel(chave)) {
+            bloqueiosEmail.increment();
+            log.warn("🚫 Login bloqueado por excesso de falhas para {}", chave);
+            throw new LoginBloqueadoException(MENSAGEM, segundos(porEmail.esperaMs(chave)));
+        }
+
+        Set<String> bloqueados = bloqueadosNoCluster;
+        if (!bloqueados.isEmpty() && bloqueados.contains(digest(chave))) {
+            bloqueiosCluster.increment();
+            throw new LoginBloqueadoException(MENSAGEM, segundos(JANELA.toMillis()
+                    - System.currentTimeMillis() % JANELA.toMillis()));
+        }
+    }
+
+    public void registrarFalha(String email) {
+        String chave = normalizar(email);
+        porEmail.consumir(chave);
+
+        if (compartilhado) {
+            String digest = digest(chave);
+            AtomicInteger contador = pendentes.get(digest);
+            if (contador == null && pendentes.size() < MAXIMO_PENDENTES) {
+                contador = pendentes.computeIfAbsent(digest, k -> new AtomicInteger());
+            }
+            if (contador != null) {
+                contador.incrementAndGet();
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.loginSincronizacaoMs:5000}",
+            fixedDelayString = "${app.auth.loginSincronizacaoMs:5000}")
+    @Transactional
+    public void sincronizar() {
+        if (!compartilhado) {
+            return;
+        }
+
+        long janela = System.currentTimeMillis() / JANELA.toMillis();
+        pendentes.forEach((chave, contador) -> {
+            int tentativas = contador.getAndSet(0);
+            if (tentativas == 0) {
+                pendentes.remove(chave, contador);
+                return;
+            }
+
+            String id = no + ":" + janela + ":" + chave;
+            repository.findById(id).ifPresentOrElse(
+                    falha -> falha.setTentativas(falha.getTentativas() + tentativas),
+                    () -> repository.save(new FalhaLogin(id, chave, janela, tentativas)));
+        });
+        repository.flush();
+
+        bloqueadosNoCluster = Set.copyOf(repository.findChavesNoLimite(janela, emailPorMinuto));
+        repository.removerAnteriores(janela - 1);
+    }
+
+    private static Counter bloqueios(MeterRegistry meterRegistry, String motivo) {
+        return Counter.builder("auth.login.bloqueios")
+                .description("Tentativas de login recusadas pelo limite antes do BCrypt")
+                .tag("motivo", motivo)
+                .register(meterRegistry);
+    }
+
+    private static long segundos(long ms) {
+        return Math.max(1, (ms + 999) / 1000);
+    }
+
+    private static String normalizar(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String digest(String valor) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(valor.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
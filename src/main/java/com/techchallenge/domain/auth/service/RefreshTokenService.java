@@ -0,0 +1,153 @@
+package com.techchallenge.domain.auth.service;
+
+import com.techchallenge.domain.auth.entity.RefreshToken;
+import com.techchallenge.domain.auth.exception.InvalidPasswordException;
+import com.techchallenge.domain.auth.jwt.TokenEmitido;
+import com.techchallenge.domain.auth.jwt.TokenRevogados;
+import com.techchallenge.domain.auth.repository.RefreshTokenRepository;
+import com.techchallenge.domain.auth.repository.TokenRevogadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Refresh tokens opacos com rotação: cada uso devolve um novo par (access + refresh) e marca o anterior como usado.
+ * Um token já usado que volta a aparecer foi copiado; a família inteira é revogada, junto com os access tokens
+ * emitidos nela.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int BYTES_TOKEN = 32;
+
+    private final RefreshTokenRepository repository;
+    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final TokenRevogados tokenRevogados;
+    private final Duration validade;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository repository,
+                               TokenRevogadoRepository tokenRevogadoRepository,
+                               TokenRevogados tokenRevogados,
+                               @Value("${app.auth.refreshExpirationMs:2592000000}") long refreshExpirationMs) {
+        this.repository = repository;
+        this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.tokenRevogados = tokenRevogados;
+        this.validade = Duration.ofMillis(refreshExpirationMs);
+    }
+
+    public record Sessao(TokenEmitido acesso, String refreshToken) {}
+
+    @Transactional
+    public String iniciar(Long usuarioId, TokenEmitido acesso) {
+        return gravar(usuarioId, UUID.randomUUID().toString(), acesso);
+    }
+
+    // Sem rollback no 401: a revogação por reuso precisa ser gravada
+    @Transactional(noRollbackFor = InvalidPasswordException.class)
+    public Sessao rotacionar(String refreshToken, Function<Long, TokenEmitido> emitirAcesso) {
+        RefreshToken atual = buscar(refreshToken);
+        LocalDateTime agora = LocalDateTime.now();
+
+        if (atual.getUsadoEm() != null && !atual.isRevogado()) {
+            log.warn("🚨 Refresh token reutilizado (usuário {}, família {}); sessão revogada",
+                    atual.getUsuarioId(), atual.getFamilia());
+            revogarFamilia(atual.getFamilia());
+            throw invalido();
+        }
+        if (atual.isRevogado() || atual.getExpiraEm().isBefore(agora)) {
+            throw invalido();
+        }
+
+        atual.setUsadoEm(agora);
+        TokenEmitido acesso = emitirAcesso.apply(atual.getUsuarioId());
+
+        return new Sessao(acesso, gravar(atual.getUsuarioId(), atual.getFamilia(), acesso));
+    }
+
+    @Transactional
+    public void encerrar(String refreshToken) {
+        RefreshToken atual = buscar(refreshToken);
+        revogarFamilia(atual.getFamilia());
+
+        log.info("🚪 Sessão encerrada para usuário {}", atual.getUsuarioId());
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.limpezaTokensMs:3600000}",
+            fixedDelayString = "${app.auth.limpezaTokensMs:3600000}")
+    @Transactional
+    public void removerExpirados() {
+        LocalDateTime agora = LocalDateTime.now();
+        int refresh = repository.removerExpirados(agora);
+        int revogados = tokenRevogadoRepository.removerExpirados(agora);
+
+        if (refresh + revogados > 0) {
+            log.info("🧹 Removidos {} refresh tokens e {} revogações expiradas", refresh, revogados);
+        }
+    }
+
+    private RefreshToken buscar(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw invalido();
+        }
+        return repository.findParaRotacao(digest(refreshToken)).orElseThrow(RefreshTokenService::invalido);
+    }
+
+    private void revogarFamilia(String familia) {
+        for (RefreshToken token : repository.findByFamiliaAndRevogadoFalse(familia)) {
+            token.setRevogado(true);
+            tokenRevogados.revogar(token.getAccessJti(), token.getAccessExpiraEm());
+        }
+    }
+
+    private String gravar(Long usuarioId, String familia, TokenEmitido acesso) {
+        byte[] bytes = new byte[BYTES_TOKEN];
+        random.nextBytes(bytes);
+        String valor = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime agora = LocalDateTime.now();
+        repository.save(RefreshToken.builder()
+                .hash(digest(valor))
+                .familia(familia)
+                .usuarioId(usuarioId)
+                .accessJti(acesso.jti())
+                .accessExpiraEm(LocalDateTime.ofInstant(Instant.ofEpochMilli(acesso.expiraEmMillis()),
+                        ZoneId.systemDefault()))
+                .criadoEm(agora)
+                .expiraEm(agora.plus(validade))
+                .build());
+
+        return valor;
+    }
+
+    private static InvalidPasswordException invalido() {
+        return new InvalidPasswordException("Refresh token inválido ou expirado");
+    }
+
+    private static String digest(String valor) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(valor.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.techchallenge.domain.cardapio.controller;
+
+import com.techchallenge.configuration.compressao.Compressao;
+import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Tag(name = "Cardápio", description = "Cardápio completo de um restaurante")
+@SecurityRequirement(name = "bearerAuth")
+public class CardapioController {
+
+    private final CardapioSnapshots snapshots;
+
+    @Autowired
+    public CardapioController(CardapioSnapshots snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    @Operation(summary = "Cardápio do restaurante", description = "Retorna todos os itens do restaurante ordenados por ID, a partir de um snapshot já serializado; responde 304 quando o If-None-Match confere (requer autenticação)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cardápio retornado com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Cardápio",
+                                    value = "[\n  {\n    \"id\": 1,\n    \"nome\": \"Lasanha da Praca\",\n    \"descricao\": \"Lasanha com molho da casa\",\n    \"preco\": 29.90,\n    \"somenteNoRestaurante\": true,\n    \"fotoPath\": \"/imagens/lasanha-praca.jpg\",\n    \"restauranteId\": 1,\n    \"restauranteNome\": \"Cantina da Praca\"\n  }\n]"
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "304", description = "Cardápio não mudou desde o ETag informado"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Restaurante nao encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou invalido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping("/v1/api/restaurantes/{restauranteId}/cardapio")
+    public ResponseEntity<byte[]> cardapio(
+            @Parameter(description = "ID do restaurante", example = "1")
+            @PathVariable Long restauranteId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        CardapioSnapshots.Snapshot snapshot = snapshots.obter(restauranteId);
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (Compressao.aceitaGzip(acceptEncoding)) {
+            return resposta.header(HttpHeaders.CONTENT_ENCODING, Compressao.GZIP).body(snapshot.gzip());
+        }
+        return resposta.body(snapshot.json());
+    }
+}
@@ -1,9 +1,16 @@
 package com.techchallenge.domain.cardapio.controller;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoResultadoDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioUpdateDTO;
+import com.techchallenge.domain.cardapio.service.ItemCardapioImportacaoService;
 import com.techchallenge.domain.cardapio.service.ItemCardapioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,9 +25,13 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -32,13 +43,120 @@ public class ItemCardapioController {
     private static final Logger log = LoggerFactory.getLogger(ItemCardapioController.class);
 
     private final ItemCardapioService service;
+    private final ItemCardapioImportacaoService importacaoService;
 
     @Autowired
-    public ItemCardapioController(ItemCardapioService service) {
+    public ItemCardapioController(ItemCardapioService service, ItemCardapioImportacaoService importacaoService) {
         this.service = service;
+        this.importacaoService = importacaoService;
     }
 
-    @Operation(summary = "Listar itens do cardapio", description = "Retorna todos os itens do cardapio (requer autenticacao)")
+    @Operation(summary = "Listar itens do cardapio (paginado)", description = "Retorna uma página de itens ordenada por ID; use o cursor 'next' para a próxima página (requer autenticacao)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página de itens",
+                                    value = "{\n  \"itens\": [\n    {\n      \"id\": 1,\n      \"nome\": \"Lasanha da Praca\",\n      \"descricao\": \"Lasanha com molho da casa\",\n      \"preco\": 29.90,\n      \"somenteNoRestaurante\": true,\n      \"fotoPath\": \"/imagens/lasanha-praca.jpg\",\n      \"restauranteId\": 1,\n      \"restauranteNome\": \"Cantina da Praca\"\n    }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Limite ou cursor invalido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou invalido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<PaginaDTO<ItemCardapioResponseDTO>> listarPagina(
+            @Parameter(description = "Quantidade de itens por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor) {
+
+        log.info("📌 [GET] Listando página de itens do cardápio");
+        PaginaDTO<ItemCardapioResponseDTO> pagina = service.listarPagina(limit, cursor);
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Listar itens do cardápio com campos escolhidos (paginado)", description = "Como a listagem paginada, mas só com os campos pedidos em 'fields' (id, nome, descricao, preco, somenteNoRestaurante, fotoPath, restauranteId, restauranteNome); o banco lê só essas colunas")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página com campos escolhidos",
+                                    value = "{\n  \"itens\": [\n    { \"id\": 1, \"nome\": \"Lasanha da Praca\", \"preco\": 29.90 }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields', limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<PaginaDTO<RegistroParcial>> listarPaginaParcial(
+            @Parameter(description = "Quantidade de itens por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome,preco")
+            @RequestParam String fields,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) Boolean completo) {
+
+        if (Boolean.TRUE.equals(completo)) {
+            throw new IllegalArgumentException(
+                    "'fields' não vale para a listagem completa; use a paginada, sem completo=true.");
+        }
+
+        log.info("📌 [GET] Listando página de itens do cardápio (campos {})", fields);
+        PaginaDTO<RegistroParcial> pagina = service.listarPaginaParcial(limit, cursor, fields);
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Exportar itens do cardápio", description = "Envia todos os itens do cardápio como NDJSON, lidos do banco em streaming (requer autenticação)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registros enviados um por linha (NDJSON)",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(name = "Exportação", value = "{\"id\":1,\"nome\":\"Lasanha\",\"descricao\":\"Lasanha à bolonhesa\",\"preco\":29.90,\"somenteNoRestaurante\":true,\"fotoPath\":\"/imagens/lasanha.jpg\",\"restauranteId\":1,\"restauranteNome\":\"Cantina\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        log.info("📌 [GET] Exportando itens do cardápio em NDJSON");
+        return ResponseEntity.ok()
+                .contentType(ExportadorNdjson.NDJSON)
+                .body(service::exportar);
+    }
+
+    @Operation(summary = "Listar todos os itens do cardapio", description = "Retorna todos os itens sem paginação; exige completo=true e falha acima do limite configurado (requer autenticacao)")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -57,10 +175,11 @@ public class ItemCardapioController {
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
             )
     })
-    @GetMapping
+    @GetMapping(params = {"completo=true", "!fields"})
     public ResponseEntity<List<ItemCardapioResponseDTO>> listarTodos() {
         log.info("📌 [GET] Listando itens do cardápio");
-        return ResponseEntity.ok(service.listarTodos());
+        List<ItemCardapioResponseDTO> lista = service.listarTodos();
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Buscar item do cardapio por ID", description = "Retorna um item especifico (requer autenticacao)")
@@ -94,7 +213,46 @@ public class ItemCardapioController {
             @PathVariable Long id) {
 
         log.info("🔍 [GET] Buscando item do cardápio ID {}", id);
-        return ResponseEntity.ok(service.buscarPorId(id));
+        ItemCardapioResponseDTO encontrado = service.buscarPorId(id);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
+    }
+
+    @Operation(summary = "Buscar item do cardapio por ID com campos escolhidos", description = "Como a busca por ID, mas só com os campos pedidos em 'fields' (id, nome, descricao, preco, somenteNoRestaurante, fotoPath, restauranteId, restauranteNome)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registro encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "Campos escolhidos", value = "{\n  \"id\": 1,\n  \"nome\": \"Lasanha da Praca\",\n  \"preco\": 29.90\n}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields'",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Registro não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<RegistroParcial> buscarPorIdParcial(
+            @Parameter(description = "ID do item", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome,preco")
+            @RequestParam String fields) {
+
+        log.info("🔍 [GET] Buscando item do cardápio ID {} (campos {})", id, fields);
+        RegistroParcial encontrado = service.buscarPorIdParcial(id, fields);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
     }
 
     @Operation(summary = "Criar item do cardapio", description = "Cria um novo item (requer autenticacao)")
@@ -147,6 +305,95 @@ public class ItemCardapioController {
         return ResponseEntity.ok(service.criar(dto));
     }
 
+    @Operation(summary = "Importar itens do cardapio em lote",
+            description = "Cria vários itens de um restaurante em uma única chamada. Aceita lista JSON, CSV "
+                    + "(cabeçalho nome,descricao,preco,somenteNoRestaurante,fotoPath) ou NDJSON. "
+                    + "Linhas inválidas são devolvidas em 'erros' e as demais são gravadas (requer autenticacao)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importação processada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ItemCardapioImportacaoResultadoDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Resultado",
+                                    value = "{\n  \"recebidos\": 3,\n  \"importados\": 2,\n  \"erros\": [\n    {\n      \"linha\": 3,\n      \"mensagem\": \"Preço deve ser positivo\"\n    }\n  ]\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cabeçalho do CSV inválido ou linhas acima do limite",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Restaurante nao encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou invalido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PostMapping(value = "/restaurante/{restauranteId}/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemCardapioImportacaoResultadoDTO> importar(
+            @Parameter(description = "ID do restaurante", example = "1")
+            @PathVariable Long restauranteId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "Lista",
+                                            value = "[\n  {\n    \"nome\": \"Lasanha da Praca\",\n    \"descricao\": \"Lasanha com molho da casa\",\n    \"preco\": 29.90,\n    \"somenteNoRestaurante\": true,\n    \"fotoPath\": \"/imagens/lasanha-praca.jpg\"\n  }\n]"
+                                    )
+                            ),
+                            @Content(
+                                    mediaType = "text/csv",
+                                    examples = @ExampleObject(
+                                            name = "CSV",
+                                            value = "nome,descricao,preco,somenteNoRestaurante,fotoPath\nLasanha da Praca,\"Lasanha com molho, queijo e manjericão\",29.90,true,/imagens/lasanha-praca.jpg"
+                                    )
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    examples = @ExampleObject(
+                                            name = "NDJSON",
+                                            value = "{\"nome\":\"Lasanha da Praca\",\"descricao\":\"Lasanha com molho da casa\",\"preco\":29.90,\"somenteNoRestaurante\":true,\"fotoPath\":\"/imagens/lasanha-praca.jpg\"}"
+                                    )
+                            )
+                    }
+            )
+            @RequestBody List<ItemCardapioImportacaoDTO> itens) {
+
+        log.info("📥 [POST] Importando {} itens para o restaurante ID {}", itens.size(), restauranteId);
+        return ResponseEntity.ok(importacaoService.importar(restauranteId, itens));
+    }
+
+    @Operation(hidden = true)
+    @PostMapping(value = "/restaurante/{restauranteId}/lote", consumes = "text/csv")
+    public ResponseEntity<ItemCardapioImportacaoResultadoDTO> importarCsv(
+            @PathVariable Long restauranteId,
+            InputStream corpo) throws IOException {
+
+        log.info("📥 [POST] Importando CSV para o restaurante ID {}", restauranteId);
+        return ResponseEntity.ok(importacaoService.importarCsv(restauranteId, corpo));
+    }
+
+    @Operation(hidden = true)
+    @PostMapping(value = "/restaurante/{restauranteId}/lote", consumes = "application/x-ndjson")
+    public ResponseEntity<ItemCardapioImportacaoResultadoDTO> importarNdjson(
+            @PathVariable Long restauranteId,
+            InputStream corpo) throws IOException {
+
+        log.info("📥 [POST] Importando NDJSON para o restaurante ID {}", restauranteId);
+        return ResponseEntity.ok(importacaoService.importarNdjson(restauranteId, corpo));
+    }
+
     @Operation(summary = "Atualizar item do cardapio", description = "Atualiza um item existente (requer autenticacao)")
     @ApiResponses({
             @ApiResponse(
@@ -0,0 +1,34 @@
+package com.techchallenge.domain.cardapio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Linha da importação em lote de itens do cardápio; o restaurante vem da URL")
+public record ItemCardapioImportacaoDTO(
+
+        @Schema(description = "Nome do item", example = "Lasanha")
+        @NotBlank(message = "Nome é obrigatório")
+        String nome,
+
+        @Schema(description = "Descrição do item", example = "Lasanha à bolonhesa com queijo")
+        @NotBlank(message = "Descrição é obrigatória")
+        String descricao,
+
+        @Schema(description = "Preço do item", example = "29.90")
+        @NotNull(message = "Preço é obrigatório")
+        @Positive(message = "Preço deve ser positivo")
+        BigDecimal preco,
+
+        @Schema(description = "Disponível apenas para consumo no restaurante", example = "true")
+        @NotNull(message = "Disponibilidade é obrigatória")
+        Boolean somenteNoRestaurante,
+
+        @Schema(description = "Caminho da foto do prato", example = "/imagens/lasanha.jpg")
+        @NotBlank(message = "Foto é obrigatória")
+        String fotoPath
+
+) {}
@@ -0,0 +1,31 @@
+package com.techchallenge.domain.cardapio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da importação em lote de itens do cardápio")
+public record ItemCardapioImportacaoResultadoDTO(
+
+        @Schema(description = "Linhas recebidas", example = "120")
+        int recebidos,
+
+        @Schema(description = "Itens gravados", example = "118")
+        int importados,
+
+        @Schema(description = "Linhas rejeitadas e o motivo; essas linhas não foram gravadas")
+        List<ErroLinha> erros
+
+) {
+
+    @Schema(description = "Erro de uma linha da importação")
+    public record ErroLinha(
+
+            @Schema(description = "Número da linha no arquivo (ou posição na lista, a partir de 1)", example = "7")
+            int linha,
+
+            @Schema(description = "Motivo da rejeição", example = "Preço deve ser positivo")
+            String mensagem
+
+    ) {}
+}
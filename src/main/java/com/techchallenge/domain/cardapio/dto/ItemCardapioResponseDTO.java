@@ -1,5 +1,8 @@
 package com.techchallenge.domain.cardapio.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.etag.Versionado;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -29,6 +32,16 @@ public record ItemCardapioResponseDTO(
         Long restauranteId,
 
         @Schema(description = "Nome do restaurante")
-        String restauranteNome
+        String restauranteNome,
 
-) {}
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long versao
+
+) implements Versionado {
+
+    @Override
+    public long hashVersao() {
+        return Etags.hash(id, versao, restauranteId, restauranteNome);
+    }
+}
@@ -1,13 +1,19 @@
 package com.techchallenge.domain.cardapio.entity;
 
+import com.techchallenge.configuration.cache.CacheSegundoNivelConfig;
 import com.techchallenge.domain.restaurante.entity.Restaurante;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "item_cardapio")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.ITEM_CARDAPIO)
 @Setter
 @Getter
 @AllArgsConstructor
@@ -15,8 +21,21 @@ import java.math.BigDecimal;
 @Builder
 public class ItemCardapio {
 
+    public static final String ID_TABELA_SEQUENCIA = "id_sequencia";
+    public static final String ID_SEQUENCIA = "item_cardapio";
+    public static final int ID_ALOCACAO = 50;
+
+    // Gerador em tabela com alocação em blocos: sem IDENTITY o Hibernate consegue agrupar os INSERTs em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "item_cardapio_id")
+    @TableGenerator(
+            name = "item_cardapio_id",
+            table = ID_TABELA_SEQUENCIA,
+            pkColumnName = "entidade",
+            valueColumnName = "proximo_id",
+            pkColumnValue = ID_SEQUENCIA,
+            allocationSize = ID_ALOCACAO
+    )
     private Long id;
 
     @Column(nullable = false)
@@ -34,7 +53,12 @@ public class ItemCardapio {
     @Column(nullable = false)
     private String fotoPath;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurante_id", nullable = false)
     private Restaurante restaurante;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long versao;
 }
@@ -1,6 +1,7 @@
 package com.techchallenge.domain.cardapio.factory;
 
 import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioUpdateDTO;
 import com.techchallenge.domain.cardapio.entity.ItemCardapio;
@@ -19,6 +20,17 @@ public class ItemCardapioFactory {
                 .build();
     }
 
+    public static ItemCardapio fromImportacaoDTO(ItemCardapioImportacaoDTO dto, Restaurante restaurante) {
+        return ItemCardapio.builder()
+                .nome(dto.nome())
+                .descricao(dto.descricao())
+                .preco(dto.preco())
+                .somenteNoRestaurante(dto.somenteNoRestaurante())
+                .fotoPath(dto.fotoPath())
+                .restaurante(restaurante)
+                .build();
+    }
+
     public static void applyUpdate(ItemCardapio item, ItemCardapioUpdateDTO dto, Restaurante restaurante) {
         item.setNome(dto.nome());
         item.setDescricao(dto.descricao());
@@ -38,7 +50,8 @@ public class ItemCardapioFactory {
                 item.getSomenteNoRestaurante(),
                 item.getFotoPath(),
                 restaurante != null ? restaurante.getId() : null,
-                restaurante != null ? restaurante.getNome() : null
+                restaurante != null ? restaurante.getNome() : null,
+                item.getVersao()
         );
     }
 }
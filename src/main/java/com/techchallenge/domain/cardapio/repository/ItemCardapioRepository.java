@@ -1,12 +1,78 @@
 package com.techchallenge.domain.cardapio.repository;
 
+import com.techchallenge.configuration.cache.CacheSegundoNivelConfig;
+import com.techchallenge.configuration.campos.Projecao;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
 import com.techchallenge.domain.cardapio.entity.ItemCardapio;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemCardapioRepository extends JpaRepository<ItemCardapio, Long> {
+
+    String SELECT_RESPONSE = "select new com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO("
+            + "i.id, i.nome, i.descricao, i.preco, i.somenteNoRestaurante, i.fotoPath, r.id, r.nome, i.versao) "
+            + "from ItemCardapio i left join i.restaurante r ";
+
+    // Campos aceitos em ?fields=; restauranteId sai da FK, sem junção
+    Projecao PROJECAO = Projecao.de("ItemCardapio i", "i.id", "i.versao")
+            .juncao("left join i.restaurante r")
+            .campo("id", "i.id")
+            .campo("nome", "i.nome")
+            .campo("descricao", "i.descricao")
+            .campo("preco", "i.preco")
+            .campo("somenteNoRestaurante", "i.somenteNoRestaurante")
+            .campo("fotoPath", "i.fotoPath")
+            .campo("restauranteId", "i.restaurante.id")
+            .campoDaJuncao("restauranteNome", "r.nome")
+            .construir();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.ITEM_CARDAPIO_CONSULTAS)
+    })
     Optional<ItemCardapio> findByNomeIgnoreCase(String nome);
+
+    @Override
+    @EntityGraph(attributePaths = "restaurante")
+    List<ItemCardapio> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "restaurante")
+    Optional<ItemCardapio> findById(Long id);
+
+    @Query(SELECT_RESPONSE + "where i.id > :afterId order by i.id")
+    List<ItemCardapioResponseDTO> findResponsePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportadorNdjson.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE + "order by i.id")
+    Stream<ItemCardapioResponseDTO> streamResponse();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.ITEM_CARDAPIO_CONSULTAS)
+    })
+    @Query(SELECT_RESPONSE + "where i.id = :id")
+    Optional<ItemCardapioResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "where r.id = :restauranteId order by i.id")
+    List<ItemCardapioResponseDTO> findResponseByRestauranteId(@Param("restauranteId") Long restauranteId);
+
+    @Query("select i.restaurante.id from ItemCardapio i where i.id = :id")
+    Optional<Long> findRestauranteIdById(@Param("id") Long id);
 }
@@ -0,0 +1,103 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.techchallenge.configuration.compressao.Compressao;
+import com.techchallenge.configuration.transacao.AposCommit;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Cardápio de cada restaurante pronto para a resposta: os itens já serializados em JSON UTF-8, a mesma carga em gzip
+ * e o ETag, calculados uma vez por restaurante. Escritas em itens ou no restaurante descartam o snapshot dele no
+ * commit e a próxima leitura remonta só esse; alterações feitas por outro nó aparecem aqui em até
+ * {@code app.cardapio.snapshotTtlMs}.
+ */
+@Component
+public class CardapioSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(CardapioSnapshots.class);
+
+    private final ItemCardapioRepository repository;
+    private final RestauranteRepository restauranteRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Snapshot> cache;
+
+    public CardapioSnapshots(ItemCardapioRepository repository,
+                             RestauranteRepository restauranteRepository,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cardapio.snapshotMaximoBytes:67108864}") long maximoBytes,
+                             @Value("${app.cardapio.snapshotTtlMs:30000}") long ttlMs) {
+        this.repository = repository;
+        this.restauranteRepository = restauranteRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximoBytes)
+                .weigher((Long id, Snapshot snapshot) -> snapshot.json().length + snapshot.gzip().length)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cardapio.snapshot");
+    }
+
+    /** Snapshot atual do restaurante, montado na primeira leitura depois de uma escrita. */
+    public Snapshot obter(Long restauranteId) {
+        return cache.get(restauranteId, this::montar);
+    }
+
+    /** Descarta o snapshot no commit da transação corrente; leituras até lá ainda veem o anterior. */
+    public void invalidar(Long restauranteId) {
+        if (restauranteId != null) {
+            AposCommit.executar(() -> cache.invalidate(restauranteId));
+        }
+    }
+
+    private Snapshot montar(Long restauranteId) {
+        List<ItemCardapioResponseDTO> itens = repository.findResponseByRestauranteId(restauranteId);
+        if (itens.isEmpty() && !restauranteRepository.existsById(restauranteId)) {
+            throw new EntityNotFoundException("Restaurante não encontrado");
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(itens);
+            Snapshot snapshot = new Snapshot(json, Compressao.gzip(json), etag(json));
+            log.info("📸 Cardápio do restaurante ID {} montado: {} itens, {} bytes ({} em gzip)",
+                    restauranteId, itens.size(), json.length, snapshot.gzip().length);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Fraco: a versão gzip e a sem compressão são a mesma representação
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "W/\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public record Snapshot(byte[] json, byte[] gzip, String etag) {}
+}
@@ -0,0 +1,321 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoResultadoDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoResultadoDTO.ErroLinha;
+import com.techchallenge.domain.cardapio.entity.ItemCardapio;
+import com.techchallenge.domain.cardapio.factory.ItemCardapioFactory;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.restaurante.entity.Restaurante;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Importa o cardápio de um restaurante em lote (lista JSON, CSV ou NDJSON).
+ * O restaurante é resolvido uma vez e os itens são gravados em lotes de {@code hibernate.jdbc.batch_size};
+ * linhas inválidas são devolvidas com o motivo e não impedem a gravação das demais.
+ * CSV e NDJSON são lidos inteiros, com o limite de linhas, antes de abrir a transação: a conexão não fica presa
+ * enquanto o cliente envia o corpo.
+ */
+@Service
+public class ItemCardapioImportacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemCardapioImportacaoService.class);
+
+    private static final List<String> COLUNAS_CSV =
+            List.of("nome", "descricao", "preco", "somentenorestaurante", "fotopath");
+
+    private final ItemCardapioRepository repository;
+    private final RestauranteRepository restauranteRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CardapioSnapshots cardapioSnapshots;
+    private final int tamanhoLote;
+    private final int limiteLinhas;
+    private final TransactionTemplate transacao;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ItemCardapioImportacaoService(ItemCardapioRepository repository,
+                                         RestauranteRepository restauranteRepository,
+                                         Validator validator,
+                                         ObjectMapper objectMapper,
+                                         CardapioSnapshots cardapioSnapshots,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int tamanhoLote,
+                                         @Value("${app.cardapio.importacaoLimiteLinhas:5000}") int limiteLinhas) {
+        this.repository = repository;
+        this.restauranteRepository = restauranteRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.cardapioSnapshots = cardapioSnapshots;
+        this.tamanhoLote = tamanhoLote;
+        this.limiteLinhas = limiteLinhas;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public ItemCardapioImportacaoResultadoDTO importar(Long restauranteId, List<ItemCardapioImportacaoDTO> itens) {
+        List<Linha> linhas = new ArrayList<>(itens.size());
+        for (int i = 0; i < itens.size(); i++) {
+            linhas.add(Linha.valida(i + 1, itens.get(i)));
+        }
+        return gravar(restauranteId, linhas);
+    }
+
+    public ItemCardapioImportacaoResultadoDTO importarCsv(Long restauranteId, InputStream corpo) throws IOException {
+        List<Linha> linhas = lerCsv(corpo);
+        return transacao.execute(status -> gravar(restauranteId, linhas));
+    }
+
+    public ItemCardapioImportacaoResultadoDTO importarNdjson(Long restauranteId, InputStream corpo) throws IOException {
+        List<Linha> linhas = lerNdjson(corpo);
+        return transacao.execute(status -> gravar(restauranteId, linhas));
+    }
+
+    private ItemCardapioImportacaoResultadoDTO gravar(Long restauranteId, List<Linha> linhas) {
+        if (linhas.size() > limiteLinhas) {
+            throw excedeuLimite();
+        }
+
+        log.info("📥 Importando {} itens para o restaurante ID {}", linhas.size(), restauranteId);
+
+        Restaurante restaurante = restauranteRepository.findById(restauranteId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado"));
+
+        List<ErroLinha> erros = new ArrayList<>();
+        List<ItemCardapio> lote = new ArrayList<>(tamanhoLote);
+        int importados = 0;
+
+        for (Linha linha : linhas) {
+            String erro = linha.erro() != null ? linha.erro() : validar(linha.item());
+            if (erro != null) {
+                erros.add(new ErroLinha(linha.numero(), erro));
+                continue;
+            }
+
+            lote.add(ItemCardapioFactory.fromImportacaoDTO(linha.item(), restaurante));
+            if (lote.size() == tamanhoLote) {
+                importados += descarregar(lote);
+            }
+        }
+        importados += descarregar(lote);
+        if (importados > 0) {
+            cardapioSnapshots.invalidar(restauranteId);
+        }
+
+        log.info("📄 {} itens importados, {} linhas rejeitadas", importados, erros.size());
+
+        return new ItemCardapioImportacaoResultadoDTO(linhas.size(), importados, erros);
+    }
+
+    // flush + clear por lote: os INSERTs saem agrupados e o contexto de persistência não cresce com o arquivo
+    private int descarregar(List<ItemCardapio> lote) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        int quantidade = lote.size();
+        repository.saveAll(lote);
+        entityManager.flush();
+        entityManager.clear();
+        lote.clear();
+        return quantidade;
+    }
+
+    private String validar(ItemCardapioImportacaoDTO item) {
+        if (item == null) {
+            return "Linha vazia";
+        }
+        var violacoes = validator.validate(item);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<Linha> lerNdjson(InputStream corpo) throws IOException {
+        List<Linha> linhas = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+
+        String texto;
+        int numero = 0;
+        while ((texto = reader.readLine()) != null) {
+            numero++;
+            if (texto.isBlank()) {
+                continue;
+            }
+            exigirEspaco(linhas);
+            try {
+                linhas.add(Linha.valida(numero, objectMapper.readValue(texto, ItemCardapioImportacaoDTO.class)));
+            } catch (JsonProcessingException e) {
+                linhas.add(Linha.invalida(numero, "JSON inválido: " + e.getOriginalMessage()));
+            }
+        }
+        return linhas;
+    }
+
+    private List<Linha> lerCsv(InputStream corpo) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+
+        String cabecalho = reader.readLine();
+        if (cabecalho == null || cabecalho.isBlank()) {
+            throw new IllegalArgumentException("CSV vazio: a primeira linha deve ser o cabeçalho "
+                    + "nome,descricao,preco,somenteNoRestaurante,fotoPath.");
+        }
+
+        char separador = cabecalho.indexOf(';') >= 0 && cabecalho.indexOf(',') < 0 ? ';' : ',';
+        Map<String, Integer> colunas = mapearColunas(dividirCsv(cabecalho.replace("\uFEFF", ""), separador));
+
+        List<Linha> linhas = new ArrayList<>();
+        String texto;
+        int numero = 1;
+        while ((texto = reader.readLine()) != null) {
+            numero++;
+            if (texto.isBlank()) {
+                continue;
+            }
+            exigirEspaco(linhas);
+            linhas.add(lerLinhaCsv(numero, dividirCsv(texto, separador), colunas));
+        }
+        return linhas;
+    }
+
+    // Para na primeira linha além do limite: um corpo enorme não é lido nem convertido inteiro antes de ser recusado
+    private void exigirEspaco(List<Linha> linhas) {
+        if (linhas.size() == limiteLinhas) {
+            throw excedeuLimite();
+        }
+    }
+
+    private IllegalArgumentException excedeuLimite() {
+        return new IllegalArgumentException("A importação aceita no máximo " + limiteLinhas + " linhas.");
+    }
+
+    private Map<String, Integer> mapearColunas(List<String> cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            colunas.put(cabecalho.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> ausentes = COLUNAS_CSV.stream().filter(c -> !colunas.containsKey(c)).toList();
+        if (!ausentes.isEmpty()) {
+            throw new IllegalArgumentException("Colunas ausentes no cabeçalho do CSV: " + String.join(", ", ausentes));
+        }
+        return colunas;
+    }
+
+    private Linha lerLinhaCsv(int numero, List<String> campos, Map<String, Integer> colunas) {
+        String preco = campo(campos, colunas, "preco");
+        String somenteNoRestaurante = campo(campos, colunas, "somentenorestaurante");
+
+        BigDecimal valor = null;
+        if (preco != null) {
+            try {
+                valor = new BigDecimal(preco.replace(',', '.'));
+            } catch (NumberFormatException e) {
+                return Linha.invalida(numero, "Preço inválido: " + preco);
+            }
+        }
+
+        Boolean somente = null;
+        if (somenteNoRestaurante != null) {
+            somente = switch (somenteNoRestaurante.toLowerCase(Locale.ROOT)) {
+                case "true", "sim", "1" -> true;
+                case "false", "nao", "não", "0" -> false;
+                default -> null;
+            };
+            if (somente == null) {
+                return Linha.invalida(numero, "Disponibilidade inválida: " + somenteNoRestaurante);
+            }
+        }
+
+        return Linha.valida(numero, new ItemCardapioImportacaoDTO(
+                campo(campos, colunas, "nome"),
+                campo(campos, colunas, "descricao"),
+                valor,
+                somente,
+                campo(campos, colunas, "fotopath")));
+    }
+
+    private static String campo(List<String> campos, Map<String, Integer> colunas, String coluna) {
+        int indice = colunas.get(coluna);
+        if (indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    // Campos entre aspas podem conter o separador; aspas internas são escapadas como "" (RFC 4180, sem quebra de linha)
+    static List<String> dividirCsv(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private record Linha(int numero, ItemCardapioImportacaoDTO item, String erro) {
+
+        static Linha valida(int numero, ItemCardapioImportacaoDTO item) {
+            return new Linha(numero, item, null);
+        }
+
+        static Linha invalida(int numero, String erro) {
+            return new Linha(numero, null, erro);
+        }
+    }
+}
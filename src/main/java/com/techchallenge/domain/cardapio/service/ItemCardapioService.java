@@ -1,5 +1,9 @@
 package com.techchallenge.domain.cardapio.service;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
+import com.techchallenge.configuration.paginacao.Paginacao;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioUpdateDTO;
@@ -8,13 +12,20 @@ import com.techchallenge.domain.cardapio.factory.ItemCardapioFactory;
 import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
 import com.techchallenge.domain.restaurante.entity.Restaurante;
 import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class ItemCardapioService {
@@ -23,31 +34,81 @@ public class ItemCardapioService {
 
     private final ItemCardapioRepository repository;
     private final RestauranteRepository restauranteRepository;
+    private final Paginacao paginacao;
+    private final ExportadorNdjson exportador;
+    private final CardapioSnapshots cardapioSnapshots;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public ItemCardapioService(ItemCardapioRepository repository, RestauranteRepository restauranteRepository) {
+    public ItemCardapioService(ItemCardapioRepository repository, RestauranteRepository restauranteRepository,
+                               Paginacao paginacao, ExportadorNdjson exportador,
+                               CardapioSnapshots cardapioSnapshots) {
         this.repository = repository;
         this.restauranteRepository = restauranteRepository;
+        this.paginacao = paginacao;
+        this.exportador = exportador;
+        this.cardapioSnapshots = cardapioSnapshots;
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<ItemCardapioResponseDTO> listarPagina(Integer limit, String cursor) {
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+
+        log.info("📌 Listando página de itens do cardápio após ID {} (limite {})", afterId, limite);
+
+        return paginacao.montar(repository.findResponsePage(afterId, Limit.of(limite + 1)),
+                limite, ItemCardapioResponseDTO::id);
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<RegistroParcial> listarPaginaParcial(Integer limit, String cursor, String fields) {
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+        var selecao = ItemCardapioRepository.PROJECAO.selecionar(fields);
+
+        log.info("📌 Listando página de itens do cardápio após ID {} (limite {}, campos {})", afterId, limite, fields);
+
+        return paginacao.montar(selecao.pagina(entityManager, afterId, limite + 1), limite, RegistroParcial::id);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream out) throws IOException {
+        log.info("📌 Exportando itens do cardápio em NDJSON...");
+
+        try (Stream<ItemCardapioResponseDTO> registros = repository.streamResponse()) {
+            long total = exportador.escrever(registros, out);
+            log.info("📄 {} itens do cardápio exportados.", total);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<ItemCardapioResponseDTO> listarTodos() {
         log.info("📌 Listando itens do cardápio...");
 
-        return repository.findAll()
-                .stream()
-                .map(ItemCardapioFactory::toResponseDTO)
-                .toList();
+        return paginacao.validarListagemCompleta(
+                repository.findResponsePage(0L, Limit.of(paginacao.limiteListagemCompleta() + 1)));
     }
 
+    @Transactional(readOnly = true)
     public ItemCardapioResponseDTO buscarPorId(Long id) {
         log.info("🔍 Buscando item do cardápio ID {}", id);
 
-        ItemCardapio item = repository.findById(id)
+        return repository.findResponseById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Item do cardápio não encontrado"));
+    }
 
-        return ItemCardapioFactory.toResponseDTO(item);
+    @Transactional(readOnly = true)
+    public RegistroParcial buscarPorIdParcial(Long id, String fields) {
+        log.info("🔍 Buscando item do cardápio ID {} (campos {})", id, fields);
+
+        return ItemCardapioRepository.PROJECAO.selecionar(fields).porId(entityManager, id)
+                .orElseThrow(() -> new EntityNotFoundException("Item do cardápio não encontrado"));
     }
 
+    @Transactional
     public ItemCardapioResponseDTO criar(ItemCardapioCreateDTO dto) {
         log.info("📝 Criando item do cardápio: {}", dto.nome());
 
@@ -56,10 +117,12 @@ public class ItemCardapioService {
 
         ItemCardapio novo = ItemCardapioFactory.fromCreateDTO(dto, restaurante);
         ItemCardapio salvo = repository.save(novo);
+        cardapioSnapshots.invalidar(restaurante.getId());
 
         return ItemCardapioFactory.toResponseDTO(salvo);
     }
 
+    @Transactional
     public ItemCardapioResponseDTO atualizar(Long id, ItemCardapioUpdateDTO dto) {
         log.info("✏ Atualizando item do cardápio ID {}", id);
 
@@ -69,19 +132,23 @@ public class ItemCardapioService {
         Restaurante restaurante = restauranteRepository.findById(dto.restauranteId())
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado"));
 
+        Long restauranteAnterior = item.getRestaurante().getId();
         ItemCardapioFactory.applyUpdate(item, dto, restaurante);
         ItemCardapio atualizado = repository.save(item);
+        cardapioSnapshots.invalidar(restauranteAnterior);
+        cardapioSnapshots.invalidar(restaurante.getId());
 
         return ItemCardapioFactory.toResponseDTO(atualizado);
     }
 
+    @Transactional
     public void deletar(Long id) {
         log.info("🗑 Deletando item do cardápio ID {}", id);
 
-        if (!repository.existsById(id)) {
-            throw new EntityNotFoundException("Item do cardápio não encontrado");
-        }
+        Long restauranteId = repository.findRestauranteIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Item do cardápio não encontrado"));
 
         repository.deleteById(id);
+        cardapioSnapshots.invalidar(restauranteId);
     }
 }
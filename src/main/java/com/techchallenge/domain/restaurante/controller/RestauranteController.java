@@ -1,5 +1,9 @@
 package com.techchallenge.domain.restaurante.controller;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
@@ -20,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -38,7 +43,112 @@ public class RestauranteController {
         this.service = service;
     }
 
-    @Operation(summary = "Listar restaurantes", description = "Retorna todos os restaurantes (requer autenticação)")
+    @Operation(summary = "Listar restaurantes (paginado)", description = "Retorna uma página de restaurantes ordenada por ID; use o cursor 'next' para a próxima página (requer autenticação)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página de restaurantes",
+                                    value = "{\n  \"itens\": [\n    {\n      \"id\": 1,\n      \"nome\": \"Cantina da Praca\",\n      \"endereco\": \"Rua Central, 100 - Recife\",\n      \"tipoCozinha\": \"Italiana\",\n      \"horarioFuncionamento\": \"Seg-Dom 11:00-23:00\",\n      \"donoId\": 1,\n      \"donoNome\": \"Administrador\",\n      \"donoEmail\": \"admin2@tech.com\"\n    }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<PaginaDTO<RestauranteResponseDTO>> listarPagina(
+            @Parameter(description = "Quantidade de restaurantes por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor) {
+
+        log.info("📌 [GET] Listando página de restaurantes");
+        PaginaDTO<RestauranteResponseDTO> pagina = service.listarPagina(limit, cursor);
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Listar restaurantes com campos escolhidos (paginado)", description = "Como a listagem paginada, mas só com os campos pedidos em 'fields' (id, nome, endereco, tipoCozinha, horarioFuncionamento, donoId, donoNome, donoEmail); o banco lê só essas colunas")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página com campos escolhidos",
+                                    value = "{\n  \"itens\": [\n    { \"id\": 1, \"nome\": \"Cantina da Praca\", \"tipoCozinha\": \"Italiana\" }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields', limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<PaginaDTO<RegistroParcial>> listarPaginaParcial(
+            @Parameter(description = "Quantidade de restaurantes por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome,tipoCozinha")
+            @RequestParam String fields,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) Boolean completo) {
+
+        if (Boolean.TRUE.equals(completo)) {
+            throw new IllegalArgumentException(
+                    "'fields' não vale para a listagem completa; use a paginada, sem completo=true.");
+        }
+
+        log.info("📌 [GET] Listando página de restaurantes (campos {})", fields);
+        PaginaDTO<RegistroParcial> pagina = service.listarPaginaParcial(limit, cursor, fields);
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Exportar restaurantes", description = "Envia todos os restaurantes como NDJSON, lidos do banco em streaming (requer autenticação)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registros enviados um por linha (NDJSON)",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(name = "Exportação", value = "{\"id\":1,\"nome\":\"Cantina da Praca\",\"endereco\":\"Rua Central, 100 - Recife\",\"tipoCozinha\":\"Italiana\",\"horarioFuncionamento\":\"Seg-Dom 11:00-23:00\",\"donoId\":1,\"donoNome\":\"Administrador\",\"donoEmail\":\"admin2@tech.com\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        log.info("📌 [GET] Exportando restaurantes em NDJSON");
+        return ResponseEntity.ok()
+                .contentType(ExportadorNdjson.NDJSON)
+                .body(service::exportar);
+    }
+
+    @Operation(summary = "Listar todos os restaurantes", description = "Retorna todos os restaurantes sem paginação; exige completo=true e falha acima do limite configurado (requer autenticação)")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -64,10 +174,11 @@ public class RestauranteController {
                     )
             )
     })
-    @GetMapping
+    @GetMapping(params = {"completo=true", "!fields"})
     public ResponseEntity<List<RestauranteResponseDTO>> listarTodos() {
         log.info("📌 [GET] Listando restaurantes");
-        return ResponseEntity.ok(service.listarTodos());
+        List<RestauranteResponseDTO> lista = service.listarTodos();
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Buscar restaurante por ID", description = "Retorna um restaurante específico (requer autenticação)")
@@ -101,7 +212,46 @@ public class RestauranteController {
             @PathVariable Long id) {
 
         log.info("🔍 [GET] Buscando restaurante ID {}", id);
-        return ResponseEntity.ok(service.buscarPorId(id));
+        RestauranteResponseDTO encontrado = service.buscarPorId(id);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
+    }
+
+    @Operation(summary = "Buscar restaurante por ID com campos escolhidos", description = "Como a busca por ID, mas só com os campos pedidos em 'fields' (id, nome, endereco, tipoCozinha, horarioFuncionamento, donoId, donoNome, donoEmail)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registro encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "Campos escolhidos", value = "{\n  \"id\": 1,\n  \"nome\": \"Cantina da Praca\",\n  \"donoNome\": \"Administrador\"\n}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields'",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Registro não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<RegistroParcial> buscarPorIdParcial(
+            @Parameter(description = "ID do restaurante", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome,donoNome")
+            @RequestParam String fields) {
+
+        log.info("🔍 [GET] Buscando restaurante ID {} (campos {})", id, fields);
+        RegistroParcial encontrado = service.buscarPorIdParcial(id, fields);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
     }
 
     @Operation(summary = "Criar restaurante", description = "Cria um novo restaurante (requer autenticação)")
@@ -1,5 +1,8 @@
 package com.techchallenge.domain.restaurante.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.etag.Versionado;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Retorno de dados do restaurante")
@@ -27,6 +30,16 @@ public record RestauranteResponseDTO(
         String donoNome,
 
         @Schema(description = "Email do dono", example = "joao@tech.com")
-        String donoEmail
+        String donoEmail,
 
-) {}
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long versao
+
+) implements Versionado {
+
+    @Override
+    public long hashVersao() {
+        return Etags.hash(id, versao, donoId, donoNome, donoEmail);
+    }
+}
@@ -1,11 +1,17 @@
 package com.techchallenge.domain.restaurante.entity;
 
+import com.techchallenge.configuration.cache.CacheSegundoNivelConfig;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "restaurante")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.RESTAURANTE)
 @Setter
 @Getter
 @AllArgsConstructor
@@ -29,7 +35,12 @@ public class Restaurante {
     @Column(nullable = false)
     private String horarioFuncionamento;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dono_id", nullable = false)
     private Usuario dono;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long versao;
 }
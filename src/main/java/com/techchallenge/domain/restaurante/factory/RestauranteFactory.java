@@ -36,7 +36,8 @@ public class RestauranteFactory {
                 restaurante.getHorarioFuncionamento(),
                 dono != null ? dono.getId() : null,
                 dono != null ? dono.getNome() : null,
-                dono != null ? dono.getEmail() : null
+                dono != null ? dono.getEmail() : null,
+                restaurante.getVersao()
         );
     }
 }
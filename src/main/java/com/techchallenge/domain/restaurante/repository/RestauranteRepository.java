@@ -1,12 +1,72 @@
 package com.techchallenge.domain.restaurante.repository;
 
+import com.techchallenge.configuration.cache.CacheSegundoNivelConfig;
+import com.techchallenge.configuration.campos.Projecao;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
 import com.techchallenge.domain.restaurante.entity.Restaurante;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RestauranteRepository extends JpaRepository<Restaurante, Long> {
+
+    String SELECT_RESPONSE = "select new com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO("
+            + "r.id, r.nome, r.endereco, r.tipoCozinha, r.horarioFuncionamento, d.id, d.nome, d.email, r.versao) "
+            + "from Restaurante r left join r.dono d ";
+
+    // Campos aceitos em ?fields=; donoId sai da FK, sem junção
+    Projecao PROJECAO = Projecao.de("Restaurante r", "r.id", "r.versao")
+            .juncao("left join r.dono d")
+            .campo("id", "r.id")
+            .campo("nome", "r.nome")
+            .campo("endereco", "r.endereco")
+            .campo("tipoCozinha", "r.tipoCozinha")
+            .campo("horarioFuncionamento", "r.horarioFuncionamento")
+            .campo("donoId", "r.dono.id")
+            .campoDaJuncao("donoNome", "d.nome")
+            .campoDaJuncao("donoEmail", "d.email")
+            .construir();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.RESTAURANTE_CONSULTAS)
+    })
     Optional<Restaurante> findByNomeIgnoreCase(String nome);
+
+    @Override
+    @EntityGraph(attributePaths = "dono")
+    List<Restaurante> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "dono")
+    Optional<Restaurante> findById(Long id);
+
+    @Query(SELECT_RESPONSE + "where r.id > :afterId order by r.id")
+    List<RestauranteResponseDTO> findResponsePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportadorNdjson.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE + "order by r.id")
+    Stream<RestauranteResponseDTO> streamResponse();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.RESTAURANTE_CONSULTAS)
+    })
+    @Query(SELECT_RESPONSE + "where r.id = :id")
+    Optional<RestauranteResponseDTO> findResponseById(@Param("id") Long id);
 }
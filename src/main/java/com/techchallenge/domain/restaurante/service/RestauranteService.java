@@ -1,5 +1,10 @@
 package com.techchallenge.domain.restaurante.service;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
 import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
@@ -8,13 +13,20 @@ import com.techchallenge.domain.restaurante.factory.RestauranteFactory;
 import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class RestauranteService {
@@ -23,31 +35,80 @@ public class RestauranteService {
 
     private final RestauranteRepository repository;
     private final UsuarioRepository usuarioRepository;
+    private final Paginacao paginacao;
+    private final ExportadorNdjson exportador;
+    private final CardapioSnapshots cardapioSnapshots;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public RestauranteService(RestauranteRepository repository, UsuarioRepository usuarioRepository) {
+    public RestauranteService(RestauranteRepository repository, UsuarioRepository usuarioRepository,
+                              Paginacao paginacao, ExportadorNdjson exportador, CardapioSnapshots cardapioSnapshots) {
         this.repository = repository;
         this.usuarioRepository = usuarioRepository;
+        this.paginacao = paginacao;
+        this.exportador = exportador;
+        this.cardapioSnapshots = cardapioSnapshots;
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<RestauranteResponseDTO> listarPagina(Integer limit, String cursor) {
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+
+        log.info("📌 Listando página de restaurantes após ID {} (limite {})", afterId, limite);
+
+        return paginacao.montar(repository.findResponsePage(afterId, Limit.of(limite + 1)),
+                limite, RestauranteResponseDTO::id);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<RegistroParcial> listarPaginaParcial(Integer limit, String cursor, String fields) {
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+        var selecao = RestauranteRepository.PROJECAO.selecionar(fields);
+
+        log.info("📌 Listando página de restaurantes após ID {} (limite {}, campos {})", afterId, limite, fields);
+
+        return paginacao.montar(selecao.pagina(entityManager, afterId, limite + 1), limite, RegistroParcial::id);
     }
 
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream out) throws IOException {
+        log.info("📌 Exportando restaurantes em NDJSON...");
+
+        try (Stream<RestauranteResponseDTO> registros = repository.streamResponse()) {
+            long total = exportador.escrever(registros, out);
+            log.info("📄 {} restaurantes exportados.", total);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<RestauranteResponseDTO> listarTodos() {
         log.info("📌 Listando restaurantes...");
 
-        return repository.findAll()
-                .stream()
-                .map(RestauranteFactory::toResponseDTO)
-                .toList();
+        return paginacao.validarListagemCompleta(
+                repository.findResponsePage(0L, Limit.of(paginacao.limiteListagemCompleta() + 1)));
     }
 
+    @Transactional(readOnly = true)
     public RestauranteResponseDTO buscarPorId(Long id) {
         log.info("🔍 Buscando restaurante ID {}", id);
 
-        Restaurante restaurante = repository.findById(id)
+        return repository.findResponseById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado"));
+    }
 
-        return RestauranteFactory.toResponseDTO(restaurante);
+    @Transactional(readOnly = true)
+    public RegistroParcial buscarPorIdParcial(Long id, String fields) {
+        log.info("🔍 Buscando restaurante ID {} (campos {})", id, fields);
+
+        return RestauranteRepository.PROJECAO.selecionar(fields).porId(entityManager, id)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado"));
     }
 
+    @Transactional
     public RestauranteResponseDTO criar(RestauranteCreateDTO dto) {
         log.info("📝 Criando restaurante: {}", dto.nome());
 
@@ -60,6 +121,7 @@ public class RestauranteService {
         return RestauranteFactory.toResponseDTO(salvo);
     }
 
+    @Transactional
     public RestauranteResponseDTO atualizar(Long id, RestauranteUpdateDTO dto) {
         log.info("✏ Atualizando restaurante ID {}", id);
 
@@ -71,10 +133,13 @@ public class RestauranteService {
 
         RestauranteFactory.applyUpdate(restaurante, dto, dono);
         Restaurante atualizado = repository.save(restaurante);
+        // O nome do restaurante vai em cada item do cardápio
+        cardapioSnapshots.invalidar(id);
 
         return RestauranteFactory.toResponseDTO(atualizado);
     }
 
+    @Transactional
     public void deletar(Long id) {
         log.info("🗑 Deletando restaurante ID {}", id);
 
@@ -83,5 +148,6 @@ public class RestauranteService {
         }
 
         repository.deleteById(id);
+        cardapioSnapshots.invalidar(id);
     }
 }
@@ -1,5 +1,7 @@
 package com.techchallenge.domain.tipousuario.controller;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.etag.Etags;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioCreateDTO;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioResponseDTO;
@@ -66,7 +68,39 @@ public class TipoUsuarioController {
     @GetMapping
     public ResponseEntity<List<TipoUsuarioResponseDTO>> listarTodos() {
         log.info("📌 [GET] Listando tipos de usuário");
-        return ResponseEntity.ok(service.listarTodos());
+        List<TipoUsuarioResponseDTO> lista = service.listarTodos();
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
+    }
+
+    @Operation(summary = "Listar tipos de usuario com campos escolhidos", description = "Como a listagem, mas só com os campos pedidos em 'fields' (id, nome)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lista retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "Campos escolhidos", value = "[\n  { \"id\": 1 }\n]")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields'",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<RegistroParcial>> listarTodosParcial(
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id")
+            @RequestParam String fields) {
+
+        log.info("📌 [GET] Listando tipos de usuário (campos {})", fields);
+        List<RegistroParcial> lista = service.listarTodosParcial(fields);
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Buscar tipo de usuario por ID", description = "Retorna um tipo especifico (requer autenticacao)")
@@ -100,7 +134,46 @@ public class TipoUsuarioController {
             @PathVariable Long id) {
 
         log.info("🔍 [GET] Buscando tipo de usuário ID {}", id);
-        return ResponseEntity.ok(service.buscarPorId(id));
+        TipoUsuarioResponseDTO encontrado = service.buscarPorId(id);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
+    }
+
+    @Operation(summary = "Buscar tipo de usuario por ID com campos escolhidos", description = "Como a busca por ID, mas só com os campos pedidos em 'fields' (id, nome)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registro encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "Campos escolhidos", value = "{\n  \"nome\": \"Cliente\"\n}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields'",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Registro não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<RegistroParcial> buscarPorIdParcial(
+            @Parameter(description = "ID do tipo de usuário", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "nome")
+            @RequestParam String fields) {
+
+        log.info("🔍 [GET] Buscando tipo de usuário ID {} (campos {})", id, fields);
+        RegistroParcial encontrado = service.buscarPorIdParcial(id, fields);
+        return ResponseEntity.ok().eTag(Etags.de(encontrado)).body(encontrado);
     }
 
     @Operation(summary = "Buscar usuários por tipo (ID)", description = "Lista usuários de um tipo específico (somente ADMIN)")
@@ -142,7 +215,7 @@ public class TipoUsuarioController {
         List<UsuarioResponseDTO> lista = usuarioService.buscarPorTipo(id);
         log.info("📄 {} usuários retornados para o tipo ID {}", lista.size(), id);
 
-        return ResponseEntity.ok(lista);
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Buscar usuários por nome do tipo", description = "Lista usuários pelo nome do tipo (somente ADMIN)")
@@ -189,7 +262,7 @@ public class TipoUsuarioController {
         List<UsuarioResponseDTO> lista = usuarioService.buscarPorTipoNome(tipoNome);
         log.info("📄 {} usuários retornados para o tipo nome {}", lista.size(), tipoNome);
 
-        return ResponseEntity.ok(lista);
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Atualizar tipo do usuário por email", description = "Atualiza o tipo de um usuário informando o email (somente ADMIN)")
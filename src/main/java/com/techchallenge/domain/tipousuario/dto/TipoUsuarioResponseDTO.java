@@ -1,5 +1,7 @@
 package com.techchallenge.domain.tipousuario.dto;
 
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.etag.Versionado;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Retorno de tipo de usuário")
@@ -11,4 +13,11 @@ public record TipoUsuarioResponseDTO(
         @Schema(description = "Nome do tipo", example = "Cliente")
         String nome
 
-) {}
+) implements Versionado {
+
+    // Id e nome são o estado inteiro do tipo
+    @Override
+    public long hashVersao() {
+        return Etags.hash(id, nome);
+    }
+}
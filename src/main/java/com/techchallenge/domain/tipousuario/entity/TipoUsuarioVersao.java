@@ -0,0 +1,19 @@
+package com.techchallenge.domain.tipousuario.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "tipo_usuario_versao")
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TipoUsuarioVersao {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long versao;
+}
@@ -1,5 +1,6 @@
 package com.techchallenge.domain.tipousuario.repository;
 
+import com.techchallenge.configuration.campos.Projecao;
 import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -8,6 +9,13 @@ import java.util.Optional;
 
 @Repository
 public interface TipoUsuarioRepository extends JpaRepository<TipoUsuario, Long> {
+
+    // Campos aceitos em ?fields=; sem @Version, o ETag cobre os valores pedidos
+    Projecao PROJECAO = Projecao.de("TipoUsuario t", "t.id", null)
+            .campo("id", "t.id")
+            .campo("nome", "t.nome")
+            .construir();
+
     Optional<TipoUsuario> findByNomeIgnoreCase(String nome);
     boolean existsByNomeIgnoreCase(String nome);
 }
@@ -0,0 +1,21 @@
+package com.techchallenge.domain.tipousuario.repository;
+
+import com.techchallenge.domain.tipousuario.entity.TipoUsuarioVersao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TipoUsuarioVersaoRepository extends JpaRepository<TipoUsuarioVersao, Long> {
+
+    @Query("select v.versao from TipoUsuarioVersao v where v.id = :id")
+    Optional<Long> buscarVersao(@Param("id") Long id);
+
+    @Modifying
+    @Query("update TipoUsuarioVersao v set v.versao = v.versao + 1 where v.id = :id")
+    int incrementar(@Param("id") Long id);
+}
@@ -0,0 +1,187 @@
+package com.techchallenge.domain.tipousuario.service;
+
+import com.techchallenge.configuration.transacao.AposCommit;
+import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
+import com.techchallenge.domain.tipousuario.entity.TipoUsuarioVersao;
+import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.tipousuario.repository.TipoUsuarioVersaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cópia residente da tabela {@code tipo_usuario}, indexada por ID e por nome (sem diferenciar maiúsculas).
+ * Leituras usam um snapshot imutável; alterações feitas pelo {@link TipoUsuarioService} geram um novo snapshot
+ * após o commit e incrementam {@code tipo_usuario_versao}, que os demais nós comparam periodicamente.
+ * Um ID ou nome ausente consulta a versão uma vez e fica lembrado como ausente até o snapshot mudar.
+ */
+@Component
+public class TipoUsuarioDicionario {
+
+    private static final Logger log = LoggerFactory.getLogger(TipoUsuarioDicionario.class);
+
+    private static final Long ID_VERSAO = 1L;
+    private static final int MAXIMO_AUSENTES = 1024;
+
+    private final TipoUsuarioRepository repository;
+    private final TipoUsuarioVersaoRepository versaoRepository;
+
+    private volatile Snapshot snapshot;
+
+    public TipoUsuarioDicionario(TipoUsuarioRepository repository, TipoUsuarioVersaoRepository versaoRepository) {
+        this.repository = repository;
+        this.versaoRepository = versaoRepository;
+    }
+
+    public Optional<TipoUsuario> buscarPorId(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return buscar(id, Snapshot::porId, Snapshot::idsAusentes);
+    }
+
+    public Optional<TipoUsuario> buscarPorNome(String nome) {
+        return buscar(chave(nome), Snapshot::porNome, Snapshot::nomesAusentes);
+    }
+
+    // Só uma falta ainda não vista consulta a versão; a falta fica no snapshot, então a próxima versão a esquece
+    private <K> Optional<TipoUsuario> buscar(K chave,
+                                             Function<Snapshot, Map<K, TipoUsuario>> mapa,
+                                             Function<Snapshot, Set<K>> ausentes) {
+        Snapshot atual = atual();
+        TipoUsuario tipo = mapa.apply(atual).get(chave);
+        if (tipo == null && !ausentes.apply(atual).contains(chave)) {
+            if (recarregarSeVersaoMudou()) {
+                atual = atual();
+                tipo = mapa.apply(atual).get(chave);
+            }
+            Set<K> faltas = ausentes.apply(atual);
+            if (tipo == null && faltas.size() < MAXIMO_AUSENTES) {
+                faltas.add(chave);
+            }
+        }
+        return Optional.ofNullable(tipo).map(TipoUsuarioDicionario::copia);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recarregar() {
+        long versao = versaoRepository.buscarVersao(ID_VERSAO).orElse(0L);
+        List<TipoUsuario> tipos = repository.findAll();
+
+        snapshot = Snapshot.de(tipos, versao);
+        log.info("📚 Dicionário de tipos de usuário carregado: {} tipos (versão {})", tipos.size(), versao);
+    }
+
+    @Scheduled(initialDelayString = "${app.tipoUsuario.reconciliacaoMs:30000}",
+            fixedDelayString = "${app.tipoUsuario.reconciliacaoMs:30000}")
+    public void reconciliar() {
+        recarregarSeVersaoMudou();
+    }
+
+    // Versão no banco diferente da local: outro nó alterou a tabela
+    private boolean recarregarSeVersaoMudou() {
+        long versao = versaoRepository.buscarVersao(ID_VERSAO).orElse(0L);
+        if (snapshot != null && snapshot.versao() == versao) {
+            return false;
+        }
+        recarregar();
+        return true;
+    }
+
+    /** Deve ser chamado dentro da transação que gravou o tipo. */
+    public void registrarAlteracao(TipoUsuario tipo) {
+        TipoUsuario gravado = copia(tipo);
+        aplicarAposCommit(incrementarVersao(), mapas -> {
+            mapas.porId().values().removeIf(t -> t.getId().equals(gravado.getId()));
+            mapas.porNome().values().removeIf(t -> t.getId().equals(gravado.getId()));
+            mapas.porId().put(gravado.getId(), gravado);
+            mapas.porNome().put(chave(gravado.getNome()), gravado);
+        });
+    }
+
+    /** Deve ser chamado dentro da transação que removeu o tipo. */
+    public void registrarRemocao(Long id) {
+        aplicarAposCommit(incrementarVersao(), mapas -> {
+            mapas.porId().remove(id);
+            mapas.porNome().values().removeIf(t -> t.getId().equals(id));
+        });
+    }
+
+    long versao() {
+        return atual().versao();
+    }
+
+    private long incrementarVersao() {
+        if (versaoRepository.incrementar(ID_VERSAO) == 0) {
+            versaoRepository.save(new TipoUsuarioVersao(ID_VERSAO, 1L));
+            return 1L;
+        }
+        return versaoRepository.buscarVersao(ID_VERSAO).orElseThrow();
+    }
+
+    private void aplicarAposCommit(long versao, Consumer<Snapshot> alteracao) {
+        AposCommit.executar(() -> aplicar(versao, alteracao));
+    }
+
+    // Só aplica a alteração localmente se for a próxima versão; caso contrário outro nó alterou no meio e recarrega tudo
+    private synchronized void aplicar(long versao, Consumer<Snapshot> alteracao) {
+        Snapshot anterior = snapshot;
+        if (anterior == null || versao != anterior.versao() + 1) {
+            recarregar();
+            return;
+        }
+
+        Snapshot novo = new Snapshot(new HashMap<>(anterior.porId()), new HashMap<>(anterior.porNome()), versao);
+        alteracao.accept(novo);
+        snapshot = new Snapshot(Map.copyOf(novo.porId()), Map.copyOf(novo.porNome()), versao);
+    }
+
+    private Snapshot atual() {
+        Snapshot atual = snapshot;
+        if (atual == null) {
+            recarregar();
+            atual = snapshot;
+        }
+        return atual;
+    }
+
+    private static String chave(String nome) {
+        return nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static TipoUsuario copia(TipoUsuario tipo) {
+        return new TipoUsuario(tipo.getId(), tipo.getNome());
+    }
+
+    private record Snapshot(Map<Long, TipoUsuario> porId, Map<String, TipoUsuario> porNome, long versao,
+                            Set<Long> idsAusentes, Set<String> nomesAusentes) {
+
+        Snapshot(Map<Long, TipoUsuario> porId, Map<String, TipoUsuario> porNome, long versao) {
+            this(porId, porNome, versao, ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+        }
+
+        static Snapshot de(List<TipoUsuario> tipos, long versao) {
+            Map<Long, TipoUsuario> porId = new HashMap<>();
+            Map<String, TipoUsuario> porNome = new HashMap<>();
+            for (TipoUsuario tipo : tipos) {
+                TipoUsuario copia = copia(tipo);
+                porId.put(copia.getId(), copia);
+                porNome.put(chave(copia.getNome()), copia);
+            }
+            return new Snapshot(Map.copyOf(porId), Map.copyOf(porNome), versao);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.techchallenge.domain.tipousuario.service;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioCreateDTO;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioResponseDTO;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioUpdateDTO;
@@ -7,11 +8,14 @@ import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
 import com.techchallenge.domain.tipousuario.factory.TipoUsuarioFactory;
 import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,11 +26,17 @@ public class TipoUsuarioService {
 
     private final TipoUsuarioRepository repository;
     private final UsuarioRepository usuarioRepository;
+    private final TipoUsuarioDicionario dicionario;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public TipoUsuarioService(TipoUsuarioRepository repository, UsuarioRepository usuarioRepository) {
+    public TipoUsuarioService(TipoUsuarioRepository repository, UsuarioRepository usuarioRepository,
+                              TipoUsuarioDicionario dicionario) {
         this.repository = repository;
         this.usuarioRepository = usuarioRepository;
+        this.dicionario = dicionario;
     }
 
     public List<TipoUsuarioResponseDTO> listarTodos() {
@@ -38,6 +48,13 @@ public class TipoUsuarioService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<RegistroParcial> listarTodosParcial(String fields) {
+        log.info("📌 Listando todos os tipos de usuário (campos {})...", fields);
+
+        return TipoUsuarioRepository.PROJECAO.selecionar(fields).todos(entityManager);
+    }
+
     public TipoUsuarioResponseDTO buscarPorId(Long id) {
         log.info("🔍 Buscando tipo de usuário ID {}", id);
 
@@ -47,6 +64,15 @@ public class TipoUsuarioService {
         return TipoUsuarioFactory.toResponseDTO(tipo);
     }
 
+    @Transactional(readOnly = true)
+    public RegistroParcial buscarPorIdParcial(Long id, String fields) {
+        log.info("🔍 Buscando tipo de usuário ID {} (campos {})", id, fields);
+
+        return TipoUsuarioRepository.PROJECAO.selecionar(fields).porId(entityManager, id)
+                .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
+    }
+
+    @Transactional
     public TipoUsuarioResponseDTO criar(TipoUsuarioCreateDTO dto) {
         log.info("📝 Criando tipo de usuário: {}", dto.nome());
 
@@ -56,10 +82,12 @@ public class TipoUsuarioService {
 
         TipoUsuario novo = TipoUsuarioFactory.fromCreateDTO(dto);
         TipoUsuario salvo = repository.save(novo);
+        dicionario.registrarAlteracao(salvo);
 
         return TipoUsuarioFactory.toResponseDTO(salvo);
     }
 
+    @Transactional
     public TipoUsuarioResponseDTO atualizar(Long id, TipoUsuarioUpdateDTO dto) {
         log.info("✏ Atualizando tipo de usuário ID {}", id);
 
@@ -73,10 +101,12 @@ public class TipoUsuarioService {
 
         TipoUsuarioFactory.applyUpdate(tipo, dto);
         TipoUsuario atualizado = repository.save(tipo);
+        dicionario.registrarAlteracao(atualizado);
 
         return TipoUsuarioFactory.toResponseDTO(atualizado);
     }
 
+    @Transactional
     public void deletar(Long id) {
         log.info("🗑 Deletando tipo de usuário ID {}", id);
 
@@ -89,5 +119,6 @@ public class TipoUsuarioService {
         }
 
         repository.deleteById(id);
+        dicionario.registrarRemocao(id);
     }
 }
@@ -1,5 +1,9 @@
 package com.techchallenge.domain.usuario.controller;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.auth.dto.ErrorResponseDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioCreateDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
@@ -25,7 +29,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -42,11 +48,12 @@ public class UsuarioController {
     private HttpServletRequest request;
 
     private boolean isAdmin() {
-        return "ADMIN".equalsIgnoreCase((String) request.getAttribute("role"));
+        return request.isUserInRole("ADMIN");
     }
 
     private String getLoggedEmail() {
-        return (String) request.getAttribute("email");
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : null;
     }
 
     private void checkPermission(String emailDono) {
@@ -63,7 +70,158 @@ public class UsuarioController {
         this.service = service;
     }
 
-    @Operation(summary = "Listar todos os usuários", description = "Retorna uma lista com todos os usuários cadastrados (somente ADMIN)")
+    @Operation(summary = "Listar usuários (paginado)", description = "Retorna uma página de usuários ordenada por ID; use o cursor 'next' para a próxima página (somente ADMIN)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página de usuários",
+                                    value = "{\n  \"itens\": [\n    {\n      \"id\": 1,\n      \"nome\": \"Admin\",\n      \"email\": \"admin@tech.com\",\n      \"endereco\": \"Rua A, 123\",\n      \"role\": \"ADMIN\"\n    }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Limite ou cursor inválido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Cursor inválido",
+                                    value = "{\n  \"status\": 400,\n  \"message\": \"Cursor inválido.\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acesso negado (não é ADMIN)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/todos")
+    public ResponseEntity<PaginaDTO<UsuarioResponseDTO>> listarPagina(
+            @Parameter(description = "Quantidade de usuários por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor) {
+
+        log.info("📌 [GET] Solicitação para listar página de usuários...");
+
+        if (!isAdmin()) {
+            log.warn("⛔ CLIENT tentou acessar lista de usuários!");
+            throw new SecurityException("Apenas administradores podem listar todos os usuários");
+        }
+
+        PaginaDTO<UsuarioResponseDTO> pagina = service.listarPagina(limit, cursor);
+
+        log.info("📄 {} usuários retornados na página.", pagina.itens().size());
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Listar usuários com campos escolhidos (paginado)", description = "Como a listagem paginada, mas só com os campos pedidos em 'fields' (id, nome, email, endereco, role, tipoUsuario, ultimaAtualizacao); o banco lê só essas colunas (somente ADMIN)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Página com campos escolhidos",
+                                    value = "{\n  \"itens\": [\n    { \"id\": 1, \"nome\": \"Admin\" }\n  ],\n  \"next\": \"MQ\"\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields', limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acesso negado (não é ADMIN)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/todos", params = "fields")
+    public ResponseEntity<PaginaDTO<RegistroParcial>> listarPaginaParcial(
+            @Parameter(description = "Quantidade de usuários por página", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor 'next' retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome")
+            @RequestParam String fields,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) Boolean completo) {
+
+        if (Boolean.TRUE.equals(completo)) {
+            throw new IllegalArgumentException(
+                    "'fields' não vale para a listagem completa; use a paginada, sem completo=true.");
+        }
+
+        log.info("📌 [GET] Solicitação para listar página de usuários (campos {})...", fields);
+
+        if (!isAdmin()) {
+            log.warn("⛔ CLIENT tentou acessar lista de usuários!");
+            throw new SecurityException("Apenas administradores podem listar todos os usuários");
+        }
+
+        PaginaDTO<RegistroParcial> pagina = service.listarPaginaParcial(limit, cursor, fields);
+
+        log.info("📄 {} usuários retornados na página.", pagina.itens().size());
+        return ResponseEntity.ok().eTag(Etags.de(pagina)).body(pagina);
+    }
+
+    @Operation(summary = "Exportar usuários", description = "Envia todos os usuários como NDJSON, lidos do banco em streaming (somente ADMIN)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registros enviados um por linha (NDJSON)",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(name = "Exportação", value = "{\"id\":1,\"nome\":\"Administrador\",\"email\":\"admin@tech.com\",\"endereco\":\"Rua Central, 100\",\"role\":\"ADMIN\",\"tipoUsuario\":{\"id\":1,\"nome\":\"Administrador\"},\"ultimaAtualizacao\":\"2025-01-01T10:00:00\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Apenas administradores podem exportar usuários",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+
+        log.info("📌 [GET] Solicitação para exportar usuários...");
+
+        if (!isAdmin()) {
+            log.warn("⛔ CLIENT tentou exportar usuários!");
+            throw new SecurityException("Apenas administradores podem exportar usuários");
+        }
+
+        return ResponseEntity.ok()
+                .contentType(ExportadorNdjson.NDJSON)
+                .body(service::exportar);
+    }
+
+    @Operation(summary = "Listar todos os usuários", description = "Retorna todos os usuários sem paginação; exige completo=true e falha acima do limite configurado (somente ADMIN)")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
@@ -117,7 +275,7 @@ public class UsuarioController {
             )
     })
     @PreAuthorize("hasRole('ADMIN')")
-    @GetMapping("/todos")
+    @GetMapping(value = "/todos", params = {"completo=true", "!fields"})
     public ResponseEntity<List<UsuarioResponseDTO>> listarTodos() {
 
         log.info("📌 [GET] Solicitação para listar todos os usuários...");
@@ -130,7 +288,7 @@ public class UsuarioController {
         List<UsuarioResponseDTO> lista = service.listarTodos();
 
         log.info("📄 {} usuários retornados.", lista.size());
-        return ResponseEntity.ok(lista);
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Buscar usuário por ID", description = "Retorna os dados de um usuário específico (ADMIN ou dono)")
@@ -201,7 +359,62 @@ public class UsuarioController {
 
         log.info("✔ Usuário ID {} retornado com sucesso", id);
 
-        return ResponseEntity.ok(user);
+        // Sem Last-Modified: ultimaAtualizacao não acompanha toda escrita (role, nome do tipo) e tem resolução de
+        // segundos; o ETag vem do @Version e muda a cada commit
+        return ResponseEntity.ok().eTag(Etags.de(user)).body(user);
+    }
+
+    @Operation(summary = "Buscar usuário por ID com campos escolhidos", description = "Como a busca por ID, mas só com os campos pedidos em 'fields' (id, nome, email, endereco, role, tipoUsuario, ultimaAtualizacao) (ADMIN ou dono)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Registro encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(name = "Campos escolhidos", value = "{\n  \"id\": 2,\n  \"nome\": \"João\"\n}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconhecido em 'fields'",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Registro não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Sem permissão para acessar o usuário",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token ausente ou inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))
+            )
+    })
+    @PreAuthorize("hasAnyRole('ADMIN','CLIENT','DONO')")
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<RegistroParcial> buscarPorIdParcial(
+            @Parameter(description = "ID do usuário", example = "2")
+            @PathVariable Long id,
+            @Parameter(description = "Campos da resposta, separados por vírgula", example = "id,nome")
+            @RequestParam String fields
+    ) {
+
+        log.info("🔍 [GET] Buscando usuário ID {} (campos {})", id, fields);
+
+        RegistroParcial user = service.buscarPorIdParcial(id, fields);
+
+        // O email vem sempre na consulta, mesmo fora de 'fields', para a checagem de dono
+        if (!request.isUserInRole("ADMIN")) {
+            checkPermission((String) user.interno("email"));
+        }
+
+        log.info("✔ Usuário ID {} retornado com sucesso", id);
+        return ResponseEntity.ok().eTag(Etags.de(user)).body(user);
     }
 
     @Operation(summary = "Criar novo usuário", description = "Cria um novo usuário no sistema")
@@ -410,11 +623,11 @@ public class UsuarioController {
         return ResponseEntity.ok(atualizado);
     }
 
-    @Operation(summary = "Buscar usuários por nome", description = "Busca usuários pelo nome (parcial) e retorna uma lista (somente ADMIN)")
+    @Operation(summary = "Buscar usuários por nome", description = "Busca usuários pelo nome (parcial, sem acentos) e retorna os mais relevantes primeiro, no máximo 'limit' (padrão 50, até 500). A busca não é paginada: uma lista com exatamente 'limit' usuários pode ter deixado outros de fora; refine o nome ou aumente o limite (somente ADMIN)")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Lista retornada com sucesso",
+                    description = "Lista retornada com sucesso, com no máximo 'limit' usuários",
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(
@@ -451,17 +664,19 @@ public class UsuarioController {
     @PreAuthorize("hasAnyRole('ADMIN','CLIENT','DONO')")
     @GetMapping("/buscar")
     public ResponseEntity<List<UsuarioResponseDTO>> buscarPorNome(
-            @Parameter(description = "Nome parcial para buscar usuários", example = "joao")
-            @RequestParam String nome) {
+            @Parameter(description = "Nome parcial para buscar usuários (ignora acentos e maiúsculas)", example = "joao")
+            @RequestParam String nome,
+            @Parameter(description = "Quantidade máxima de usuários, dos mais relevantes (padrão 50, máximo 500); não há próxima página", example = "50")
+            @RequestParam(required = false) Integer limit) {
 
         log.info("🔍 [GET] Buscando usuários por nome: {}", nome);
 
 
-        List<UsuarioResponseDTO> lista = service.buscarPorNome(nome);
+        List<UsuarioResponseDTO> lista = service.buscarPorNome(nome, limit);
 
         log.info("📄 {} usuários retornados na busca por nome '{}'", lista.size(), nome);
 
-        return ResponseEntity.ok(lista);
+        return ResponseEntity.ok().eTag(Etags.de(lista)).body(lista);
     }
 
     @Operation(summary = "Atualizar usuário", description = "Atualiza os dados de um usuário existente (ADMIN ou dono)")
@@ -0,0 +1,4 @@
+package com.techchallenge.domain.usuario.dto;
+
+public record UsuarioEmailDTO(Long id, String email) {
+}
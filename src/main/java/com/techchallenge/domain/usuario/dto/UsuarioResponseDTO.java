@@ -1,5 +1,8 @@
 package com.techchallenge.domain.usuario.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.etag.Versionado;
 import com.techchallenge.domain.tipousuario.dto.TipoUsuarioResponseDTO;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -28,5 +31,24 @@ public record UsuarioResponseDTO(
         TipoUsuarioResponseDTO tipoUsuario,
 
         @Schema(description = "Data da última atualização")
-        LocalDateTime ultimaAtualizacao
-) {}
+        LocalDateTime ultimaAtualizacao,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long versao
+) implements Versionado {
+
+    public UsuarioResponseDTO(Long id, String nome, String email, String endereco, UsuarioRole role,
+                              Long tipoUsuarioId, String tipoUsuarioNome, LocalDateTime ultimaAtualizacao,
+                              Long versao) {
+        this(id, nome, email, endereco, role,
+                tipoUsuarioId != null ? new TipoUsuarioResponseDTO(tipoUsuarioId, tipoUsuarioNome) : null,
+                ultimaAtualizacao, versao);
+    }
+
+    @Override
+    public long hashVersao() {
+        return tipoUsuario == null ? Etags.hash(id, versao)
+                : Etags.hash(id, versao, tipoUsuario.id(), tipoUsuario.nome());
+    }
+}
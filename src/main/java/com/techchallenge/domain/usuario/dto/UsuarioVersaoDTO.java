@@ -0,0 +1,6 @@
+package com.techchallenge.domain.usuario.dto;
+
+import java.time.LocalDateTime;
+
+public record UsuarioVersaoDTO(Long id, LocalDateTime ultimaAtualizacao, Long versao) {
+}
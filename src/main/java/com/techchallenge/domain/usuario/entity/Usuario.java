@@ -3,6 +3,7 @@ package com.techchallenge.domain.usuario.entity;
 import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -30,8 +31,13 @@ public class Usuario {
     @Enumerated(EnumType.STRING)
     private UsuarioRole role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tipo_usuario_id")
     private TipoUsuario tipoUsuario;
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long versao;
+
 }
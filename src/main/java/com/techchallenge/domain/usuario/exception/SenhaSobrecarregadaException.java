@@ -0,0 +1,7 @@
+package com.techchallenge.domain.usuario.exception;
+
+public class SenhaSobrecarregadaException extends RuntimeException {
+    public SenhaSobrecarregadaException(String message) {
+        super(message);
+    }
+}
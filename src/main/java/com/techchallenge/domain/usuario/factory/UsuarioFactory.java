@@ -53,7 +53,8 @@ public class UsuarioFactory {
                 usuario.getEndereco(),
                 usuario.getRole(),
                 tipoDto,
-                usuario.getUltimaAtualizacao()
+                usuario.getUltimaAtualizacao(),
+                usuario.getVersao()
         );
     }
 }
@@ -1,17 +1,107 @@
 package com.techchallenge.domain.usuario.repository;
 
+import com.techchallenge.configuration.campos.Projecao;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.domain.tipousuario.dto.TipoUsuarioResponseDTO;
+import com.techchallenge.domain.usuario.dto.UsuarioEmailDTO;
+import com.techchallenge.domain.usuario.dto.UsuarioNomeDTO;
+import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
+import com.techchallenge.domain.usuario.dto.UsuarioVersaoDTO;
 import com.techchallenge.domain.usuario.entity.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+
+    String SELECT_RESPONSE = "select new com.techchallenge.domain.usuario.dto.UsuarioResponseDTO("
+            + "u.id, u.nome, u.email, u.endereco, u.role, t.id, t.nome, u.ultimaAtualizacao, u.versao) "
+            + "from Usuario u left join u.tipoUsuario t ";
+
+    // Campos aceitos em ?fields=; o email vai sempre, fora do JSON, para a checagem de permissão
+    Projecao PROJECAO = Projecao.de("Usuario u", "u.id", "u.versao")
+            .juncao("left join u.tipoUsuario t")
+            .interno("email", "u.email")
+            .campo("id", "u.id")
+            .campo("nome", "u.nome")
+            .campo("email", "u.email")
+            .campo("endereco", "u.endereco")
+            .campo("role", "u.role")
+            .campoDaJuncao("tipoUsuario", valores -> valores[0] == null ? null
+                    : new TipoUsuarioResponseDTO((Long) valores[0], (String) valores[1]), "t.id", "t.nome")
+            .campo("ultimaAtualizacao", "u.ultimaAtualizacao")
+            .construir();
+
+    String SELECT_NOME = "select new com.techchallenge.domain.usuario.dto.UsuarioNomeDTO(u.id, u.nome) from Usuario u ";
+
+    String SELECT_EMAIL = "select new com.techchallenge.domain.usuario.dto.UsuarioEmailDTO(u.id, u.email) from Usuario u ";
+
+    String SELECT_VERSAO = "select new com.techchallenge.domain.usuario.dto.UsuarioVersaoDTO(u.id, u.ultimaAtualizacao, u.versao) "
+            + "from Usuario u ";
+
     boolean existsByEmail(String email);
-    List<Usuario> findByNomeContainingIgnoreCase(String nome);
-    List<Usuario> findByTipoUsuarioId(Long tipoUsuarioId);
+
+    @Override
+    @EntityGraph(attributePaths = "tipoUsuario")
+    List<Usuario> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "tipoUsuario")
+    Optional<Usuario> findById(Long id);
+
     boolean existsByTipoUsuarioId(Long tipoUsuarioId);
     Optional<Usuario> findByEmail(String email);
+
+    @Query(SELECT_RESPONSE + "where u.id > :afterId order by u.id")
+    List<UsuarioResponseDTO> findResponsePage(@Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportadorNdjson.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE + "order by u.id")
+    Stream<UsuarioResponseDTO> streamResponse();
+
+    @Query(SELECT_RESPONSE + "where u.id = :id")
+    Optional<UsuarioResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "where u.id in :ids")
+    List<UsuarioResponseDTO> findResponseByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_EMAIL + "where u.id > :afterId order by u.id")
+    List<UsuarioEmailDTO> findEmailPage(@Param("afterId") long afterId, Limit limit);
+
+    @Query(SELECT_EMAIL + "where u.ultimaAtualizacao >= :desde")
+    List<UsuarioEmailDTO> findEmailAtualizadoDesde(@Param("desde") LocalDateTime desde);
+
+    @Query(SELECT_NOME + "where u.id > :afterId order by u.id")
+    List<UsuarioNomeDTO> findNomePage(@Param("afterId") long afterId, Limit limit);
+
+    @Query(SELECT_NOME + "where u.ultimaAtualizacao >= :desde")
+    List<UsuarioNomeDTO> findNomeAtualizadoDesde(@Param("desde") LocalDateTime desde);
+
+    @Query(SELECT_VERSAO + "where u.ultimaAtualizacao >= :desde")
+    List<UsuarioVersaoDTO> findVersaoAtualizadoDesde(@Param("desde") LocalDateTime desde);
+
+    @Query(SELECT_RESPONSE + "where t.id = :tipoUsuarioId order by u.id")
+    List<UsuarioResponseDTO> findResponseByTipoUsuarioId(@Param("tipoUsuarioId") Long tipoUsuarioId);
+
+    // Só troca se o hash ainda for o lido no login: não sobrescreve uma troca de senha concorrente
+    @Modifying
+    @Query("update Usuario u set u.senha = :novo where u.id = :id and u.senha = :anterior")
+    int atualizarHashSenha(@Param("id") Long id, @Param("anterior") String anterior, @Param("novo") String novo);
 }
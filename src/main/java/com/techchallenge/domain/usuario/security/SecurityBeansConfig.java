@@ -1,15 +1,37 @@
 package com.techchallenge.domain.usuario.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
 
 @Configuration
 public class SecurityBeansConfig {
 
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    /**
+     * Grava {@code {algoritmo}hash}; o BCrypt ainda carrega o custo no próprio hash ({@code $2a$12$...}).
+     * Hash gravado com algoritmo ou custo diferente do configurado é refeito no próximo login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.senhaAlgoritmo:bcrypt}") String algoritmo,
+                                           @Value("${app.auth.bcryptCusto:10}") int bcryptCusto) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCusto);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algoritmo, Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+
+        // Hashes anteriores ao prefixo {algoritmo} são todos BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return encoder;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package com.techchallenge.domain.usuario.security;
+
+import com.techchallenge.domain.usuario.exception.SenhaSobrecarregadaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Roda o BCrypt (dezenas de ms de CPU por chamada) em um pool próprio do tamanho dos núcleos, com fila limitada.
+ * Uma rajada de logins disputa só esses workers; quando a fila enche, a chamada falha na hora com
+ * {@link SenhaSobrecarregadaException} (503) em vez de empilhar CPU sobre o resto da aplicação.
+ */
+@Component
+public class SenhaExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer codificacao;
+    private final Timer conferencia;
+    private final Counter rejeicoes;
+
+    public SenhaExecutor(PasswordEncoder passwordEncoder,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.auth.senhaThreads:0}") int threads,
+                         @Value("${app.auth.senhaFila:64}") int fila) {
+        this.passwordEncoder = passwordEncoder;
+
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila), new Workers(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.codificacao = timer(meterRegistry, "codificar");
+        this.conferencia = timer(meterRegistry, "conferir");
+        this.rejeicoes = Counter.builder("auth.senha.rejeicoes")
+                .description("Operações de senha recusadas com a fila cheia")
+                .register(meterRegistry);
+
+        new ExecutorServiceMetrics(executor, "auth.senha", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public CompletableFuture<String> codificarAsync(String senha) {
+        return submeter(codificacao, () -> passwordEncoder.encode(senha));
+    }
+
+    public CompletableFuture<Boolean> conferirAsync(String senha, String hash) {
+        return submeter(conferencia, () -> passwordEncoder.matches(senha, hash));
+    }
+
+    // Só lê o prefixo e o custo gravados no hash: não passa pelo pool
+    public boolean precisaAtualizar(String hash) {
+        return passwordEncoder.upgradeEncoding(hash);
+    }
+
+    public String codificar(String senha) {
+        return aguardar(codificarAsync(senha));
+    }
+
+    public boolean conferir(String senha, String hash) {
+        return aguardar(conferirAsync(senha, hash));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submeter(Timer timer, Supplier<T> operacao) {
+        long inicio = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return operacao.get();
+                } finally {
+                    // Inclui o tempo na fila: é a latência que o login sente
+                    timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            throw new SenhaSobrecarregadaException("Muitas operações de senha em andamento");
+        }
+    }
+
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operacao) {
+        return Timer.builder("auth.senha.duracao")
+                .description("Tempo de uma operação de senha, da fila ao fim do hash")
+                .tag("operacao", operacao)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static final class Workers implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "senha-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
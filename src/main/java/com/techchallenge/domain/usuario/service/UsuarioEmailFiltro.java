@@ -0,0 +1,157 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.configuration.bloom.FiltroBloom;
+import com.techchallenge.domain.usuario.dto.UsuarioEmailDTO;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filtro de Bloom dos emails cadastrados: um "não" responde o login com email desconhecido sem ir ao banco; um
+ * "talvez" segue para a consulta. O cadastro não usa o filtro e consulta sempre o banco. Criar e atualizar não abrem
+ * transação, então o email entra no filtro logo depois do {@code save} já commitado; um login nesse intervalo ainda
+ * pode ouvir "não". Os de outros nós chegam pela sincronização por {@code ultimaAtualizacao}. Removidos e emails
+ * trocados só saem na reconstrução periódica. Até a primeira carga, tudo é "talvez".
+ */
+@Component
+public class UsuarioEmailFiltro {
+
+    private static final Logger log = LoggerFactory.getLogger(UsuarioEmailFiltro.class);
+
+    private static final double TAXA_FALSO_POSITIVO = 0.01;
+    private static final int CAPACIDADE_MINIMA = 10_000;
+    private static final int TAMANHO_PAGINA_CARGA = 10_000;
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+
+    private final UsuarioRepository repository;
+    private final Counter negativos;
+    private final Counter positivos;
+    private final Counter falsosPositivos;
+
+    private volatile FiltroBloom filtro;
+    private volatile LocalDateTime ultimaSincronizacao;
+    private List<String> adicionadosNaCarga;
+
+    public UsuarioEmailFiltro(UsuarioRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+
+        this.negativos = consultas(meterRegistry, "negativo");
+        this.positivos = consultas(meterRegistry, "talvez");
+        this.falsosPositivos = consultas(meterRegistry, "falso_positivo");
+        Gauge.builder("usuario.email.filtro.falso_positivo.estimado", this, UsuarioEmailFiltro::taxaEstimada)
+                .description("Taxa de falso positivo esperada pelo preenchimento do filtro")
+                .register(meterRegistry);
+    }
+
+    /** {@code false} só quando o email certamente não está cadastrado. */
+    public boolean talvezCadastrado(String email) {
+        FiltroBloom atual = filtro;
+        if (atual == null || atual.talvezContenha(normalizar(email))) {
+            positivos.increment();
+            return true;
+        }
+        negativos.increment();
+        return false;
+    }
+
+    /** O filtro disse "talvez" e o banco não achou. */
+    public void falsoPositivo() {
+        falsosPositivos.increment();
+    }
+
+    public synchronized void registrar(String email) {
+        String chave = normalizar(email);
+        if (filtro != null) {
+            filtro.adicionar(chave);
+        }
+        if (adicionadosNaCarga != null) {
+            adicionadosNaCarga.add(chave);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.usuario.emailFiltroReconstrucaoMs:3600000}",
+            fixedDelayString = "${app.usuario.emailFiltroReconstrucaoMs:3600000}")
+    public void reconstruir() {
+        LocalDateTime inicio = LocalDateTime.now();
+        synchronized (this) {
+            adicionadosNaCarga = new ArrayList<>();
+        }
+
+        try {
+            // Em páginas por ID, como o índice de nomes; os emails vão para uma lista porque o tamanho do filtro
+            // depende do total
+            List<String> emails = new ArrayList<>();
+            long afterId = 0L;
+            List<UsuarioEmailDTO> pagina;
+            do {
+                pagina = repository.findEmailPage(afterId, Limit.of(TAMANHO_PAGINA_CARGA));
+                pagina.forEach(usuario -> emails.add(normalizar(usuario.email())));
+                if (!pagina.isEmpty()) {
+                    afterId = pagina.get(pagina.size() - 1).id();
+                }
+            } while (pagina.size() == TAMANHO_PAGINA_CARGA);
+
+            // Folga de 2x para os cadastros até a próxima reconstrução
+            FiltroBloom novo = new FiltroBloom(Math.max(CAPACIDADE_MINIMA, emails.size() * 2), TAXA_FALSO_POSITIVO);
+            emails.forEach(novo::adicionar);
+
+            synchronized (this) {
+                // Cadastros feitos durante a carga podem não estar na leitura
+                adicionadosNaCarga.forEach(novo::adicionar);
+                filtro = novo;
+            }
+            ultimaSincronizacao = inicio;
+
+            log.info("📧 Filtro de emails reconstruído: {} emails, capacidade {}", emails.size(), novo.capacidade());
+        } finally {
+            synchronized (this) {
+                adicionadosNaCarga = null;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.usuario.emailFiltroSincronizacaoMs:5000}",
+            fixedDelayString = "${app.usuario.emailFiltroSincronizacaoMs:5000}")
+    public void sincronizar() {
+        LocalDateTime desde = ultimaSincronizacao;
+        if (desde == null) {
+            return;
+        }
+
+        LocalDateTime inicio = LocalDateTime.now();
+        List<UsuarioEmailDTO> alterados = repository.findEmailAtualizadoDesde(desde.minus(MARGEM_SINCRONIZACAO));
+        alterados.forEach(usuario -> registrar(usuario.email()));
+        ultimaSincronizacao = inicio;
+    }
+
+    private double taxaEstimada() {
+        FiltroBloom atual = filtro;
+        return atual == null ? 1.0 : atual.taxaFalsoPositivoEstimada();
+    }
+
+    private static Counter consultas(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("usuario.email.filtro")
+                .description("Consultas de email pelo filtro de Bloom")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    private static String normalizar(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
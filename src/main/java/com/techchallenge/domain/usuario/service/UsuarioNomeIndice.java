@@ -0,0 +1,561 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.configuration.transacao.AposCommit;
+import com.techchallenge.domain.usuario.dto.UsuarioNomeDTO;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas sobre o nome dos usuários, residente em memória.
+ * Nomes são normalizados sem acento e em minúsculas e indexados com marcadores de início e fim, então o mesmo índice
+ * responde, em ordem de relevância: nome igual, nome começa com o termo, alguma palavra começa com o termo e contém
+ * o termo. Cada nível percorre a interseção das listas dos seus trigramas, confirma o nível no nome e para ao atingir
+ * o limite. Termos de uma ou duas letras usam as listas de unigramas e bigramas, também indexadas; nenhuma busca
+ * varre todos os nomes.
+ * As listas guardam a posição do usuário no índice, não o ID: IDs esparsos ou acima de {@code int} não inflam os
+ * arrays. A posição segue a ordem de chegada (a carga vem por ID), então dentro do nível a ordem é por ID, salvo
+ * usuários de outros nós que chegam pela sincronização depois de IDs maiores.
+ * Alterações feitas pelo {@link UsuarioService} entram após o commit; as de outros nós chegam pela sincronização
+ * periódica por {@code ultimaAtualizacao}.
+ */
+@Component
+public class UsuarioNomeIndice {
+
+    private static final Logger log = LoggerFactory.getLogger(UsuarioNomeIndice.class);
+
+    private static final int TAMANHO_TRIGRAMA = 3;
+    private static final int MINIMO_COMPACTACAO = 1024;
+    private static final int POSICOES_ANCORADAS = 4;
+    private static final int TAMANHO_PAGINA_CARGA = 10_000;
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+
+    private static final char INICIO = '\u0002';
+    private static final char FIM = '\u0003';
+
+    private static final int IGUAL = 0;
+    private static final int COMECA_COM = 1;
+    private static final int PALAVRA_COMECA_COM = 2;
+    private static final int CONTEM = 3;
+
+    private final UsuarioRepository repository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Estrutura estrutura = new Estrutura();
+
+    private volatile boolean carregado;
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public UsuarioNomeIndice(UsuarioRepository repository) {
+        this.repository = repository;
+    }
+
+    public List<Long> buscar(String termo, int limite) {
+        String consulta = normalizar(termo);
+        if (consulta.isEmpty() || limite < 1) {
+            return List.of();
+        }
+        garantirCarregado();
+
+        List<Long> ids = new ArrayList<>(Math.min(limite, 64));
+
+        lock.readLock().lock();
+        try {
+            coletar(chaves(INICIO + consulta + FIM, true, true, false), IGUAL, consulta, ids, limite);
+            coletar(chaves(INICIO + consulta, true, false, false), COMECA_COM, consulta, ids, limite);
+            coletar(chaves(" " + consulta, false, false, false), PALAVRA_COMECA_COM, consulta, ids, limite);
+            coletar(chaves(consulta, false, false, false), CONTEM, consulta, ids, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    /** Deve ser chamado depois de gravar o usuário; dentro de transação só vale após o commit. */
+    public void registrar(Long id, String nome) {
+        AposCommit.executar(() -> aplicar(id, nome));
+    }
+
+    /** Deve ser chamado depois de remover o usuário; dentro de transação só vale após o commit. */
+    public void remover(Long id) {
+        AposCommit.executar(() -> aplicarRemocao(id));
+    }
+
+    /** IDs que o índice devolveu mas não existem mais no banco (removidos por outro nó). */
+    public void descartar(Collection<Long> ids) {
+        ids.forEach(this::aplicarRemocao);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recarregar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        Estrutura nova = new Estrutura();
+
+        // Em páginas por ID: a carga não segura uma transação nem o resultado inteiro em memória
+        long afterId = 0L;
+        List<UsuarioNomeDTO> pagina;
+        do {
+            pagina = repository.findNomePage(afterId, Limit.of(TAMANHO_PAGINA_CARGA));
+            for (UsuarioNomeDTO usuario : pagina) {
+                nova.adicionar(usuario.id(), normalizar(usuario.nome()));
+            }
+            if (!pagina.isEmpty()) {
+                afterId = pagina.get(pagina.size() - 1).id();
+            }
+        } while (pagina.size() == TAMANHO_PAGINA_CARGA);
+
+        lock.writeLock().lock();
+        try {
+            estrutura = nova;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ultimaSincronizacao = inicio;
+        carregado = true;
+
+        log.info("📚 Índice de nomes de usuários carregado: {} nomes, {} chaves",
+                nova.quantidade, nova.postagens.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.usuario.buscaSincronizacaoMs:30000}",
+            fixedDelayString = "${app.usuario.buscaSincronizacaoMs:30000}")
+    public void sincronizar() {
+        LocalDateTime desde = ultimaSincronizacao;
+        if (!carregado || desde == null) {
+            return;
+        }
+
+        LocalDateTime inicio = LocalDateTime.now();
+        // Margem cobre diferença de relógio entre nós e transações que commitaram depois da última leitura
+        List<UsuarioNomeDTO> alterados = repository.findNomeAtualizadoDesde(desde.minus(MARGEM_SINCRONIZACAO));
+        alterados.forEach(usuario -> aplicar(usuario.id(), usuario.nome()));
+        ultimaSincronizacao = inicio;
+
+        if (!alterados.isEmpty()) {
+            log.info("🔄 Índice de nomes sincronizado: {} usuários alterados", alterados.size());
+        }
+    }
+
+    int tamanho() {
+        lock.readLock().lock();
+        try {
+            return estrutura.quantidade;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized void garantirCarregado() {
+        if (!carregado) {
+            recarregar();
+        }
+    }
+
+    private void aplicar(Long id, String nome) {
+        String normalizado = normalizar(nome);
+
+        lock.writeLock().lock();
+        try {
+            if (!normalizado.equals(estrutura.nome(id))) {
+                estrutura.adicionar(id, normalizado);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void aplicarRemocao(Long id) {
+        lock.writeLock().lock();
+        try {
+            estrutura.remover(id);
+            // Posições de removidos não são reaproveitadas (quebraria a ordem de chegada); sobrando muitas, refaz
+            if (estrutura.mortas > MINIMO_COMPACTACAO && estrutura.mortas > estrutura.quantidade) {
+                estrutura = estrutura.compactada();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Acrescenta os IDs do nível, na ordem das posições, até completar o limite
+    private void coletar(long[] chaves, int nivel, String consulta, List<Long> ids, int limite) {
+        if (ids.size() >= limite) {
+            return;
+        }
+        String[] nomes = estrutura.nomes;
+        long[] idsPorPosicao = estrutura.ids;
+
+        Postagens[] listas = estrutura.listas(chaves);
+        if (listas.length == 0) {
+            return;
+        }
+
+        // Percorre a menor lista; como os candidatos vêm em ordem crescente, cada lista maior só avança um cursor
+        Postagens menor = listas[0];
+        int[] cursores = new int[listas.length];
+        for (int i = 0; i < menor.tamanho && ids.size() < limite; i++) {
+            int posicao = menor.posicoes[i];
+            if (contidoEmTodas(posicao, listas, cursores) && nivel(nomes[posicao], consulta) == nivel) {
+                ids.add(idsPorPosicao[posicao]);
+            }
+        }
+    }
+
+    // A lista que rejeitou o candidato passa a ser a primeira testada: nomes parecidos tendem a falhar no mesmo trigrama
+    private static boolean contidoEmTodas(int posicao, Postagens[] listas, int[] cursores) {
+        for (int i = 1; i < listas.length; i++) {
+            Postagens lista = listas[i];
+            cursores[i] = galopar(lista.posicoes, cursores[i], lista.tamanho, posicao);
+            if (cursores[i] >= lista.tamanho || lista.posicoes[cursores[i]] != posicao) {
+                if (i > 1) {
+                    trocar(listas, cursores, 1, i);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void trocar(Postagens[] listas, int[] cursores, int a, int b) {
+        Postagens lista = listas[a];
+        listas[a] = listas[b];
+        listas[b] = lista;
+        int cursor = cursores[a];
+        cursores[a] = cursores[b];
+        cursores[b] = cursor;
+    }
+
+    // Primeira posição a partir de 'inicio' com ids[posicao] >= alvo, em saltos dobrados e busca binária no último
+    private static int galopar(int[] ids, int inicio, int tamanho, int alvo) {
+        if (inicio >= tamanho || ids[inicio] >= alvo) {
+            return inicio;
+        }
+        int abaixo = inicio;
+        int passo = 1;
+        int atual = inicio + 1;
+        while (atual < tamanho && ids[atual] < alvo) {
+            abaixo = atual;
+            passo <<= 1;
+            atual = abaixo + passo;
+        }
+        int posicao = Arrays.binarySearch(ids, abaixo + 1, Math.min(atual + 1, tamanho), alvo);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    // IGUAL, COMECA_COM, PALAVRA_COMECA_COM ou CONTEM; -1 se o nome não contém o termo
+    static int nivel(String nome, String consulta) {
+        int posicao = nome.indexOf(consulta);
+        if (posicao < 0) {
+            return -1;
+        }
+        if (posicao == 0) {
+            return nome.length() == consulta.length() ? IGUAL : COMECA_COM;
+        }
+        if (nome.charAt(posicao - 1) == ' ' || nome.indexOf(" " + consulta, posicao) >= 0) {
+            return PALAVRA_COMECA_COM;
+        }
+        return CONTEM;
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder normalizado = new StringBuilder(decomposto.length());
+        boolean espaco = false;
+
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK || Character.isISOControl(c)) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                espaco = normalizado.length() > 0;
+                continue;
+            }
+            if (espaco) {
+                normalizado.append(' ');
+                espaco = false;
+            }
+            normalizado.append(Character.toLowerCase(c));
+        }
+        return normalizado.toString();
+    }
+
+    // Chaves distintas do texto: cada trigrama em 48 bits (3 chars de 16 bits) e, nas primeiras e últimas posições,
+    // também o trigrama marcado com a posição, para "nome igual" e "começa com" descartarem de cara quem só tem os
+    // trigramas em outro lugar. No índice entram todas, mais unigramas e bigramas; na consulta a ancorada substitui a
+    // livre e um termo sem trigrama vira a chave do próprio unigrama ou bigrama
+    private static long[] chaves(String texto, boolean ancorarInicio, boolean ancorarFim, boolean todas) {
+        int quantidade = Math.max(texto.length() - TAMANHO_TRIGRAMA + 1, 0);
+        if (!todas && quantidade == 0) {
+            return texto.isEmpty() ? new long[0] : new long[]{curta(texto, 0, texto.length())};
+        }
+        long[] chaves = new long[quantidade * 3 + (todas ? texto.length() * 2 : 0)];
+        int total = 0;
+
+        for (int i = 0; i < quantidade; i++) {
+            long trigrama = ((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2);
+            int doFim = quantidade - 1 - i;
+            boolean ancorada = false;
+
+            if (ancorarInicio && i < POSICOES_ANCORADAS) {
+                chaves[total++] = trigrama | ((long) (1 + i) << 48);
+                ancorada = true;
+            }
+            if (ancorarFim && doFim < POSICOES_ANCORADAS && (todas || !ancorada)) {
+                chaves[total++] = trigrama | ((long) (1 + POSICOES_ANCORADAS + doFim) << 48);
+                ancorada = true;
+            }
+            if (todas || !ancorada) {
+                chaves[total++] = trigrama;
+            }
+        }
+        if (todas) {
+            for (int i = 0; i < texto.length(); i++) {
+                chaves[total++] = curta(texto, i, 1);
+                if (i + 1 < texto.length()) {
+                    chaves[total++] = curta(texto, i, 2);
+                }
+            }
+        }
+        Arrays.sort(chaves, 0, total);
+
+        int distintas = 0;
+        for (int i = 0; i < total; i++) {
+            if (i == 0 || chaves[i] != chaves[i - 1]) {
+                chaves[distintas++] = chaves[i];
+            }
+        }
+        return Arrays.copyOf(chaves, distintas);
+    }
+
+    // Unigrama ou bigrama com o tamanho nos bits 60+, acima das posições de âncora dos trigramas (bits 48 a 51)
+    private static long curta(String texto, int inicio, int tamanho) {
+        long chave = (long) tamanho << 60;
+        for (int i = 0; i < tamanho; i++) {
+            chave |= (long) texto.charAt(inicio + i) << (16 * (tamanho - 1 - i));
+        }
+        return chave;
+    }
+
+    // Nome e ID por posição, o mapa de ID para posição e as listas de posições por chave
+    private static final class Estrutura {
+
+        private String[] nomes = new String[1024];
+        private long[] ids = new long[1024];
+        private final Posicoes posicoes = new Posicoes();
+        private final Map<Long, Postagens> postagens = new HashMap<>();
+        private int proxima;
+        private int quantidade;
+        private int mortas;
+
+        String nome(long id) {
+            int posicao = posicoes.obter(id);
+            return posicao < 0 ? null : nomes[posicao];
+        }
+
+        // Cadastra ou troca o nome; quem já está no índice mantém a posição
+        void adicionar(long id, String nome) {
+            int posicao = posicoes.obter(id);
+            if (posicao < 0) {
+                if (proxima == nomes.length) {
+                    nomes = Arrays.copyOf(nomes, proxima * 2);
+                    ids = Arrays.copyOf(ids, proxima * 2);
+                }
+                posicao = proxima++;
+                posicoes.colocar(id, posicao);
+                ids[posicao] = id;
+                quantidade++;
+            } else {
+                desindexar(posicao);
+            }
+            nomes[posicao] = nome;
+            for (long chave : chaves(INICIO + nome + FIM, true, true, true)) {
+                postagens.computeIfAbsent(chave, c -> new Postagens()).adicionar(posicao);
+            }
+        }
+
+        void remover(long id) {
+            int posicao = posicoes.remover(id);
+            if (posicao < 0) {
+                return;
+            }
+            desindexar(posicao);
+            nomes[posicao] = null;
+            quantidade--;
+            mortas++;
+        }
+
+        // Mesma ordem, sem as posições de removidos
+        Estrutura compactada() {
+            Estrutura nova = new Estrutura();
+            for (int posicao = 0; posicao < proxima; posicao++) {
+                if (nomes[posicao] != null) {
+                    nova.adicionar(ids[posicao], nomes[posicao]);
+                }
+            }
+            return nova;
+        }
+
+        private void desindexar(int posicao) {
+            for (long chave : chaves(INICIO + nomes[posicao] + FIM, true, true, true)) {
+                Postagens lista = postagens.get(chave);
+                if (lista != null && lista.remover(posicao) && lista.tamanho == 0) {
+                    postagens.remove(chave);
+                }
+            }
+        }
+
+        // Listas das chaves, da menor para a maior; vazio se alguma chave não aparece em nenhum nome
+        Postagens[] listas(long[] chaves) {
+            Postagens[] listas = new Postagens[chaves.length];
+            for (int i = 0; i < chaves.length; i++) {
+                listas[i] = postagens.get(chaves[i]);
+                if (listas[i] == null) {
+                    return new Postagens[0];
+                }
+            }
+            Arrays.sort(listas, Comparator.comparingInt(lista -> lista.tamanho));
+            return listas;
+        }
+    }
+
+    // ID -> posição em endereçamento aberto com sondagem linear: sem boxing por usuário
+    private static final class Posicoes {
+
+        private static final long VAZIO = Long.MIN_VALUE;
+
+        private long[] chaves = vazio(16);
+        private int[] valores = new int[16];
+        private int tamanho;
+
+        int obter(long id) {
+            int mascara = chaves.length - 1;
+            for (int i = indice(id, mascara); chaves[i] != VAZIO; i = (i + 1) & mascara) {
+                if (chaves[i] == id) {
+                    return valores[i];
+                }
+            }
+            return -1;
+        }
+
+        void colocar(long id, int posicao) {
+            if ((tamanho + 1) * 2 > chaves.length) {
+                crescer();
+            }
+            int mascara = chaves.length - 1;
+            int i = indice(id, mascara);
+            while (chaves[i] != VAZIO && chaves[i] != id) {
+                i = (i + 1) & mascara;
+            }
+            if (chaves[i] == VAZIO) {
+                tamanho++;
+            }
+            chaves[i] = id;
+            valores[i] = posicao;
+        }
+
+        int remover(long id) {
+            int mascara = chaves.length - 1;
+            int i = indice(id, mascara);
+            while (chaves[i] != id) {
+                if (chaves[i] == VAZIO) {
+                    return -1;
+                }
+                i = (i + 1) & mascara;
+            }
+            int posicao = valores[i];
+
+            // Sem lápide: quem está depois do buraco e pode ocupá-lo volta uma casa
+            for (int j = (i + 1) & mascara; chaves[j] != VAZIO; j = (j + 1) & mascara) {
+                int ideal = indice(chaves[j], mascara);
+                boolean fica = i <= j ? i < ideal && ideal <= j : i < ideal || ideal <= j;
+                if (!fica) {
+                    chaves[i] = chaves[j];
+                    valores[i] = valores[j];
+                    i = j;
+                }
+            }
+            chaves[i] = VAZIO;
+            tamanho--;
+            return posicao;
+        }
+
+        private void crescer() {
+            long[] antigasChaves = chaves;
+            int[] antigosValores = valores;
+            chaves = vazio(antigasChaves.length * 2);
+            valores = new int[antigasChaves.length * 2];
+            tamanho = 0;
+            for (int i = 0; i < antigasChaves.length; i++) {
+                if (antigasChaves[i] != VAZIO) {
+                    colocar(antigasChaves[i], antigosValores[i]);
+                }
+            }
+        }
+
+        private static int indice(long id, int mascara) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mascara;
+        }
+
+        private static long[] vazio(int capacidade) {
+            long[] chaves = new long[capacidade];
+            Arrays.fill(chaves, VAZIO);
+            return chaves;
+        }
+    }
+
+    // Posições de uma chave em ordem crescente; a carga inicial e os cadastros novos só acrescentam no fim
+    private static final class Postagens {
+
+        private int[] posicoes = new int[4];
+        private int tamanho;
+
+        void adicionar(int posicao) {
+            int destino = tamanho;
+            if (tamanho > 0 && posicoes[tamanho - 1] >= posicao) {
+                destino = Arrays.binarySearch(posicoes, 0, tamanho, posicao);
+                if (destino >= 0) {
+                    return;
+                }
+                destino = -destino - 1;
+            }
+            if (tamanho == posicoes.length) {
+                posicoes = Arrays.copyOf(posicoes, tamanho * 2);
+            }
+            System.arraycopy(posicoes, destino, posicoes, destino + 1, tamanho - destino);
+            posicoes[destino] = posicao;
+            tamanho++;
+        }
+
+        boolean remover(int posicao) {
+            int encontrada = Arrays.binarySearch(posicoes, 0, tamanho, posicao);
+            if (encontrada < 0) {
+                return false;
+            }
+            System.arraycopy(posicoes, encontrada + 1, posicoes, encontrada, tamanho - encontrada - 1);
+            tamanho--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.configuration.transacao.AposCommit;
+import com.techchallenge.domain.usuario.dto.UsuarioVersaoDTO;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versão do perfil (nome, endereço) dos usuários alterados dentro da validade de um token. O token leva a versão
+ * do perfil na emissão; se o usuário não aparece aqui ou a versão não avançou, o perfil do token ainda vale.
+ * A versão é o {@code @Version} do usuário, que sobe a cada gravação, mesmo duas no mesmo segundo. Alterações deste
+ * nó entram após o commit; as de outros nós, pela sincronização periódica. Entradas alteradas há mais que a validade
+ * do token são descartadas.
+ * <p>
+ * Remoções só valem no nó que removeu: a sincronização lê usuários existentes e não enxerga a linha apagada. Nos
+ * outros nós o {@code /me} de um token do usuário removido segue com o perfil do token até ele expirar, como o
+ * próprio token segue aceito nos demais endpoints.
+ */
+@Component
+public class UsuarioPerfilVersoes {
+
+    private static final Logger log = LoggerFactory.getLogger(UsuarioPerfilVersoes.class);
+
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+
+    private final UsuarioRepository repository;
+    private final Duration validadeToken;
+    private final Map<Long, Entrada> versoes = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public UsuarioPerfilVersoes(UsuarioRepository repository,
+                                @Value("${app.auth.jwtExpirationMs}") long jwtExpirationMs) {
+        this.repository = repository;
+        this.validadeToken = Duration.ofMillis(jwtExpirationMs);
+    }
+
+    public static long versao(Long versao) {
+        return versao == null ? 0L : versao;
+    }
+
+    public boolean atual(Long id, long versaoToken) {
+        Entrada entrada = versoes.get(id);
+        return entrada == null || entrada.versao() <= versaoToken;
+    }
+
+    /** Deve ser chamado depois de gravar o usuário; a versão é lida após o commit, quando o flush já a incrementou. */
+    public void registrar(Usuario usuario) {
+        AposCommit.executar(() -> aplicar(usuario.getId(), versao(usuario.getVersao()), LocalDateTime.now()));
+    }
+
+    /** Usuário removido: todo token emitido antes cai no banco (neste nó). */
+    public void remover(Long id) {
+        AposCommit.executar(() -> aplicar(id, Long.MAX_VALUE, LocalDateTime.now()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.usuario.perfilSincronizacaoMs:30000}",
+            fixedDelayString = "${app.usuario.perfilSincronizacaoMs:30000}")
+    public synchronized void sincronizar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        LocalDateTime desde = ultimaSincronizacao == null
+                ? inicio.minus(validadeToken)
+                : ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO);
+
+        List<UsuarioVersaoDTO> alterados = repository.findVersaoAtualizadoDesde(desde);
+        alterados.forEach(usuario -> aplicar(usuario.id(), versao(usuario.versao()),
+                usuario.ultimaAtualizacao() != null ? usuario.ultimaAtualizacao() : inicio));
+
+        LocalDateTime expirado = inicio.minus(validadeToken).minus(MARGEM_SINCRONIZACAO);
+        versoes.values().removeIf(entrada -> entrada.alteradoEm().isBefore(expirado));
+        ultimaSincronizacao = inicio;
+
+        if (!alterados.isEmpty()) {
+            log.info("🔄 Versões de perfil sincronizadas: {} usuários alterados, {} em memória",
+                    alterados.size(), versoes.size());
+        }
+    }
+
+    int tamanho() {
+        return versoes.size();
+    }
+
+    private void aplicar(Long id, long versao, LocalDateTime alteradoEm) {
+        versoes.merge(id, new Entrada(versao, alteradoEm),
+                (atual, nova) -> nova.versao() > atual.versao() ? nova : atual);
+    }
+
+    private record Entrada(long versao, LocalDateTime alteradoEm) {
+    }
+}
@@ -1,21 +1,35 @@
 package com.techchallenge.domain.usuario.service;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
+import com.techchallenge.configuration.paginacao.Paginacao;
 import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
-import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.tipousuario.service.TipoUsuarioDicionario;
 import com.techchallenge.domain.usuario.exception.InvalidRoleException;
 import com.techchallenge.domain.usuario.dto.*;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import com.techchallenge.domain.usuario.factory.UsuarioFactory;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class UsuarioService {
@@ -24,27 +38,82 @@ public class UsuarioService {
 
     private final UsuarioRepository repository;
 
-    private final PasswordEncoder passwordEncoder;
+    private final SenhaExecutor senhaExecutor;
 
-    private final TipoUsuarioRepository tipoUsuarioRepository;
+    private final TipoUsuarioDicionario tipoUsuarioDicionario;
+
+    private final UsuarioNomeIndice nomeIndice;
+
+    private final UsuarioPerfilVersoes perfilVersoes;
+
+    private final UsuarioEmailFiltro emailFiltro;
+
+    private final Paginacao paginacao;
+    private final ExportadorNdjson exportador;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
     public UsuarioService(UsuarioRepository repository,
-                          PasswordEncoder passwordEncoder,
-                          TipoUsuarioRepository tipoUsuarioRepository) {
+                          SenhaExecutor senhaExecutor,
+                          TipoUsuarioDicionario tipoUsuarioDicionario,
+                          UsuarioNomeIndice nomeIndice,
+                          UsuarioPerfilVersoes perfilVersoes,
+                          UsuarioEmailFiltro emailFiltro,
+                          Paginacao paginacao,
+                          ExportadorNdjson exportador) {
         this.repository = repository;
-        this.passwordEncoder = passwordEncoder;
-        this.tipoUsuarioRepository = tipoUsuarioRepository;
+        this.senhaExecutor = senhaExecutor;
+        this.tipoUsuarioDicionario = tipoUsuarioDicionario;
+        this.nomeIndice = nomeIndice;
+        this.perfilVersoes = perfilVersoes;
+        this.emailFiltro = emailFiltro;
+        this.paginacao = paginacao;
+        this.exportador = exportador;
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<UsuarioResponseDTO> listarPagina(Integer limit, String cursor) {
+
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+
+        log.info("📌 Listando página de usuários após ID {} (limite {})", afterId, limite);
+
+        return paginacao.montar(repository.findResponsePage(afterId, Limit.of(limite + 1)),
+                limite, UsuarioResponseDTO::id);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<RegistroParcial> listarPaginaParcial(Integer limit, String cursor, String fields) {
+
+        int limite = paginacao.resolverLimite(limit);
+        long afterId = paginacao.resolverCursor(cursor);
+        var selecao = UsuarioRepository.PROJECAO.selecionar(fields);
+
+        log.info("📌 Listando página de usuários após ID {} (limite {}, campos {})", afterId, limite, fields);
+
+        return paginacao.montar(selecao.pagina(entityManager, afterId, limite + 1), limite, RegistroParcial::id);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream out) throws IOException {
+        log.info("📌 Exportando usuários em NDJSON...");
+
+        try (Stream<UsuarioResponseDTO> registros = repository.streamResponse()) {
+            long total = exportador.escrever(registros, out);
+            log.info("📄 {} usuários exportados.", total);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<UsuarioResponseDTO> listarTodos() {
 
         log.info("📌 Iniciando listagem de todos os usuários...");
 
-        List<UsuarioResponseDTO> lista = repository.findAll()
-                .stream()
-                .map(UsuarioFactory::toResponseDTO)
-                .toList();
+        List<UsuarioResponseDTO> lista = paginacao.validarListagemCompleta(
+                repository.findResponsePage(0L, Limit.of(paginacao.limiteListagemCompleta() + 1)));
 
         log.info("📄 {} usuários encontrados.", lista.size());
 
@@ -55,8 +124,14 @@ public class UsuarioService {
 
         log.info("🔍 Buscando usuário pelo Email: {}", email);
 
+        if (!emailFiltro.talvezCadastrado(email)) {
+            log.warn("❌ Email {} não cadastrado (filtro)", email);
+            throw new EntityNotFoundException("Usuário não encontrado");
+        }
+
         Usuario usuario = repository.findByEmail(email)
                 .orElseThrow(() -> {
+                    emailFiltro.falsoPositivo();
                     log.warn("❌ Usuário com ID {} não encontrado!", email);
                     return new EntityNotFoundException("Usuário não encontrado");
                 });
@@ -66,22 +141,36 @@ public class UsuarioService {
         return usuario;
     }
 
+    @Transactional(readOnly = true)
     public UsuarioResponseDTO buscarPorId(Long id) {
 
         log.info("🔍 Buscando usuário pelo ID: {}", id);
 
-        Usuario usuario = repository.findById(id)
+        UsuarioResponseDTO usuario = repository.findResponseById(id)
                 .orElseThrow(() -> {
                     log.warn("❌ Usuário com ID {} não encontrado!", id);
                     return new EntityNotFoundException("Usuário não encontrado");
                 });
 
-        log.info("✔ Usuário encontrado: {}", usuario.getEmail());
+        log.info("✔ Usuário encontrado: {}", usuario.email());
 
-        return UsuarioFactory.toResponseDTO(usuario);
+        return usuario;
     }
 
-    public List<UsuarioResponseDTO> buscarPorNome(String nome) {
+    @Transactional(readOnly = true)
+    public RegistroParcial buscarPorIdParcial(Long id, String fields) {
+
+        log.info("🔍 Buscando usuário pelo ID: {} (campos {})", id, fields);
+
+        return UsuarioRepository.PROJECAO.selecionar(fields).porId(entityManager, id)
+                .orElseThrow(() -> {
+                    log.warn("❌ Usuário com ID {} não encontrado!", id);
+                    return new EntityNotFoundException("Usuário não encontrado");
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public List<UsuarioResponseDTO> buscarPorNome(String nome, Integer limit) {
 
         log.info("🔎 Buscando usuários pelo nome contendo: {}", nome);
 
@@ -90,16 +179,36 @@ public class UsuarioService {
             throw new IllegalArgumentException("O parâmetro 'nome' é obrigatório.");
         }
 
-        List<UsuarioResponseDTO> usuarios = repository.findByNomeContainingIgnoreCase(nome.trim())
-                .stream()
-                .map(UsuarioFactory::toResponseDTO)
-                .toList();
+        List<Long> ids = nomeIndice.buscar(nome, paginacao.resolverLimite(limit));
+        if (ids.isEmpty()) {
+            log.info("✅ 0 usuários encontrados para o nome: {}", nome);
+            return List.of();
+        }
+
+        // O índice dá os IDs já ordenados por relevância; o banco só completa os dados pela chave primária
+        Map<Long, UsuarioResponseDTO> porId = new HashMap<>();
+        repository.findResponseByIdIn(ids).forEach(usuario -> porId.put(usuario.id(), usuario));
+
+        List<UsuarioResponseDTO> usuarios = new ArrayList<>(ids.size());
+        List<Long> ausentes = new ArrayList<>();
+        for (Long id : ids) {
+            UsuarioResponseDTO usuario = porId.get(id);
+            if (usuario != null) {
+                usuarios.add(usuario);
+            } else {
+                ausentes.add(id);
+            }
+        }
+        if (!ausentes.isEmpty()) {
+            nomeIndice.descartar(ausentes);
+        }
 
         log.info("✅ {} usuários encontrados para o nome: {}", usuarios.size(), nome);
 
         return usuarios;
     }
 
+    @Transactional(readOnly = true)
     public List<UsuarioResponseDTO> buscarPorTipo(Long tipoUsuarioId) {
 
         log.info("🔎 Buscando usuários pelo tipo ID: {}", tipoUsuarioId);
@@ -109,19 +218,17 @@ public class UsuarioService {
             throw new IllegalArgumentException("O parâmetro 'tipoUsuarioId' é obrigatório.");
         }
 
-        tipoUsuarioRepository.findById(tipoUsuarioId)
+        tipoUsuarioDicionario.buscarPorId(tipoUsuarioId)
                 .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
 
-        List<UsuarioResponseDTO> usuarios = repository.findByTipoUsuarioId(tipoUsuarioId)
-                .stream()
-                .map(UsuarioFactory::toResponseDTO)
-                .toList();
+        List<UsuarioResponseDTO> usuarios = repository.findResponseByTipoUsuarioId(tipoUsuarioId);
 
         log.info("✅ {} usuários encontrados para o tipo ID: {}", usuarios.size(), tipoUsuarioId);
 
         return usuarios;
     }
 
+    @Transactional(readOnly = true)
     public List<UsuarioResponseDTO> buscarPorTipoNome(String tipoNome) {
 
         log.info("🔎 Buscando usuários pelo tipo nome: {}", tipoNome);
@@ -131,13 +238,10 @@ public class UsuarioService {
             throw new IllegalArgumentException("O parâmetro 'tipoNome' é obrigatório.");
         }
 
-        TipoUsuario tipoUsuario = tipoUsuarioRepository.findByNomeIgnoreCase(tipoNome.trim())
+        TipoUsuario tipoUsuario = tipoUsuarioDicionario.buscarPorNome(tipoNome.trim())
                 .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
 
-        List<UsuarioResponseDTO> usuarios = repository.findByTipoUsuarioId(tipoUsuario.getId())
-                .stream()
-                .map(UsuarioFactory::toResponseDTO)
-                .toList();
+        List<UsuarioResponseDTO> usuarios = repository.findResponseByTipoUsuarioId(tipoUsuario.getId());
 
         log.info("✅ {} usuários encontrados para o tipo nome: {}", usuarios.size(), tipoNome);
 
@@ -149,13 +253,14 @@ public class UsuarioService {
 
         log.info("📝 Criando novo usuário com email: {}", dto.email());
 
+        // Sem o atalho do filtro: um email cadastrado em outro nó só chega nele na sincronização, e o cadastro é raro
         if (repository.existsByEmail(dto.email())) {
             log.warn("⚠ Tentativa de criar usuário com email já existente: {}", dto.email());
             throw new IllegalArgumentException("Email já está em uso.");
         }
 
         Usuario novo = UsuarioFactory.fromCreateDTO(dto);
-        novo.setSenha(passwordEncoder.encode(dto.senha()));
+        novo.setSenha(senhaExecutor.codificar(dto.senha()));
 
         TipoUsuario tipoUsuario = resolveTipoUsuario(dto.tipoUsuarioId());
         if (tipoUsuario != null) {
@@ -163,6 +268,8 @@ public class UsuarioService {
         }
 
         Usuario salvo = repository.save(novo);
+        nomeIndice.registrar(salvo.getId(), salvo.getNome());
+        emailFiltro.registrar(salvo.getEmail());
 
         log.info("✅ Usuário criado com sucesso! ID: {}, Email: {}", salvo.getId(), salvo.getEmail());
 
@@ -182,6 +289,9 @@ public class UsuarioService {
         UsuarioFactory.applyUpdate(usuario, dto);
 
         Usuario atualizado = repository.save(usuario);
+        nomeIndice.registrar(atualizado.getId(), atualizado.getNome());
+        perfilVersoes.registrar(atualizado);
+        emailFiltro.registrar(atualizado.getEmail());
 
         log.info("✔ Usuário atualizado: ID {}, Email {}", atualizado.getId(), atualizado.getEmail());
 
@@ -216,7 +326,7 @@ public class UsuarioService {
         Usuario usuario = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
 
-        TipoUsuario tipoUsuario = tipoUsuarioRepository.findById(tipoUsuarioId)
+        TipoUsuario tipoUsuario = tipoUsuarioDicionario.buscarPorId(tipoUsuarioId)
                 .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
 
         usuario.setTipoUsuario(tipoUsuario);
@@ -244,7 +354,7 @@ public class UsuarioService {
         Usuario usuario = repository.findByEmail(email.trim())
                 .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
 
-        TipoUsuario tipoUsuario = tipoUsuarioRepository.findById(tipoUsuarioId)
+        TipoUsuario tipoUsuario = tipoUsuarioDicionario.buscarPorId(tipoUsuarioId)
                 .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
 
         usuario.setTipoUsuario(tipoUsuario);
@@ -265,20 +375,30 @@ public class UsuarioService {
                     return new EntityNotFoundException("Usuário não encontrado");
                 });
 
-        boolean senhaOk = passwordEncoder.matches(dto.senhaAtual(), usuario.getSenha());
+        boolean senhaOk = senhaExecutor.conferir(dto.senhaAtual(), usuario.getSenha());
 
         if (!senhaOk) {
             log.warn("❌ Senha atual inválida para usuário {}", usuario.getEmail());
             throw new IllegalArgumentException("Senha atual incorreta");
         }
 
-        UsuarioFactory.applySenhaUpdate(usuario, passwordEncoder.encode(dto.novaSenha()));
+        UsuarioFactory.applySenhaUpdate(usuario, senhaExecutor.codificar(dto.novaSenha()));
 
         repository.save(usuario);
 
         log.info("✔ Senha atualizada com sucesso para o usuário {}", usuario.getEmail());
     }
 
+    @Transactional
+    public boolean atualizarHashSenha(Long id, String hashAnterior, String novoHash) {
+
+        boolean atualizado = repository.atualizarHashSenha(id, hashAnterior, novoHash) > 0;
+
+        log.info("🔁 Hash de senha do usuário ID {} {}", id, atualizado ? "atualizado" : "já tinha sido alterado");
+
+        return atualizado;
+    }
+
 
     public void deletar(Long id) {
 
@@ -290,18 +410,20 @@ public class UsuarioService {
         }
 
         repository.deleteById(id);
+        nomeIndice.remover(id);
+        perfilVersoes.remover(id);
 
         log.info("🗑✔ Usuário ID {} deletado com sucesso!", id);
     }
 
     private TipoUsuario resolveTipoUsuario(Long tipoUsuarioId) {
         if (tipoUsuarioId != null) {
-            return tipoUsuarioRepository.findById(tipoUsuarioId)
+            return tipoUsuarioDicionario.buscarPorId(tipoUsuarioId)
                     .orElseThrow(() -> new EntityNotFoundException("Tipo de usuário não encontrado"));
         }
 
-        return tipoUsuarioRepository.findByNomeIgnoreCase("Cliente")
-                .or(() -> tipoUsuarioRepository.findByNomeIgnoreCase("CLIENT"))
+        return tipoUsuarioDicionario.buscarPorNome("Cliente")
+                .or(() -> tipoUsuarioDicionario.buscarPorNome("CLIENT"))
                 .orElse(null);
     }
 }
@@ -0,0 +1,151 @@
+package com.techchallenge;
+
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.cardapio.entity.ItemCardapio;
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
+import com.techchallenge.domain.cardapio.service.ItemCardapioService;
+import com.techchallenge.domain.restaurante.entity.Restaurante;
+import com.techchallenge.domain.restaurante.service.RestauranteService;
+import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
+import com.techchallenge.domain.tipousuario.service.TipoUsuarioDicionario;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.security.SecurityBeansConfig;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
+import com.techchallenge.domain.usuario.service.UsuarioEmailFiltro;
+import com.techchallenge.domain.usuario.service.UsuarioNomeIndice;
+import com.techchallenge.domain.usuario.service.UsuarioPerfilVersoes;
+import com.techchallenge.domain.usuario.service.UsuarioService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureJson
+@Import({UsuarioService.class, RestauranteService.class, ItemCardapioService.class, SecurityBeansConfig.class,
+        SenhaExecutor.class, SimpleMeterRegistry.class, Paginacao.class, ExportadorNdjson.class,
+        TipoUsuarioDicionario.class, UsuarioNomeIndice.class, UsuarioPerfilVersoes.class,
+        UsuarioEmailFiltro.class, CardapioSnapshots.class})
+class ListagemQueryCountIntegrationTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ItemCardapioService itemCardapioService;
+
+    private Statistics statistics;
+    private int sequencia;
+
+    @BeforeEach
+    void setup() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void listarUsuariosUsaNumeroConstanteDeQueries() {
+        semear(1);
+        long comPoucos = contarQueries(() -> usuarioService.listarTodos());
+
+        semear(20);
+        long comMuitos = contarQueries(() -> usuarioService.listarTodos());
+
+        assertThat(comPoucos).isEqualTo(1);
+        assertThat(comMuitos).isEqualTo(comPoucos);
+    }
+
+    @Test
+    void listarRestaurantesUsaNumeroConstanteDeQueries() {
+        semear(1);
+        long comPoucos = contarQueries(() -> restauranteService.listarTodos());
+
+        semear(20);
+        long comMuitos = contarQueries(() -> restauranteService.listarTodos());
+
+        assertThat(comPoucos).isEqualTo(1);
+        assertThat(comMuitos).isEqualTo(comPoucos);
+    }
+
+    @Test
+    void listarItensUsaNumeroConstanteDeQueries() {
+        semear(1);
+        long comPoucos = contarQueries(() -> itemCardapioService.listarTodos());
+
+        semear(20);
+        long comMuitos = contarQueries(() -> itemCardapioService.listarTodos());
+
+        assertThat(comPoucos).isEqualTo(1);
+        assertThat(comMuitos).isEqualTo(comPoucos);
+    }
+
+    private long contarQueries(Supplier<?> listagem) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        listagem.get();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void semear(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            int n = sequencia++;
+
+            TipoUsuario tipo = new TipoUsuario();
+            tipo.setNome("Tipo " + n);
+            em.persist(tipo);
+
+            Usuario dono = new Usuario();
+            dono.setNome("Dono " + n);
+            dono.setEmail("dono" + n + "@tech.com");
+            dono.setSenha("123456");
+            dono.setEndereco("Rua " + n);
+            dono.setUltimaAtualizacao(LocalDateTime.now());
+            dono.setRole(UsuarioRole.DONO);
+            dono.setTipoUsuario(tipo);
+            em.persist(dono);
+
+            Restaurante restaurante = new Restaurante();
+            restaurante.setNome("Restaurante " + n);
+            restaurante.setEndereco("Av " + n);
+            restaurante.setTipoCozinha("Italiana");
+            restaurante.setHorarioFuncionamento("Seg-Dom 11:00-22:00");
+            restaurante.setDono(dono);
+            em.persist(restaurante);
+
+            ItemCardapio item = new ItemCardapio();
+            item.setNome("Item " + n);
+            item.setDescricao("Descricao " + n);
+            item.setPreco(new BigDecimal("10.00"));
+            item.setSomenteNoRestaurante(false);
+            item.setFotoPath("/imagens/" + n + ".jpg");
+            item.setRestaurante(restaurante);
+            em.persist(item);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.techchallenge.configuration.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiltroBloomTest {
+
+    @Test
+    void valorAdicionadoNuncaDaFalsoNegativo() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("jti-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.talvezContenha("jti-" + i));
+        }
+    }
+
+    @Test
+    void taxaDeFalsoPositivoFicaPertoDaConfigurada() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("dentro-" + i);
+        }
+
+        int falsos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.talvezContenha("fora-" + i)) {
+                falsos++;
+            }
+        }
+
+        assertTrue(falsos < 2_000, "falsos positivos: " + falsos);
+    }
+
+    @Test
+    void filtroVazioNaoContemNada() {
+        FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+        assertFalse(filtro.talvezContenha("qualquer"));
+    }
+
+    @Test
+    void parametrosInvalidosSaoRejeitados() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(100, 1.0));
+    }
+
+    @Test
+    void taxaEstimadaAcompanhaOPreenchimento() {
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+        assertEquals(0.0, filtro.taxaFalsoPositivoEstimada());
+
+        for (int i = 0; i < 1_000; i++) {
+            filtro.adicionar("email-" + i);
+        }
+
+        double estimada = filtro.taxaFalsoPositivoEstimada();
+        assertTrue(estimada > 0.005 && estimada < 0.02, "estimada: " + estimada);
+    }
+}
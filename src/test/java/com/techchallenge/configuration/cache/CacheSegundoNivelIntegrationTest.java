@@ -0,0 +1,148 @@
+package com.techchallenge.configuration.cache;
+
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
+import com.techchallenge.domain.cardapio.service.ItemCardapioService;
+import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
+import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
+import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import com.techchallenge.domain.restaurante.service.RestauranteService;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem a transação do teste: o cache só é preenchido e invalidado no commit de cada operação
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CacheSegundoNivelConfig.class, RestauranteService.class, ItemCardapioService.class,
+        SimpleMeterRegistry.class, Paginacao.class, ExportadorNdjson.class, CardapioSnapshots.class})
+class CacheSegundoNivelIntegrationTest {
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ItemCardapioService itemCardapioService;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private ItemCardapioRepository itemCardapioRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Usuario dono;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        dono = usuarioRepository.save(Usuario.builder()
+                .nome("Dono")
+                .email("dono@tech.com")
+                .senha("123456")
+                .endereco("Rua A")
+                .role(UsuarioRole.DONO)
+                .ultimaAtualizacao(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void limpar() {
+        itemCardapioRepository.deleteAll();
+        restauranteRepository.deleteAll();
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    void buscarPorIdRepetidoNaoVaiAoBanco() {
+        Long id = criarRestaurante("Cantina").id();
+
+        restauranteService.buscarPorId(id);
+        statistics.clear();
+        RestauranteResponseDTO segunda = restauranteService.buscarPorId(id);
+
+        assertEquals("Cantina", segunda.nome());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", CacheSegundoNivelConfig.RESTAURANTE_CONSULTAS)
+                .tag("result", "hit").functionCounter().count() >= 1);
+        assertTrue(meterRegistry.get("cache.taxa.acerto").tag("cache", CacheSegundoNivelConfig.RESTAURANTE_CONSULTAS)
+                .gauge().value() > 0);
+    }
+
+    @Test
+    void atualizarInvalidaRestauranteEItensQueMostramONome() {
+        Long id = criarRestaurante("Cantina").id();
+        Long itemId = itemCardapioService.criar(new ItemCardapioCreateDTO(
+                "Lasanha", "Bolonhesa", new BigDecimal("39.90"), false, "/img/lasanha.jpg", id)).id();
+        restauranteService.buscarPorId(id);
+        itemCardapioService.buscarPorId(itemId);
+
+        restauranteService.atualizar(id, new RestauranteUpdateDTO(
+                "Cantina Nova", "Rua B", "Italiana", "18h-23h", dono.getId()));
+
+        assertEquals("Cantina Nova", restauranteService.buscarPorId(id).nome());
+        assertEquals("Cantina Nova", itemCardapioService.buscarPorId(itemId).restauranteNome());
+    }
+
+    @Test
+    void deletarInvalidaBuscaPorId() {
+        Long id = criarRestaurante("Cantina").id();
+        restauranteService.buscarPorId(id);
+
+        restauranteService.deletar(id);
+
+        assertThrows(EntityNotFoundException.class, () -> restauranteService.buscarPorId(id));
+    }
+
+    @Test
+    void buscaPorNomeUsaCacheDeConsulta() {
+        criarRestaurante("Cantina");
+        restauranteRepository.findByNomeIgnoreCase("cantina");
+
+        statistics.clear();
+        boolean encontrado = restauranteRepository.findByNomeIgnoreCase("cantina").isPresent();
+
+        assertTrue(encontrado);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    private RestauranteResponseDTO criarRestaurante(String nome) {
+        return restauranteService.criar(new RestauranteCreateDTO(nome, "Rua A", "Italiana", "11h-22h", dono.getId()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.techchallenge.configuration.campos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjecaoTest {
+
+    private static final Projecao PROJECAO = Projecao.de("ItemCardapio i", "i.id", "i.versao")
+            .juncao("left join i.restaurante r")
+            .interno("restauranteId", "i.restaurante.id")
+            .campo("id", "i.id")
+            .campo("nome", "i.nome")
+            .campo("preco", "i.preco")
+            .campoDaJuncao("restauranteNome", "r.nome")
+            .construir();
+
+    @Test
+    void consultaLevaSoOsCamposPedidosSemJuncao() {
+        Selecao selecao = PROJECAO.selecionar("nome");
+
+        assertEquals("select i.id, i.versao, i.restaurante.id, i.nome from ItemCardapio i where i.id = :id",
+                selecao.jpql("where i.id = :id"));
+    }
+
+    @Test
+    void campoDaJuncaoIncluiAJuncao() {
+        Selecao selecao = PROJECAO.selecionar("restauranteNome");
+
+        assertTrue(selecao.jpql("").contains("left join i.restaurante r"));
+    }
+
+    @Test
+    void campoDesconhecidoOuVazioLancaExcecao() {
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+                () -> PROJECAO.selecionar("nome,senha"));
+
+        assertTrue(erro.getMessage().contains("'senha'"));
+        assertTrue(erro.getMessage().contains("[id, nome, preco, restauranteNome]"));
+        assertThrows(IllegalArgumentException.class, () -> PROJECAO.selecionar(" , "));
+        assertThrows(IllegalArgumentException.class, () -> PROJECAO.selecionar(null));
+    }
+
+    @Test
+    void respostaSegueAOrdemDoDtoSemRepetirEIgnoraInternos() throws Exception {
+        RegistroParcial registro = PROJECAO.selecionar("preco,id,preco")
+                .montar(new Object[]{7L, 2L, 3L, 7L, 19.9});
+
+        assertEquals(List.of("id", "preco"), List.copyOf(registro.campos().keySet()));
+        assertEquals(3L, registro.interno("restauranteId"));
+        assertEquals("{\"id\":7,\"preco\":19.9}", new ObjectMapper().writeValueAsString(registro));
+    }
+
+    @Test
+    void hashMudaComCamposVersaoEJuncao() {
+        long base = PROJECAO.selecionar("nome,restauranteNome")
+                .montar(new Object[]{1L, 0L, 3L, "Lasanha", "Cantina"}).hashVersao();
+
+        assertEquals(base, PROJECAO.selecionar("nome,restauranteNome")
+                .montar(new Object[]{1L, 0L, 3L, "Lasanha", "Cantina"}).hashVersao());
+        assertNotEquals(base, PROJECAO.selecionar("nome,restauranteNome")
+                .montar(new Object[]{1L, 1L, 3L, "Lasanha", "Cantina"}).hashVersao());
+        assertNotEquals(base, PROJECAO.selecionar("nome,restauranteNome")
+                .montar(new Object[]{1L, 0L, 3L, "Lasanha", "Cantina Nova"}).hashVersao());
+        assertNotEquals(base, PROJECAO.selecionar("restauranteNome,nome,id")
+                .montar(new Object[]{1L, 0L, 3L, 1L, "Lasanha", "Cantina"}).hashVersao());
+    }
+
+    @Test
+    void semVersaoOHashCobreOsValores() {
+        Projecao tipos = Projecao.de("TipoUsuario t", "t.id", null).campo("nome", "t.nome").construir();
+
+        assertNotEquals(tipos.selecionar("nome").montar(new Object[]{1L, "Cliente"}).hashVersao(),
+                tipos.selecionar("nome").montar(new Object[]{1L, "Dono"}).hashVersao());
+    }
+
+    @Test
+    void campoDaJuncaoSemJuncaoDeclaradaFalhaNaConstrucao() {
+        assertThrows(IllegalStateException.class,
+                () -> Projecao.de("Restaurante r", "r.id", "r.versao").campoDaJuncao("donoNome", "d.nome"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.techchallenge.configuration.compressao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressaoRespostasTest {
+
+    private static final List<String> GRANDE = List.of("x".repeat(2000));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CompressaoRespostas compressao = new CompressaoRespostas(objectMapper, meterRegistry, 1024, 1 << 20);
+
+    @Test
+    void respostaComEtagForteSaiEmGzipComEtagFraco() throws IOException {
+        MockHttpServletResponse response = escrever(GRANDE, "\"abc\"", "gzip, deflate");
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertArrayEquals(objectMapper.writeValueAsBytes(GRANDE), gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void mesmoEtagEUrlReaproveitaOCorpo() throws IOException {
+        escrever(GRANDE, "\"abc\"", "gzip");
+        escrever(GRANDE, "\"abc\"", "gzip");
+        escrever(GRANDE, "\"def\"", "gzip");
+
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "compressao.corpos")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", "compressao.corpos")
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void abaixoDoMinimoVaiSemCompressao() throws IOException {
+        MockHttpServletResponse response = escrever(List.of("pequeno"), "\"abc\"", "gzip");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of("pequeno")), response.getContentAsByteArray());
+    }
+
+    @Test
+    void clienteSemGzipOuSemEtagSegueOFluxoNormal() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/restaurantes");
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        response.getHeaders().setETag("\"abc\"");
+
+        Object body = compressao.beforeBodyWrite(GRANDE, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), response);
+
+        assertSame(GRANDE, body);
+        assertTrue(response.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ServletServerHttpResponse semEtag = new ServletServerHttpResponse(new MockHttpServletResponse());
+        assertSame(GRANDE, compressao.beforeBodyWrite(GRANDE, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), semEtag));
+    }
+
+    @Test
+    void soAtuaNoConversorDoJackson() {
+        assertTrue(compressao.supports(null, MappingJackson2HttpMessageConverter.class));
+        assertFalse(compressao.supports(null, ByteArrayHttpMessageConverter.class));
+    }
+
+    @Test
+    void negociacaoDoAcceptEncoding() {
+        assertTrue(Compressao.aceitaGzip("br, gzip;q=0.8"));
+        assertTrue(Compressao.aceitaGzip("*"));
+        assertFalse(Compressao.aceitaGzip("gzip;q=0, identity"));
+        assertFalse(Compressao.aceitaGzip("br"));
+        assertFalse(Compressao.aceitaGzip(null));
+    }
+
+    private MockHttpServletResponse escrever(Object body, String etag, String acceptEncoding) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/restaurantes");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        response.getHeaders().setETag(etag);
+
+        Object restante = compressao.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), response);
+        response.flush();
+
+        assertNull(restante);
+        return servletResponse;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        return new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes();
+    }
+}
@@ -0,0 +1,77 @@
+package com.techchallenge.configuration.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource alvo;
+
+    @Mock
+    private Connection conexao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new BulkheadDataSource(alvo, 1, 50, meterRegistry);
+    }
+
+    @Test
+    void recusaQuandoTodasAsPermissoesEstaoEmUso() throws Exception {
+        when(alvo.getConnection()).thenReturn(conexao);
+
+        Connection primeira = dataSource.getConnection();
+
+        assertThrows(BulkheadSaturadoException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("db.bulkhead.rejeicoes").counter().count());
+
+        primeira.close();
+        assertNotNull(dataSource.getConnection());
+        verify(conexao).close();
+    }
+
+    @Test
+    void closeRepetidoDevolveAPermissaoUmaVez() throws Exception {
+        when(alvo.getConnection()).thenReturn(conexao);
+
+        Connection primeira = dataSource.getConnection();
+        primeira.close();
+        primeira.close();
+
+        dataSource.getConnection();
+        assertEquals(0, dataSource.disponiveis());
+    }
+
+    @Test
+    void falhaDoPoolDevolveAPermissao() throws Exception {
+        when(alvo.getConnection()).thenThrow(new SQLException("pool indisponível"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.disponiveis());
+    }
+
+    @Test
+    void demaisMetodosVaoParaAConexaoReal() throws Exception {
+        when(alvo.getConnection()).thenReturn(conexao);
+        when(conexao.getAutoCommit()).thenReturn(false);
+
+        assertFalse(dataSource.getConnection().getAutoCommit());
+    }
+}
@@ -0,0 +1,65 @@
+package com.techchallenge.configuration.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
+import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EtagsTest {
+
+    @Test
+    void mesmaVersaoMesmoEtagForte() {
+        String etag = Etags.de(restaurante(1L, 3L, "Joao"));
+
+        assertEquals(etag, Etags.de(restaurante(1L, 3L, "Joao")));
+        assertTrue(etag.matches("\"[0-9a-f]{16}\""));
+    }
+
+    @Test
+    void versaoOuCampoDaJuncaoMudaOEtag() {
+        String etag = Etags.de(restaurante(1L, 3L, "Joao"));
+
+        assertNotEquals(etag, Etags.de(restaurante(1L, 4L, "Joao")));
+        assertNotEquals(etag, Etags.de(restaurante(1L, 3L, "Maria")));
+    }
+
+    @Test
+    void partesNaoColidemPelaConcatenacao() {
+        assertNotEquals(Etags.hash("a", "bc"), Etags.hash("ab", "c"));
+        assertNotEquals(Etags.hash(null, "x"), Etags.hash("", "x"));
+    }
+
+    @Test
+    void listaDependeDaOrdemEDoConteudo() {
+        RestauranteResponseDTO a = restaurante(1L, 0L, "Joao");
+        RestauranteResponseDTO b = restaurante(2L, 0L, "Joao");
+
+        assertEquals(Etags.de(List.of(a, b)), Etags.de(List.of(a, b)));
+        assertNotEquals(Etags.de(List.of(a, b)), Etags.de(List.of(b, a)));
+        assertNotEquals(Etags.de(List.of(a, b)), Etags.de(List.of(a)));
+    }
+
+    @Test
+    void paginaIncluiOCursor() {
+        List<RestauranteResponseDTO> itens = List.of(restaurante(1L, 0L, "Joao"));
+
+        assertNotEquals(Etags.de(new PaginaDTO<>(itens, null)), Etags.de(new PaginaDTO<>(itens, "MQ")));
+    }
+
+    @Test
+    void versaoNaoVaiNoJson() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(restaurante(1L, 3L, "Joao"));
+
+        assertFalse(json.contains("versao"));
+        assertTrue(json.contains("\"donoNome\":\"Joao\""));
+    }
+
+    private static RestauranteResponseDTO restaurante(Long id, Long versao, String donoNome) {
+        return new RestauranteResponseDTO(id, "Cantina", "Rua A", "Italiana", "11h-22h", 2L, donoNome,
+                "dono@tech.com", versao);
+    }
+}
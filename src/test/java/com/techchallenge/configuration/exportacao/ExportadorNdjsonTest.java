@@ -0,0 +1,36 @@
+package com.techchallenge.configuration.exportacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportadorNdjsonTest {
+
+    private final ExportadorNdjson exportador = new ExportadorNdjson(new ObjectMapper());
+
+    record Registro(Long id, String nome) {}
+
+    @Test
+    void escreveUmObjetoPorLinha() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long total = exportador.escrever(Stream.of(new Registro(1L, "Ana"), new Registro(2L, "Bia")), out);
+
+        assertEquals(2, total);
+        assertEquals("{\"id\":1,\"nome\":\"Ana\"}\n{\"id\":2,\"nome\":\"Bia\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamVazioNaoEscreveNada() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportador.escrever(Stream.empty(), out));
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,115 @@
+package com.techchallenge.configuration.limite;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaldesDeTokensTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_000_000);
+
+    @Test
+    void baldeNovoComecaCheioEEsvaziaNaCapacidade() {
+        BaldesDeTokens baldes = new BaldesDeTokens(1024, 5, Duration.ofMinutes(1), relogio::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(baldes.consumir("10.0.0.1"));
+        }
+
+        assertFalse(baldes.consumir("10.0.0.1"));
+        assertFalse(baldes.disponivel("10.0.0.1"));
+        assertTrue(baldes.consumir("10.0.0.2"));
+    }
+
+    @Test
+    void reposicaoContinuaDevolveUmTokenPorFracaoDoPeriodo() {
+        BaldesDeTokens baldes = new BaldesDeTokens(1024, 6, Duration.ofMinutes(1), relogio::get);
+        for (int i = 0; i < 6; i++) {
+            baldes.consumir("ip");
+        }
+
+        assertEquals(10_000, baldes.esperaMs("ip"));
+        relogio.addAndGet(9_999);
+        assertFalse(baldes.consumir("ip"));
+        relogio.addAndGet(1);
+        assertTrue(baldes.consumir("ip"));
+        assertFalse(baldes.consumir("ip"));
+    }
+
+    @Test
+    void tentativasSeguidasNaoPerdemAFracaoReposta() {
+        BaldesDeTokens baldes = new BaldesDeTokens(1024, 5, Duration.ofMinutes(1), relogio::get);
+        for (int i = 0; i < 5; i++) {
+            baldes.consumir("ip");
+        }
+
+        // Uma consulta por ms: cada passo repõe menos de um milésimo, mas o total de 12 s ainda vira um token
+        int liberadas = 0;
+        for (int ms = 0; ms < 12_000; ms++) {
+            relogio.incrementAndGet();
+            if (baldes.consumir("ip")) {
+                liberadas++;
+            }
+        }
+
+        assertEquals(1, liberadas);
+    }
+
+    @Test
+    void periodoInteiroSemUsoEncheOBalde() {
+        BaldesDeTokens baldes = new BaldesDeTokens(1024, 3, Duration.ofMinutes(1), relogio::get);
+        for (int i = 0; i < 3; i++) {
+            baldes.consumir("ip");
+        }
+
+        relogio.addAndGet(Duration.ofHours(1).toMillis());
+
+        assertEquals(0, baldes.esperaMs("ip"));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(baldes.consumir("ip"));
+        }
+        assertFalse(baldes.consumir("ip"));
+    }
+
+    @Test
+    void consumoConcorrenteNuncaPassaDaCapacidade() throws Exception {
+        BaldesDeTokens baldes = new BaldesDeTokens(64, 100, Duration.ofMinutes(1), relogio::get);
+        AtomicInteger liberadas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (baldes.consumir("mesmo-ip")) {
+                            liberadas.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, liberadas.get());
+    }
+
+    @Test
+    void capacidadeForaDoIntervaloEhRecusada() {
+        assertThrows(IllegalArgumentException.class, () -> new BaldesDeTokens(16, 0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new BaldesDeTokens(16, 20_000, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.techchallenge.configuration.paginacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginacaoTest {
+
+    private final Paginacao paginacao = new Paginacao(50, 500, 3);
+
+    @Test
+    void limiteAusenteUsaPadrao() {
+        assertEquals(50, paginacao.resolverLimite(null));
+        assertEquals(10, paginacao.resolverLimite(10));
+    }
+
+    @Test
+    void limiteForaDoIntervaloLancaExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> paginacao.resolverLimite(0));
+        assertThrows(IllegalArgumentException.class, () -> paginacao.resolverLimite(501));
+    }
+
+    @Test
+    void cursorDaPaginaVoltaComoUltimoId() {
+        PaginaDTO<Long> pagina = paginacao.montar(List.of(7L, 8L, 9L), 2, Long::longValue);
+
+        assertEquals(List.of(7L, 8L), pagina.itens());
+        assertEquals(8L, paginacao.resolverCursor(pagina.next()));
+    }
+
+    @Test
+    void ultimaPaginaNaoTemCursor() {
+        PaginaDTO<Long> pagina = paginacao.montar(List.of(7L, 8L), 2, Long::longValue);
+
+        assertEquals(List.of(7L, 8L), pagina.itens());
+        assertNull(pagina.next());
+        assertEquals(0L, paginacao.resolverCursor(null));
+    }
+
+    @Test
+    void cursorInvalidoLancaExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> paginacao.resolverCursor("nao-e-cursor!"));
+    }
+
+    @Test
+    void listagemCompletaAcimaDoTetoLancaExcecao() {
+        assertEquals(List.of(1, 2, 3), paginacao.validarListagemCompleta(List.of(1, 2, 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> paginacao.validarListagemCompleta(List.of(1, 2, 3, 4)));
+    }
+}
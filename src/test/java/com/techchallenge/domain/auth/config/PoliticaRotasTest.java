@@ -0,0 +1,56 @@
+package com.techchallenge.domain.auth.config;
+
+import com.techchallenge.domain.auth.config.PoliticaRotas.Acesso;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliticaRotasTest {
+
+    private final PoliticaRotas politica = new PoliticaRotas();
+
+    @Test
+    void rotasExatasSoValemParaOCaminhoInteiro() {
+        assertEquals(Acesso.PUBLICO, politica.classificar("POST", "/v1/api/auth/login"));
+        assertEquals(Acesso.PUBLICO, politica.classificar("POST", "/v1/api/auth/refresh"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("POST", "/v1/api/auth/login/extra"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("POST", "/v1/api/auth/loginx"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/v1/api/auth/me"));
+    }
+
+    @Test
+    void rotasDePrefixoValemParaOCaminhoESubcaminhos() {
+        assertEquals(Acesso.PUBLICO, politica.classificar("GET", "/swagger-ui"));
+        assertEquals(Acesso.PUBLICO, politica.classificar("GET", "/swagger-ui/index.html"));
+        assertEquals(Acesso.PUBLICO, politica.classificar("GET", "/swagger-ui.html"));
+        assertEquals(Acesso.PUBLICO, politica.classificar("GET", "/v3/api-docs/swagger-config"));
+        assertEquals(Acesso.PUBLICO, politica.classificar("GET", "/webjars/swagger-ui/x.js"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/swagger-uix/segredo"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/v3/api-docsx"));
+    }
+
+    @Test
+    void regraComMetodoNaoLiberaOsOutros() {
+        assertEquals(Acesso.PUBLICO, politica.classificar("POST", "/v1/api/usuarios/registrar"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/v1/api/usuarios/registrar"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("DELETE", "/v1/api/usuarios/registrar"));
+    }
+
+    @Test
+    void caminhosForaDaTabelaExigemAutenticacao() {
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", ""));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("GET", "/v1/api/usuarios"));
+        assertEquals(Acesso.AUTENTICADO, politica.classificar("PROPFIND", "/v1/api/restaurantes"));
+    }
+
+    @Test
+    void serveDeRequestMatcherParaOSpringSecurity() {
+        MockHttpServletRequest registrar = new MockHttpServletRequest("POST", "/v1/api/usuarios/registrar");
+        MockHttpServletRequest listar = new MockHttpServletRequest("GET", "/v1/api/usuarios");
+
+        assertTrue(politica.matches(registrar));
+        assertFalse(politica.matches(listar));
+    }
+}
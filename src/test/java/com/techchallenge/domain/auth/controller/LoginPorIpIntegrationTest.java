@@ -0,0 +1,41 @@
+package com.techchallenge.domain.auth.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.auth.loginPorIpMinuto=2", "server.forward-headers-strategy=native"})
+@ActiveProfiles("test")
+class LoginPorIpIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    // A conexão vem do loopback, um proxy confiável: cada X-Forwarded-For ganha o próprio balde
+    @Test
+    void clientesAtrasDoProxyTemBaldesSeparados() {
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("198.51.100.20"));
+    }
+
+    private HttpStatus login(String ipCliente) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", ipCliente);
+        String corpo = "{\"email\":\"ninguem@tech.com\",\"password\":\"errada\"}";
+        return HttpStatus.valueOf(restTemplate.postForEntity("/v1/api/auth/login",
+                new HttpEntity<>(corpo, headers), String.class).getStatusCode().value());
+    }
+}
@@ -0,0 +1,65 @@
+package com.techchallenge.domain.auth.filter;
+
+import com.techchallenge.domain.auth.config.PoliticaRotas;
+import com.techchallenge.domain.auth.jwt.JwtTokenCodec;
+import com.techchallenge.domain.auth.jwt.TokenRevogados;
+import com.techchallenge.domain.auth.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthFilterTest {
+
+    private static final String SEGREDO = "test-secret-test-secret-test-secret-test-secret";
+
+    private JwtTokenCodec codec;
+    private AuthFilter filter;
+
+    @BeforeEach
+    void setup() {
+        codec = new JwtTokenCodec(SEGREDO, 60_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(codec, new SimpleMeterRegistry(), 100);
+        TokenRevogados revogados = mock(TokenRevogados.class);
+        when(revogados.revogado(any())).thenReturn(false);
+        filter = new AuthFilter(cache, revogados, new PoliticaRotas());
+    }
+
+    @AfterEach
+    void limpar() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void mesmoTokenReaproveitaAAutenticacaoMasNaoOContexto() throws Exception {
+        String token = codec.gerarToken("admin@tech.com", "ADMIN");
+        List<SecurityContext> contextos = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/usuarios");
+            request.addHeader("Authorization", "Bearer " + token);
+            filter.doFilter(request, new MockHttpServletResponse(),
+                    (req, res) -> contextos.add(SecurityContextHolder.getContext()));
+        }
+
+        assertEquals(2, contextos.size());
+        assertNotSame(contextos.get(0), contextos.get(1));
+        assertSame(contextos.get(0).getAuthentication(), contextos.get(1).getAuthentication());
+        assertEquals("admin@tech.com", contextos.get(1).getAuthentication().getName());
+
+        // Trocar a autenticação de uma requisição não vaza para a outra
+        contextos.get(0).setAuthentication(null);
+        assertNotNull(contextos.get(1).getAuthentication());
+    }
+}
@@ -0,0 +1,177 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCodecTest {
+
+    private static final String SEGREDO = "test-secret-test-secret-test-secret-test-secret";
+    private static final String NOVO_SEGREDO = "rotated-secret-rotated-secret-rotated-secret";
+
+    @Test
+    void gerarEValidarToken() {
+        JwtTokenCodec codec = new JwtTokenCodec(SEGREDO, 60_000L);
+
+        Claims claims = codec.validar(codec.gerarToken("admin@tech.com", "ADMIN"));
+
+        assertEquals("admin@tech.com", claims.getSubject());
+        assertEquals("ADMIN", claims.get("role", String.class));
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+
+    @Test
+    void tokenDoSegredoAnteriorContinuaValidoAposRotacao() {
+        JwtTokenCodec codec = new JwtTokenCodec(SEGREDO, 60_000L);
+        String antigo = codec.gerarToken("cliente@tech.com", "CLIENT");
+
+        codec.rotacionar(NOVO_SEGREDO);
+
+        assertEquals("cliente@tech.com", codec.validar(antigo).getSubject());
+        assertEquals("cliente@tech.com", codec.validar(codec.gerarToken("cliente@tech.com", "CLIENT")).getSubject());
+    }
+
+    @Test
+    void tokenDeSegredoDescartadoEhRejeitado() {
+        JwtTokenCodec codec = new JwtTokenCodec(SEGREDO, 60_000L);
+        String antigo = codec.gerarToken("cliente@tech.com", "CLIENT");
+
+        codec.rotacionar(NOVO_SEGREDO);
+        codec.rotacionar("third-secret-third-secret-third-secret-third");
+
+        assertThrows(SignatureException.class, () -> codec.validar(antigo));
+    }
+
+    @Test
+    void trocarOArquivoDoSegredoRotacionaNaRecarga(@TempDir Path dir) throws Exception {
+        Path arquivo = dir.resolve("jwt-secret");
+        Files.writeString(arquivo, SEGREDO + "\n");
+        JwtTokenCodec codec = new JwtTokenCodec("", arquivo.toString(), 60_000L, JwtTokenCodec.HS256, "");
+        String antigo = codec.gerarToken("cliente@tech.com", "CLIENT");
+
+        codec.recarregarChaves();
+        assertEquals(0L, codec.versao());
+
+        Files.writeString(arquivo, NOVO_SEGREDO);
+        codec.recarregarChaves();
+
+        assertEquals(1L, codec.versao());
+        assertEquals("cliente@tech.com", codec.validar(antigo).getSubject());
+        String novo = codec.gerarToken("cliente@tech.com", "CLIENT");
+        assertThrows(SignatureException.class, () -> new JwtTokenCodec(SEGREDO, 60_000L).validar(novo));
+
+        Files.delete(arquivo);
+        codec.recarregarChaves();
+        assertEquals("cliente@tech.com", codec.validar(novo).getSubject());
+    }
+
+    @Test
+    void es256AssinaComKidEValida(@TempDir Path chaves) throws Exception {
+        gerarChave(chaves, "2026-01", true);
+        JwtTokenCodec codec = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, chaves.toString());
+
+        String token = codec.gerarToken("admin@tech.com", "ADMIN");
+
+        assertTrue(cabecalho(token).contains("\"kid\":\"2026-01\""));
+        assertTrue(cabecalho(token).contains("\"alg\":\"ES256\""));
+        assertEquals("admin@tech.com", codec.validar(token).getSubject());
+    }
+
+    @Test
+    void noSoVerificadorAceitaTokenDeOutroNoESoNaoEmite(@TempDir Path emissor, @TempDir Path verificador)
+            throws Exception {
+        gerarChave(emissor, "k1", true);
+        Files.copy(emissor.resolve("k1.pub"), verificador.resolve("k1.pub"));
+        JwtTokenCodec codecEmissor = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, emissor.toString());
+        JwtTokenCodec codecVerificador = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, verificador.toString());
+
+        String token = codecEmissor.gerarToken("cliente@tech.com", "CLIENT");
+
+        assertEquals("cliente@tech.com", codecVerificador.validar(token).getSubject());
+        assertThrows(IllegalStateException.class, () -> codecVerificador.gerarToken("cliente@tech.com", "CLIENT"));
+    }
+
+    @Test
+    void rotacaoDeChaveMantemTokensAntigosAteARemocao(@TempDir Path chaves) throws Exception {
+        gerarChave(chaves, "k1", true);
+        JwtTokenCodec codec = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, chaves.toString());
+        String antigo = codec.gerarToken("cliente@tech.com", "CLIENT");
+
+        gerarChave(chaves, "k2", true);
+        codec.recarregarChaves();
+        String novo = codec.gerarToken("cliente@tech.com", "CLIENT");
+
+        assertTrue(cabecalho(novo).contains("\"kid\":\"k2\""));
+        assertEquals("cliente@tech.com", codec.validar(antigo).getSubject());
+
+        long versao = codec.versao();
+        Files.delete(chaves.resolve("k1.pub"));
+        Files.delete(chaves.resolve("k1.key"));
+        codec.recarregarChaves();
+
+        assertTrue(codec.versao() > versao);
+        assertThrows(JwtException.class, () -> codec.validar(antigo));
+        assertEquals("cliente@tech.com", codec.validar(novo).getSubject());
+    }
+
+    @Test
+    void arquivoDeChaveInvalidoNaoDerrubaAsChavesAtuais(@TempDir Path chaves) throws Exception {
+        gerarChave(chaves, "k1", true);
+        JwtTokenCodec codec = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, chaves.toString());
+
+        Files.writeString(chaves.resolve("k2.pub"), "-----BEGIN PUBLIC KEY-----\nAAAA\n-----END PUBLIC KEY-----\n");
+        codec.recarregarChaves();
+
+        assertEquals("admin@tech.com", codec.validar(codec.gerarToken("admin@tech.com", "ADMIN")).getSubject());
+    }
+
+    @Test
+    void es256ComSegredoAindaAceitaTokensHs256DaMigracao(@TempDir Path chaves) throws Exception {
+        gerarChave(chaves, "k1", true);
+        String hs256 = new JwtTokenCodec(SEGREDO, 60_000L).gerarToken("cliente@tech.com", "CLIENT");
+
+        JwtTokenCodec comSegredo = new JwtTokenCodec(SEGREDO, 60_000L, JwtTokenCodec.ES256, chaves.toString());
+        JwtTokenCodec semSegredo = new JwtTokenCodec("", 60_000L, JwtTokenCodec.ES256, chaves.toString());
+
+        assertEquals("cliente@tech.com", comSegredo.validar(hs256).getSubject());
+        assertThrows(JwtException.class, () -> semSegredo.validar(hs256));
+    }
+
+    @Test
+    void configuracaoInvalidaFalhaNaSubida() {
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec("", 60_000L));
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec(SEGREDO, 60_000L, "ES256", ""));
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec(SEGREDO, 60_000L, "RS512", ""));
+    }
+
+    static void gerarChave(Path diretorio, String kid, boolean privada) throws Exception {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+        gerador.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair par = gerador.generateKeyPair();
+
+        Files.writeString(diretorio.resolve(kid + ".pub"), pem("PUBLIC KEY", par.getPublic().getEncoded()));
+        if (privada) {
+            Files.writeString(diretorio.resolve(kid + ".key"), pem("PRIVATE KEY", par.getPrivate().getEncoded()));
+        }
+    }
+
+    private static String pem(String tipo, byte[] der) {
+        return "-----BEGIN " + tipo + "-----\n" + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + tipo + "-----\n";
+    }
+
+    private static String cabecalho(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.techchallenge.domain.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SEGREDO = "test-secret-test-secret-test-secret-test-secret";
+
+    private JwtTokenCodec codec;
+    private SimpleMeterRegistry registry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setup() {
+        codec = spy(new JwtTokenCodec(SEGREDO, 60_000L));
+        registry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(codec, registry, 100);
+    }
+
+    @Test
+    void segundoAcessoNaoRevalidaAssinatura() {
+        String token = codec.gerarToken("admin@tech.com", "ADMIN");
+
+        var primeiro = cache.autenticar(token);
+        var segundo = cache.autenticar(token);
+
+        assertSame(primeiro, segundo);
+        assertEquals("admin@tech.com", segundo.email());
+        assertEquals("ADMIN", segundo.role());
+        assertEquals("ROLE_ADMIN", segundo.authentication().getAuthorities().iterator().next().getAuthority());
+        verify(codec, times(1)).validar(token);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "auth.token.cache").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "auth.token.cache").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void autenticacaoReaproveitaAuthorities() {
+        var admin = cache.autenticar(codec.gerarToken("admin@tech.com", "ADMIN"));
+        var outroAdmin = cache.autenticar(codec.gerarToken("outro@tech.com", "ADMIN"));
+        var cliente = cache.autenticar(codec.gerarToken("cliente@tech.com", "CLIENT"));
+
+        assertSame(admin.authentication().getAuthorities(), outroAdmin.authentication().getAuthorities());
+        assertEquals("ROLE_CLIENT", cliente.authentication().getAuthorities().get(0).getAuthority());
+        assertEquals("admin@tech.com", admin.authentication().getName());
+        assertEquals("admin@tech.com", admin.authentication().getPrincipal().email());
+        assertNull(admin.authentication().getCredentials());
+
+        assertThrows(IllegalArgumentException.class, () -> admin.authentication().setAuthenticated(false));
+    }
+
+    @Test
+    void rotacaoDoSegredoForcaNovaValidacao() {
+        String token = codec.gerarToken("admin@tech.com", "ADMIN");
+        cache.autenticar(token);
+
+        codec.rotacionar("rotated-secret-rotated-secret-rotated-secret");
+        cache.autenticar(token);
+
+        verify(codec, times(2)).validar(token);
+    }
+
+    @Test
+    void tamanhoRespeitaLimiteConfigurado() {
+        VerifiedTokenCache pequeno = new VerifiedTokenCache(codec, registry, 2);
+
+        for (int i = 0; i < 10; i++) {
+            pequeno.autenticar(codec.gerarToken("user" + i + "@tech.com", "CLIENT"));
+        }
+
+        assertTrue(pequeno.tamanho() <= 2);
+    }
+
+    @Test
+    void assinaturaEmOutroPayloadNaoAcertaOCache() {
+        String token = codec.gerarToken("cliente@tech.com", "CLIENT");
+        String outro = codec.gerarToken("admin@tech.com", "ADMIN");
+        cache.autenticar(token);
+
+        String adulterado = outro.substring(0, outro.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        assertThrows(io.jsonwebtoken.JwtException.class, () -> cache.autenticar(adulterado));
+        assertSame(cache.autenticar(token), cache.autenticar(token));
+    }
+
+    @Test
+    void tokenInvalidoNaoEhArmazenado() {
+        assertThrows(io.jsonwebtoken.JwtException.class, () -> cache.autenticar("token.invalido.x"));
+        assertEquals(0, cache.tamanho());
+    }
+}
@@ -0,0 +1,250 @@
+package com.techchallenge.domain.auth.service;
+
+import com.techchallenge.domain.auth.dto.LoginRequestDTO;
+import com.techchallenge.domain.auth.exception.InvalidPasswordException;
+import com.techchallenge.domain.auth.exception.LoginBloqueadoException;
+import com.techchallenge.domain.auth.jwt.JwtTokenCodec;
+import com.techchallenge.domain.auth.jwt.PerfilToken;
+import com.techchallenge.domain.auth.jwt.TokenEmitido;
+import com.techchallenge.domain.auth.jwt.VerifiedTokenCache;
+import com.techchallenge.domain.auth.security.UsuarioAutenticado;
+import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.exception.SenhaSobrecarregadaException;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
+import com.techchallenge.domain.usuario.service.UsuarioPerfilVersoes;
+import com.techchallenge.domain.usuario.service.UsuarioService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String IP = "10.0.0.1";
+
+    @Mock
+    private UsuarioService usuarioService;
+
+    @Mock
+    private SenhaExecutor senhaExecutor;
+
+    @Mock
+    private UsuarioPerfilVersoes perfilVersoes;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private LimitesLogin limitesLogin;
+
+    private final JwtTokenCodec tokenCodec = new JwtTokenCodec("test-secret-test-secret-test-secret-test-secret", 60_000L);
+
+    private AuthService authService;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setup() {
+        authService = new AuthService(usuarioService, senhaExecutor, tokenCodec, perfilVersoes, refreshTokenService, limitesLogin, true);
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setEmail("login@tech.com");
+        usuario.setNome("Login");
+        usuario.setEndereco("Rua L, 1");
+        usuario.setUltimaAtualizacao(LocalDateTime.of(2025, 1, 1, 10, 0));
+        usuario.setSenha("$2a$04$antigo");
+        usuario.setRole(UsuarioRole.CLIENT);
+        lenient().when(usuarioService.buscarPorEmail("login@tech.com")).thenReturn(usuario);
+    }
+
+    @Test
+    void loginComHashDesatualizadoRefazOHash() {
+        when(senhaExecutor.conferirAsync("123456", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(true));
+        when(senhaExecutor.precisaAtualizar("$2a$04$antigo")).thenReturn(true);
+        when(senhaExecutor.codificarAsync("123456")).thenReturn(CompletableFuture.completedFuture("{bcrypt}novo"));
+
+        var response = authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP).join();
+
+        assertNotNull(response.token());
+        verify(usuarioService).atualizarHashSenha(1L, "$2a$04$antigo", "{bcrypt}novo");
+    }
+
+    @Test
+    void loginComHashAtualNaoRefaz() {
+        when(senhaExecutor.conferirAsync("123456", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(true));
+        when(senhaExecutor.precisaAtualizar("$2a$04$antigo")).thenReturn(false);
+
+        authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP).join();
+
+        verify(senhaExecutor, never()).codificarAsync(any());
+        verify(usuarioService, never()).atualizarHashSenha(any(), any(), any());
+    }
+
+    @Test
+    void poolCheioNaoDerrubaOLogin() {
+        when(senhaExecutor.conferirAsync("123456", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(true));
+        when(senhaExecutor.precisaAtualizar("$2a$04$antigo")).thenReturn(true);
+        when(senhaExecutor.codificarAsync("123456")).thenThrow(new SenhaSobrecarregadaException("cheio"));
+
+        assertNotNull(authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP).join().token());
+    }
+
+    @Test
+    void senhaErradaFalhaSemRefazerHash() {
+        when(senhaExecutor.conferirAsync("errada", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(false));
+
+        CompletionException erro = assertThrows(CompletionException.class,
+                () -> authService.login(new LoginRequestDTO("login@tech.com", "errada"), IP).join());
+
+        assertInstanceOf(InvalidPasswordException.class, erro.getCause());
+        verify(senhaExecutor, never()).codificarAsync(any());
+        verify(limitesLogin).registrarFalha("login@tech.com");
+    }
+
+    @Test
+    void loginBloqueadoNaoBuscaUsuarioNemRodaBcrypt() {
+        doThrow(new LoginBloqueadoException("Muitas tentativas", 30))
+                .when(limitesLogin).verificar(IP, "login@tech.com");
+
+        assertThrows(LoginBloqueadoException.class,
+                () -> authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP));
+
+        verify(usuarioService, never()).buscarPorEmail(any());
+        verifyNoInteractions(senhaExecutor);
+    }
+
+    @Test
+    void emailInexistenteContaComoFalha() {
+        when(usuarioService.buscarPorEmail("nao@tech.com")).thenThrow(new EntityNotFoundException("Usuário não encontrado"));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> authService.login(new LoginRequestDTO("nao@tech.com", "123456"), IP));
+
+        verify(limitesLogin).registrarFalha("nao@tech.com");
+    }
+
+    @Test
+    void meServidoPeloTokenQuandoPerfilNaoMudou() {
+        String token = loginValido();
+        when(perfilVersoes.atual(1L, UsuarioPerfilVersoes.versao(usuario.getVersao()))).thenReturn(true);
+        clearInvocations(usuarioService);
+
+        var info = authService.getUserInfo(autenticado(token));
+
+        assertEquals(1L, info.idUser());
+        assertEquals("Login", info.nome());
+        assertEquals("Rua L, 1", info.endereco());
+        verifyNoInteractions(usuarioService);
+    }
+
+    @Test
+    void meCaiNoBancoQuandoPerfilMudouDepoisDoToken() {
+        String token = loginValido();
+        when(perfilVersoes.atual(eq(1L), anyLong())).thenReturn(false);
+        usuario.setNome("Login Renomeado");
+
+        var info = authService.getUserInfo(autenticado(token));
+
+        assertEquals("Login Renomeado", info.nome());
+        verify(usuarioService, times(2)).buscarPorEmail("login@tech.com");
+    }
+
+    @Test
+    void meNaoValidaOTokenDeNovo() {
+        JwtTokenCodec codec = mock(JwtTokenCodec.class);
+        AuthService service = new AuthService(usuarioService, senhaExecutor, codec, perfilVersoes,
+                refreshTokenService, limitesLogin, true);
+        when(perfilVersoes.atual(1L, 2L)).thenReturn(true);
+        UsuarioAutenticado autenticado = new UsuarioAutenticado("login@tech.com", "CLIENT", "jti", 1_000L, 61_000L,
+                new PerfilToken(1L, "Login", "Rua L, 1", 2L));
+
+        var info = service.getUserInfo(autenticado);
+
+        assertEquals("Login", info.nome());
+        assertEquals("CLIENT", info.role());
+        verifyNoInteractions(codec, usuarioService);
+    }
+
+    @Test
+    void meDeUsuarioRemovidoEhTokenInvalido() {
+        when(usuarioService.buscarPorEmail("sumiu@tech.com")).thenThrow(new EntityNotFoundException("Usuário não encontrado"));
+
+        assertThrows(InvalidPasswordException.class,
+                () -> authService.getUserInfo(autenticado(tokenCodec.gerarToken("sumiu@tech.com", "CLIENT"))));
+    }
+
+    @Test
+    void tokenSemPerfilCaiNoBanco() {
+        var info = authService.getUserInfo(autenticado(tokenCodec.gerarToken("login@tech.com", "CLIENT")));
+
+        assertEquals("Login", info.nome());
+        verifyNoInteractions(perfilVersoes);
+    }
+
+    @Test
+    void loginDevolveAccessERefreshDaMesmaSessao() {
+        when(refreshTokenService.iniciar(eq(1L), any(TokenEmitido.class))).thenReturn("refresh-opaco");
+        when(senhaExecutor.conferirAsync("123456", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(true));
+
+        var response = authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP).join();
+
+        assertEquals("refresh-opaco", response.refreshToken());
+        verify(refreshTokenService).iniciar(eq(1L), argThat(acesso -> acesso.token().equals(response.token())));
+    }
+
+    @Test
+    void refreshEmiteAccessComPerfilAtualDoBanco() {
+        when(usuarioService.buscarPorId(1L)).thenReturn(new UsuarioResponseDTO(1L, "Nome Novo", "login@tech.com",
+                "Rua Nova", UsuarioRole.CLIENT, null, LocalDateTime.of(2025, 2, 1, 9, 0), 1L));
+        when(refreshTokenService.rotacionar(eq("refresh-antigo"), any())).thenAnswer(invocation -> {
+            Function<Long, TokenEmitido> emitir = invocation.getArgument(1);
+            return new RefreshTokenService.Sessao(emitir.apply(1L), "refresh-novo");
+        });
+
+        var response = authService.refreshToken("refresh-antigo");
+
+        assertEquals("refresh-novo", response.refreshToken());
+        PerfilToken perfil = PerfilToken.de(tokenCodec.validar(response.accessToken()));
+        assertEquals("Nome Novo", perfil.nome());
+        assertEquals("Rua Nova", perfil.endereco());
+    }
+
+    @Test
+    void refreshDeUsuarioRemovidoResponde401() {
+        when(usuarioService.buscarPorId(1L)).thenThrow(new EntityNotFoundException("Usuário não encontrado"));
+        when(refreshTokenService.rotacionar(eq("refresh"), any())).thenAnswer(invocation -> {
+            Function<Long, TokenEmitido> emitir = invocation.getArgument(1);
+            return new RefreshTokenService.Sessao(emitir.apply(1L), "novo");
+        });
+
+        assertThrows(InvalidPasswordException.class, () -> authService.refreshToken("refresh"));
+    }
+
+    private UsuarioAutenticado autenticado(String token) {
+        return new VerifiedTokenCache(tokenCodec, new SimpleMeterRegistry(), 10).autenticar(token).authentication()
+                .usuario();
+    }
+
+    private String loginValido() {
+        when(senhaExecutor.conferirAsync("123456", "$2a$04$antigo")).thenReturn(CompletableFuture.completedFuture(true));
+        return authService.login(new LoginRequestDTO("login@tech.com", "123456"), IP).join().token();
+    }
+}
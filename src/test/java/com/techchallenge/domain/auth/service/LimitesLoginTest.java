@@ -0,0 +1,91 @@
+package com.techchallenge.domain.auth.service;
+
+import com.techchallenge.domain.auth.entity.FalhaLogin;
+import com.techchallenge.domain.auth.exception.LoginBloqueadoException;
+import com.techchallenge.domain.auth.repository.FalhaLoginRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LimitesLoginTest {
+
+    @Mock
+    private FalhaLoginRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void ipAcimaDoLimiteRecebeBloqueioComRetryAfter() {
+        LimitesLogin limites = new LimitesLogin(repository, meterRegistry, 3, 5, false);
+
+        for (int i = 0; i < 3; i++) {
+            limites.verificar("10.0.0.1", "a" + i + "@tech.com");
+        }
+        LoginBloqueadoException erro = assertThrows(LoginBloqueadoException.class,
+                () -> limites.verificar("10.0.0.1", "outro@tech.com"));
+
+        assertTrue(erro.getRetryAposSegundos() >= 1);
+        assertDoesNotThrow(() -> limites.verificar("10.0.0.2", "outro@tech.com"));
+        assertEquals(1.0, meterRegistry.get("auth.login.bloqueios").tag("motivo", "ip").counter().count());
+    }
+
+    @Test
+    void emailSoGastaNasFalhasEIgnoraCaixaEEspacos() {
+        LimitesLogin limites = new LimitesLogin(repository, meterRegistry, 100, 2, false);
+
+        for (int i = 0; i < 10; i++) {
+            limites.verificar("10.0.0." + i, "cliente@tech.com");
+        }
+        limites.registrarFalha("cliente@tech.com");
+        limites.registrarFalha(" Cliente@Tech.com ");
+
+        assertThrows(LoginBloqueadoException.class, () -> limites.verificar("10.0.0.99", "CLIENTE@tech.com"));
+        assertEquals(1.0, meterRegistry.get("auth.login.bloqueios").tag("motivo", "email").counter().count());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void sincronizacaoGravaFalhasDoNoEBloqueiaEmailsNoLimiteDoCluster() {
+        LimitesLogin limites = new LimitesLogin(repository, meterRegistry, 100, 5, true);
+        limites.registrarFalha("alvo@tech.com");
+        limites.registrarFalha("alvo@tech.com");
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        limites.sincronizar();
+
+        ArgumentCaptor<FalhaLogin> gravada = ArgumentCaptor.forClass(FalhaLogin.class);
+        verify(repository).save(gravada.capture());
+        assertEquals(2, gravada.getValue().getTentativas());
+        assertEquals(64, gravada.getValue().getChave().length());
+
+        // Outros nós somaram o resto das falhas: o email fica bloqueado aqui também
+        when(repository.findChavesNoLimite(anyLong(), eq(5L))).thenReturn(List.of(gravada.getValue().getChave()));
+        limites.sincronizar();
+
+        assertThrows(LoginBloqueadoException.class, () -> limites.verificar("10.0.0.1", "alvo@tech.com"));
+        assertDoesNotThrow(() -> limites.verificar("10.0.0.1", "outro@tech.com"));
+        verify(repository, times(1)).save(any());
+    }
+
+    @Test
+    void semCompartilhamentoASincronizacaoNaoTocaNoBanco() {
+        LimitesLogin limites = new LimitesLogin(repository, meterRegistry, 100, 5, false);
+        limites.registrarFalha("alvo@tech.com");
+
+        limites.sincronizar();
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,124 @@
+package com.techchallenge.domain.auth.service;
+
+import com.techchallenge.domain.auth.exception.InvalidPasswordException;
+import com.techchallenge.domain.auth.jwt.TokenEmitido;
+import com.techchallenge.domain.auth.jwt.TokenRevogados;
+import com.techchallenge.domain.auth.repository.RefreshTokenRepository;
+import com.techchallenge.domain.auth.repository.TokenRevogadoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RefreshTokenService.class, TokenRevogados.class, SimpleMeterRegistry.class})
+class RefreshTokenServiceIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TokenRevogadoRepository tokenRevogadoRepository;
+
+    @Autowired
+    private TokenRevogados tokenRevogados;
+
+    @Test
+    void rotacaoTrocaORefreshEEmiteNovoAccess() {
+        String inicial = refreshTokenService.iniciar(7L, acesso());
+
+        var sessao = refreshTokenService.rotacionar(inicial, usuarioId -> {
+            assertEquals(7L, usuarioId);
+            return acesso();
+        });
+
+        assertNotEquals(inicial, sessao.refreshToken());
+        assertEquals(2, refreshTokenRepository.count());
+        assertDoesNotThrow(() -> refreshTokenService.rotacionar(sessao.refreshToken(), usuarioId -> acesso()));
+    }
+
+    @Test
+    void valorEntregueNaoEGuardadoEmClaro() {
+        String refresh = refreshTokenService.iniciar(7L, acesso());
+
+        assertFalse(refreshTokenRepository.existsById(refresh));
+    }
+
+    @Test
+    void reusoDeTokenJaUsadoRevogaAFamiliaEOsAccessTokens() {
+        TokenEmitido primeiroAcesso = acesso();
+        String inicial = refreshTokenService.iniciar(7L, primeiroAcesso);
+        TokenEmitido segundoAcesso = acesso();
+        var sessao = refreshTokenService.rotacionar(inicial, usuarioId -> segundoAcesso);
+
+        assertThrows(InvalidPasswordException.class,
+                () -> refreshTokenService.rotacionar(inicial, usuarioId -> acesso()));
+
+        assertThrows(InvalidPasswordException.class,
+                () -> refreshTokenService.rotacionar(sessao.refreshToken(), usuarioId -> acesso()));
+        assertTrue(tokenRevogadoRepository.existsById(primeiroAcesso.jti()));
+        assertTrue(tokenRevogadoRepository.existsById(segundoAcesso.jti()));
+
+        // afterCommit não roda no teste; a sincronização traz as revogações da tabela
+        tokenRevogados.sincronizar();
+        assertTrue(tokenRevogados.revogado(primeiroAcesso.jti()));
+        assertTrue(tokenRevogados.revogado(segundoAcesso.jti()));
+    }
+
+    @Test
+    void logoutEncerraASessao() {
+        TokenEmitido acesso = acesso();
+        String refresh = refreshTokenService.iniciar(7L, acesso);
+
+        refreshTokenService.encerrar(refresh);
+
+        assertThrows(InvalidPasswordException.class,
+                () -> refreshTokenService.rotacionar(refresh, usuarioId -> acesso()));
+        assertTrue(tokenRevogadoRepository.existsById(acesso.jti()));
+    }
+
+    @Test
+    void tokenDesconhecidoOuExpiradoEhRecusado() {
+        String refresh = refreshTokenService.iniciar(7L, acesso());
+        refreshTokenRepository.findAll().forEach(token -> token.setExpiraEm(LocalDateTime.now().minusSeconds(1)));
+
+        assertThrows(InvalidPasswordException.class,
+                () -> refreshTokenService.rotacionar("nao-existe", usuarioId -> acesso()));
+        assertThrows(InvalidPasswordException.class,
+                () -> refreshTokenService.rotacionar(refresh, usuarioId -> acesso()));
+    }
+
+    @Test
+    void limpezaRemoveTokensExpirados() {
+        refreshTokenService.iniciar(7L, acesso());
+        refreshTokenRepository.findAll().forEach(token -> token.setExpiraEm(LocalDateTime.now().minusSeconds(1)));
+        refreshTokenRepository.flush();
+
+        refreshTokenService.removerExpirados();
+
+        assertEquals(0, refreshTokenRepository.count());
+    }
+
+    @Test
+    void tokenValidoNaoConstaComoRevogado() {
+        tokenRevogados.sincronizar();
+
+        assertFalse(tokenRevogados.revogado(UUID.randomUUID().toString()));
+        assertFalse(tokenRevogados.revogado(null));
+    }
+
+    private static TokenEmitido acesso() {
+        return new TokenEmitido("jwt", UUID.randomUUID().toString(), System.currentTimeMillis() + 60_000L);
+    }
+}
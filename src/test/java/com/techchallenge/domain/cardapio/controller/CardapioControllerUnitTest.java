@@ -0,0 +1,60 @@
+package com.techchallenge.domain.cardapio.controller;
+
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardapioControllerUnitTest {
+
+    private static final CardapioSnapshots.Snapshot SNAPSHOT =
+            new CardapioSnapshots.Snapshot("[]".getBytes(), new byte[]{31, -117}, "W/\"abc\"");
+
+    @Mock
+    private CardapioSnapshots snapshots;
+
+    @InjectMocks
+    private CardapioController controller;
+
+    @Test
+    void semAcceptEncodingEnviaJson() {
+        when(snapshots.obter(1L)).thenReturn(SNAPSHOT);
+
+        ResponseEntity<byte[]> response = controller.cardapio(1L, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(SNAPSHOT.json(), response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("W/\"abc\"", response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void aceitaGzipEnviaVersaoComprimida() {
+        when(snapshots.obter(1L)).thenReturn(SNAPSHOT);
+
+        ResponseEntity<byte[]> response = controller.cardapio(1L, "br, gzip;q=0.8");
+
+        assertSame(SNAPSHOT.gzip(), response.getBody());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void gzipRecusadoEnviaJson() {
+        when(snapshots.obter(1L)).thenReturn(SNAPSHOT);
+
+        ResponseEntity<byte[]> response = controller.cardapio(1L, "gzip;q=0, identity");
+
+        assertSame(SNAPSHOT.json(), response.getBody());
+    }
+}
@@ -1,8 +1,12 @@
 package com.techchallenge.domain.cardapio.controller;
 
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoResultadoDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioResponseDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioUpdateDTO;
+import com.techchallenge.domain.cardapio.service.ItemCardapioImportacaoService;
 import com.techchallenge.domain.cardapio.service.ItemCardapioService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,9 +27,35 @@ class ItemCardapioControllerUnitTest {
     @Mock
     private ItemCardapioService service;
 
+    @Mock
+    private ItemCardapioImportacaoService importacaoService;
+
     @InjectMocks
     private ItemCardapioController controller;
 
+    @Test
+    void listarPaginaRetornaPagina() {
+        ItemCardapioResponseDTO resposta = new ItemCardapioResponseDTO(
+                1L,
+                "Lasanha",
+                "Lasanha à bolonhesa",
+                new BigDecimal("29.90"),
+                true,
+                "/imagens/lasanha.jpg",
+                1L,
+                "Cantina",
+                1L
+        );
+        PaginaDTO<ItemCardapioResponseDTO> pagina = new PaginaDTO<>(List.of(resposta), null);
+        when(service.listarPagina(20, "MQ")).thenReturn(pagina);
+
+        ResponseEntity<PaginaDTO<ItemCardapioResponseDTO>> response = controller.listarPagina(20, "MQ");
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(pagina, response.getBody());
+        verify(service).listarPagina(20, "MQ");
+    }
+
     @Test
     void listarTodosRetornaLista() {
         ItemCardapioResponseDTO resposta = new ItemCardapioResponseDTO(
@@ -36,7 +66,8 @@ class ItemCardapioControllerUnitTest {
                 true,
                 "/imagens/lasanha.jpg",
                 1L,
-                "Cantina"
+                "Cantina",
+                1L
         );
         when(service.listarTodos()).thenReturn(List.of(resposta));
 
@@ -58,7 +89,8 @@ class ItemCardapioControllerUnitTest {
                 false,
                 "/imagens/baiao.jpg",
                 2L,
-                "Sabor"
+                "Sabor",
+                1L
         );
         when(service.buscarPorId(2L)).thenReturn(resposta);
 
@@ -88,7 +120,8 @@ class ItemCardapioControllerUnitTest {
                 true,
                 "/imagens/escondidinho.jpg",
                 1L,
-                "Nordeste"
+                "Nordeste",
+                1L
         );
         when(service.criar(dto)).thenReturn(resposta);
 
@@ -117,7 +150,8 @@ class ItemCardapioControllerUnitTest {
                 false,
                 "/imagens/lasanha-especial.jpg",
                 1L,
-                "Cantina"
+                "Cantina",
+                1L
         );
         when(service.atualizar(4L, dto)).thenReturn(resposta);
 
@@ -137,4 +171,18 @@ class ItemCardapioControllerUnitTest {
         assertEquals(200, response.getStatusCode().value());
         verify(service).deletar(5L);
     }
+
+    @Test
+    void importarDelegaParaServicoDeImportacao() {
+        List<ItemCardapioImportacaoDTO> itens = List.of(new ItemCardapioImportacaoDTO(
+                "Lasanha", "Lasanha à bolonhesa", new BigDecimal("29.90"), true, "/imagens/lasanha.jpg"));
+        ItemCardapioImportacaoResultadoDTO resultado = new ItemCardapioImportacaoResultadoDTO(1, 1, List.of());
+        when(importacaoService.importar(1L, itens)).thenReturn(resultado);
+
+        ResponseEntity<ItemCardapioImportacaoResultadoDTO> response = controller.importar(1L, itens);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(resultado, response.getBody());
+        verifyNoInteractions(service);
+    }
 }
@@ -11,6 +11,7 @@ import com.techchallenge.domain.usuario.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -95,4 +96,23 @@ class ItemCardapioRepositoryIntegrationTest {
 
         assertThat(itemRepository.findById(item.getId()).get().getPreco()).isEqualByComparingTo("22.00");
     }
+
+    @Test
+    void projecaoRetornaResponseComRestaurante() {
+        ItemCardapio item = new ItemCardapio();
+        item.setNome("Projecao");
+        item.setDescricao("Descricao");
+        item.setPreco(new BigDecimal("18.50"));
+        item.setSomenteNoRestaurante(false);
+        item.setFotoPath("/imagens/projecao.jpg");
+        item.setRestaurante(restaurante);
+        item = itemRepository.save(item);
+
+        var response = itemRepository.findResponseById(item.getId()).orElseThrow();
+
+        assertThat(response.preco()).isEqualByComparingTo("18.50");
+        assertThat(response.restauranteId()).isEqualTo(restaurante.getId());
+        assertThat(response.restauranteNome()).isEqualTo("Cantina Cardapio");
+        assertThat(itemRepository.findResponsePage(0L, Limit.unlimited())).containsExactly(response);
+    }
 }
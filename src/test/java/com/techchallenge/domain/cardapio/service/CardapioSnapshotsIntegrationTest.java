@@ -0,0 +1,177 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.cardapio.controller.CardapioController;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
+import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import com.techchallenge.domain.restaurante.service.RestauranteService;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem a transação do teste: o snapshot é descartado no commit de cada escrita
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({CardapioSnapshots.class, ItemCardapioService.class, ItemCardapioImportacaoService.class,
+        RestauranteService.class, SimpleMeterRegistry.class, Paginacao.class, ExportadorNdjson.class})
+class CardapioSnapshotsIntegrationTest {
+
+    @Autowired
+    private CardapioSnapshots snapshots;
+
+    @Autowired
+    private ItemCardapioService itemService;
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private ItemCardapioImportacaoService importacaoService;
+
+    @Autowired
+    private ItemCardapioRepository itemRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Usuario dono;
+    private Long restauranteId;
+    private Long outroRestauranteId;
+
+    @BeforeEach
+    void setup() {
+        dono = usuarioRepository.save(Usuario.builder()
+                .nome("Dono")
+                .email("dono.snapshot@tech.com")
+                .senha("123456")
+                .endereco("Rua A")
+                .role(UsuarioRole.DONO)
+                .ultimaAtualizacao(LocalDateTime.now())
+                .build());
+        restauranteId = restauranteService.criar(
+                new RestauranteCreateDTO("Cantina", "Rua A", "Italiana", "11h-22h", dono.getId())).id();
+        outroRestauranteId = restauranteService.criar(
+                new RestauranteCreateDTO("Sabor Nordestino", "Rua B", "Nordestina", "11h-22h", dono.getId())).id();
+    }
+
+    @AfterEach
+    void limpar() {
+        itemRepository.deleteAll();
+        restauranteRepository.deleteAll();
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    void leiturasRepetidasReaproveitamOSnapshot() throws IOException {
+        criarItem("Lasanha", restauranteId);
+        criarItem("Baião de Dois", outroRestauranteId);
+
+        CardapioSnapshots.Snapshot primeiro = snapshots.obter(restauranteId);
+        CardapioSnapshots.Snapshot segundo = snapshots.obter(restauranteId);
+
+        assertSame(primeiro, segundo);
+        JsonNode itens = objectMapper.readTree(primeiro.json());
+        assertEquals(1, itens.size());
+        assertEquals("Lasanha", itens.get(0).get("nome").asText());
+        assertArrayEquals(primeiro.json(), new GZIPInputStream(new ByteArrayInputStream(primeiro.gzip())).readAllBytes());
+        assertTrue(primeiro.etag().startsWith("W/\""));
+    }
+
+    @Test
+    void escritaRemontaSoORestauranteAfetado() throws IOException {
+        Long itemId = criarItem("Lasanha", restauranteId);
+        CardapioSnapshots.Snapshot antes = snapshots.obter(restauranteId);
+        CardapioSnapshots.Snapshot outro = snapshots.obter(outroRestauranteId);
+
+        criarItem("Nhoque", restauranteId);
+        CardapioSnapshots.Snapshot depois = snapshots.obter(restauranteId);
+
+        assertNotEquals(antes.etag(), depois.etag());
+        assertEquals(2, objectMapper.readTree(depois.json()).size());
+        assertSame(outro, snapshots.obter(outroRestauranteId));
+
+        itemService.deletar(itemId);
+        assertEquals(1, objectMapper.readTree(snapshots.obter(restauranteId).json()).size());
+    }
+
+    @Test
+    void renomearRestauranteRemontaOCardapio() throws IOException {
+        criarItem("Lasanha", restauranteId);
+        snapshots.obter(restauranteId);
+
+        restauranteService.atualizar(restauranteId,
+                new RestauranteUpdateDTO("Cantina Nova", "Rua A", "Italiana", "11h-22h", dono.getId()));
+
+        JsonNode itens = objectMapper.readTree(snapshots.obter(restauranteId).json());
+        assertEquals("Cantina Nova", itens.get(0).get("restauranteNome").asText());
+    }
+
+    @Test
+    void importacaoMenorQueUmLoteRemontaOCardapio() throws IOException {
+        CardapioController controller = new CardapioController(snapshots);
+        criarItem("Lasanha", restauranteId);
+        controller.cardapio(restauranteId, null);
+
+        importacaoService.importar(restauranteId, List.of(
+                new ItemCardapioImportacaoDTO("Nhoque", "Desc", new BigDecimal("25.00"), false, "/n.jpg"),
+                new ItemCardapioImportacaoDTO("Risoto", "Desc", new BigDecimal("31.00"), true, "/r.jpg")));
+
+        JsonNode itens = objectMapper.readTree(controller.cardapio(restauranteId, null).getBody());
+        assertEquals(3, itens.size());
+        assertEquals("Risoto", itens.get(2).get("nome").asText());
+    }
+
+    @Test
+    void restauranteSemItensTemCardapioVazio() throws IOException {
+        assertEquals(0, objectMapper.readTree(snapshots.obter(restauranteId).json()).size());
+    }
+
+    @Test
+    void restauranteInexistenteLancaErro() {
+        assertThrows(EntityNotFoundException.class, () -> snapshots.obter(999_999L));
+    }
+
+    private Long criarItem(String nome, Long restaurante) {
+        return itemService.criar(new ItemCardapioCreateDTO(
+                nome, "Desc", new BigDecimal("29.90"), false, "/img.jpg", restaurante)).id();
+    }
+}
@@ -0,0 +1,223 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.techchallenge.domain.cardapio.dto.ItemCardapioImportacaoDTO;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.restaurante.entity.Restaurante;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
+import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.entity.UsuarioRole;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureJson
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ItemCardapioImportacaoService.class, CardapioSnapshots.class, SimpleMeterRegistry.class})
+class ItemCardapioImportacaoServiceIntegrationTest {
+
+    @Autowired
+    private ItemCardapioImportacaoService importacaoService;
+
+    @Autowired
+    private ItemCardapioRepository itemRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private TipoUsuarioRepository tipoUsuarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Restaurante restaurante;
+
+    @BeforeEach
+    void setup() {
+        TipoUsuario tipo = new TipoUsuario();
+        tipo.setNome("Dono");
+        tipo = tipoUsuarioRepository.save(tipo);
+
+        Usuario dono = new Usuario();
+        dono.setNome("Dono");
+        dono.setEmail("dono.importacao@tech.com");
+        dono.setSenha("123456");
+        dono.setEndereco("Rua X, 1");
+        dono.setUltimaAtualizacao(LocalDateTime.now());
+        dono.setRole(UsuarioRole.DONO);
+        dono.setTipoUsuario(tipo);
+        usuarioRepository.save(dono);
+
+        Restaurante r = new Restaurante();
+        r.setNome("Cantina Lote");
+        r.setEndereco("Rua Y, 2");
+        r.setTipoCozinha("Italiana");
+        r.setHorarioFuncionamento("Seg-Dom 11:00-22:00");
+        r.setDono(dono);
+        restaurante = restauranteRepository.save(r);
+    }
+
+    @Test
+    void importarListaGravaValidasEReportaInvalidas() {
+        List<ItemCardapioImportacaoDTO> itens = List.of(
+                item("Lasanha", new BigDecimal("30.00")),
+                item("Sem Preco", null),
+                item("Risoto", new BigDecimal("-1")));
+
+        var resultado = importacaoService.importar(restaurante.getId(), itens);
+
+        assertThat(resultado.recebidos()).isEqualTo(3);
+        assertThat(resultado.importados()).isEqualTo(1);
+        assertThat(resultado.erros()).extracting("linha").containsExactly(2, 3);
+        assertThat(resultado.erros().get(1).mensagem()).isEqualTo("Preço deve ser positivo");
+        assertThat(itemRepository.findByNomeIgnoreCase("Lasanha")).isPresent();
+        assertThat(itemRepository.findByNomeIgnoreCase("Risoto")).isEmpty();
+    }
+
+    @Test
+    void importarCsvAceitaCamposEntreAspasEApontaLinhaDoErro() throws Exception {
+        String csv = """
+                nome,descricao,preco,somenteNoRestaurante,fotoPath
+                Lasanha,"Molho, queijo e ""manjericão\""",29.90,true,/imagens/lasanha.jpg
+
+                Pizza,Marguerita,abc,false,/imagens/pizza.jpg
+                """;
+
+        var resultado = importacaoService.importarCsv(restaurante.getId(), corpo(csv));
+
+        assertThat(resultado.importados()).isEqualTo(1);
+        assertThat(resultado.erros()).hasSize(1);
+        assertThat(resultado.erros().get(0).linha()).isEqualTo(4);
+        assertThat(itemRepository.findByNomeIgnoreCase("Lasanha").orElseThrow().getDescricao())
+                .isEqualTo("Molho, queijo e \"manjericão\"");
+    }
+
+    @Test
+    void importarCsvSemColunaObrigatoriaLancaExcecao() {
+        String csv = "nome,descricao,preco\nLasanha,Molho,29.90\n";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> importacaoService.importarCsv(restaurante.getId(), corpo(csv)));
+    }
+
+    @Test
+    void importarNdjsonReportaJsonInvalido() throws Exception {
+        String ndjson = """
+                {"nome":"Lasanha","descricao":"Molho","preco":29.90,"somenteNoRestaurante":true,"fotoPath":"/l.jpg"}
+                {"nome":"Pizza",
+                """;
+
+        var resultado = importacaoService.importarNdjson(restaurante.getId(), corpo(ndjson));
+
+        assertThat(resultado.importados()).isEqualTo(1);
+        assertThat(resultado.erros()).extracting("linha").containsExactly(2);
+    }
+
+    @Test
+    void corpoAcimaDoLimiteParaDeLerNaLinhaExcedente() {
+        byte[] linha = ("{\"nome\":\"Prato\",\"descricao\":\"Descricao\",\"preco\":10,"
+                + "\"somenteNoRestaurante\":false,\"fotoPath\":\"/p.jpg\"}\n").getBytes(StandardCharsets.UTF_8);
+        LinhasRepetidas corpo = new LinhasRepetidas(linha, 1_000_000);
+
+        var erro = assertThrows(IllegalArgumentException.class,
+                () -> importacaoService.importarNdjson(restaurante.getId(), corpo));
+
+        assertThat(erro.getMessage()).isEqualTo("A importação aceita no máximo 5000 linhas.");
+        // Só o buffer do leitor passa do limite
+        assertThat(corpo.lidos / linha.length).isLessThan(5100);
+        assertThat(itemRepository.count()).isZero();
+    }
+
+    @Test
+    void csvNoLimiteAindaImporta() throws Exception {
+        StringBuilder csv = new StringBuilder("nome,descricao,preco,somenteNoRestaurante,fotoPath\n");
+        for (int i = 0; i < 5000; i++) {
+            csv.append("Prato ").append(i).append(",Descricao,10,false,/p.jpg\n");
+        }
+
+        var resultado = importacaoService.importarCsv(restaurante.getId(), corpo(csv.toString()));
+        assertThat(resultado.importados()).isEqualTo(5000);
+
+        csv.append("Prato extra,Descricao,10,false,/p.jpg\n");
+        assertThrows(IllegalArgumentException.class,
+                () -> importacaoService.importarCsv(restaurante.getId(), corpo(csv.toString())));
+    }
+
+    @Test
+    void importarParaRestauranteInexistenteLancaExcecao() {
+        assertThrows(EntityNotFoundException.class,
+                () -> importacaoService.importar(999L, List.of(item("Lasanha", BigDecimal.TEN))));
+    }
+
+    @Test
+    void importarAgrupaInsertsEmLotes() {
+        List<ItemCardapioImportacaoDTO> itens = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            itens.add(item("Prato " + i, BigDecimal.TEN));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var resultado = importacaoService.importar(restaurante.getId(), itens);
+
+        assertThat(resultado.importados()).isEqualTo(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    private static ItemCardapioImportacaoDTO item(String nome, BigDecimal preco) {
+        return new ItemCardapioImportacaoDTO(nome, "Descricao", preco, false, "/imagens/prato.jpg");
+    }
+
+    private static InputStream corpo(String texto) {
+        return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Repete a mesma linha sem montar o corpo em memória e conta quantos bytes foram lidos
+    private static final class LinhasRepetidas extends InputStream {
+
+        private final byte[] linha;
+        private final long total;
+        private long lidos;
+
+        LinhasRepetidas(byte[] linha, int repeticoes) {
+            this.linha = linha;
+            this.total = (long) linha.length * repeticoes;
+        }
+
+        @Override
+        public int read() {
+            return lidos < total ? linha[(int) (lidos++ % linha.length)] : -1;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.techchallenge.domain.cardapio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
+import com.techchallenge.domain.restaurante.repository.RestauranteRepository;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCardapioImportacaoServiceUnitTest {
+
+    @Mock
+    private ItemCardapioRepository repository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private CardapioSnapshots cardapioSnapshots;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ItemCardapioImportacaoService importacaoService;
+
+    private boolean transacaoAberta;
+
+    @BeforeEach
+    void setup() {
+        importacaoService = new ItemCardapioImportacaoService(repository, restauranteRepository, validator,
+                new ObjectMapper(), cardapioSnapshots, transactionManager, 50, 5000);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            transacaoAberta = true;
+            return new SimpleTransactionStatus();
+        });
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void csvELidoAntesDeAbrirATransacao() {
+        CorpoObservado corpo = new CorpoObservado("""
+                nome,descricao,preco,somenteNoRestaurante,fotoPath
+                Lasanha,Molho,29.90,true,/l.jpg
+                """);
+
+        assertThrows(EntityNotFoundException.class, () -> importacaoService.importarCsv(1L, corpo));
+
+        assertTrue(corpo.lido);
+        assertFalse(corpo.lidoComTransacao);
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void ndjsonELidoAntesDeAbrirATransacao() {
+        CorpoObservado corpo = new CorpoObservado("{\"nome\":\"Lasanha\",\"preco\":29.90}\n");
+
+        assertThrows(EntityNotFoundException.class, () -> importacaoService.importarNdjson(1L, corpo));
+
+        assertTrue(corpo.lido);
+        assertFalse(corpo.lidoComTransacao);
+        verify(transactionManager).getTransaction(any());
+    }
+
+    // Anota se algum byte foi lido com a transação já aberta
+    private final class CorpoObservado extends InputStream {
+
+        private final InputStream conteudo;
+        private boolean lido;
+        private boolean lidoComTransacao;
+
+        CorpoObservado(String texto) {
+            this.conteudo = new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read() throws IOException {
+            lido = true;
+            lidoComTransacao |= transacaoAberta;
+            return conteudo.read();
+        }
+    }
+}
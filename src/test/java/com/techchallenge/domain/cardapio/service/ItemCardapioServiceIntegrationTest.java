@@ -1,5 +1,7 @@
 package com.techchallenge.domain.cardapio.service;
 
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioCreateDTO;
 import com.techchallenge.domain.cardapio.dto.ItemCardapioUpdateDTO;
 import com.techchallenge.domain.cardapio.repository.ItemCardapioRepository;
@@ -10,10 +12,14 @@ import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
@@ -25,7 +31,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(ItemCardapioService.class)
+@AutoConfigureJson
+@Import({ItemCardapioService.class, Paginacao.class, ExportadorNdjson.class, CardapioSnapshots.class,
+        SimpleMeterRegistry.class})
 class ItemCardapioServiceIntegrationTest {
 
     @Autowired
@@ -162,4 +170,31 @@ class ItemCardapioServiceIntegrationTest {
     void deletarItemInexistenteLancaExcecao() {
         assertThrows(EntityNotFoundException.class, () -> itemService.deletar(999L));
     }
+
+    @Test
+    void listarPaginaParcialTrazSoOsCamposPedidos() {
+        var criado = itemService.criar(new ItemCardapioCreateDTO(
+                "Prato", "Desc", new java.math.BigDecimal("15.00"), true, "/imagens/p.jpg", restaurante.getId()));
+
+        PaginaDTO<RegistroParcial> pagina = itemService.listarPaginaParcial(10, null, "preco, nome");
+
+        assertThat(pagina.itens()).hasSize(1);
+        assertThat(pagina.itens().get(0).campos()).containsOnlyKeys("nome", "preco");
+        assertThat(pagina.itens().get(0).campos().get("nome")).isEqualTo("Prato");
+        assertThat(pagina.itens().get(0).id()).isEqualTo(criado.id());
+        assertThat(pagina.next()).isNull();
+    }
+
+    @Test
+    void buscarPorIdParcialComCampoDaJuncao() {
+        var criado = itemService.criar(new ItemCardapioCreateDTO(
+                "Prato", "Desc", new java.math.BigDecimal("15.00"), true, "/imagens/p.jpg", restaurante.getId()));
+
+        RegistroParcial registro = itemService.buscarPorIdParcial(criado.id(), "restauranteId,restauranteNome");
+
+        assertThat(registro.campos()).containsEntry("restauranteId", restaurante.getId())
+                .containsEntry("restauranteNome", "Cantina Prato");
+        assertThrows(EntityNotFoundException.class, () -> itemService.buscarPorIdParcial(999L, "nome"));
+        assertThrows(IllegalArgumentException.class, () -> itemService.buscarPorIdParcial(criado.id(), "senha"));
+    }
 }
@@ -28,6 +28,9 @@ class ItemCardapioServiceUnitTest {
     @Mock
     private RestauranteRepository restauranteRepository;
 
+    @Mock
+    private CardapioSnapshots cardapioSnapshots;
+
     @InjectMocks
     private ItemCardapioService itemService;
 
@@ -57,6 +60,7 @@ class ItemCardapioServiceUnitTest {
 
         assertEquals("Lasanha", response.nome());
         verify(itemRepository).save(any());
+        verify(cardapioSnapshots).invalidar(1L);
     }
 
     @Test
@@ -130,16 +134,17 @@ class ItemCardapioServiceUnitTest {
 
     @Test
     void deletarItemExistente() {
-        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(itemRepository.findRestauranteIdById(1L)).thenReturn(Optional.of(1L));
 
         itemService.deletar(1L);
 
         verify(itemRepository).deleteById(1L);
+        verify(cardapioSnapshots).invalidar(1L);
     }
 
     @Test
     void deletarItemInexistenteLancaErro() {
-        when(itemRepository.existsById(1L)).thenReturn(false);
+        when(itemRepository.findRestauranteIdById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> itemService.deletar(1L));
     }
@@ -1,5 +1,7 @@
 package com.techchallenge.domain.restaurante.controller;
 
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteResponseDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
@@ -25,6 +27,35 @@ class RestauranteControllerUnitTest {
     @InjectMocks
     private RestauranteController controller;
 
+    @Test
+    void listarPaginaRetornaPagina() {
+        RestauranteResponseDTO resposta = new RestauranteResponseDTO(
+                1L,
+                "Cantina da Praca",
+                "Rua Central, 100",
+                "Italiana",
+                "Seg-Dom 11:00-23:00",
+                2L,
+                "Joao",
+                "joao@tech.com",
+                1L
+        );
+        PaginaDTO<RestauranteResponseDTO> pagina = new PaginaDTO<>(List.of(resposta), null);
+        when(service.listarPagina(20, "MQ")).thenReturn(pagina);
+
+        ResponseEntity<PaginaDTO<RestauranteResponseDTO>> response = controller.listarPagina(20, "MQ");
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(pagina, response.getBody());
+        verify(service).listarPagina(20, "MQ");
+    }
+
+    @Test
+    void listarPaginaParcialComCompletoLancaErro() {
+        assertThrows(IllegalArgumentException.class, () -> controller.listarPaginaParcial(null, null, "id,nome", true));
+        verifyNoInteractions(service);
+    }
+
     @Test
     void listarTodosRetornaLista() {
         RestauranteResponseDTO resposta = new RestauranteResponseDTO(
@@ -35,7 +66,8 @@ class RestauranteControllerUnitTest {
                 "Seg-Dom 11:00-23:00",
                 2L,
                 "Joao",
-                "joao@tech.com"
+                "joao@tech.com",
+                1L
         );
         when(service.listarTodos()).thenReturn(List.of(resposta));
 
@@ -57,7 +89,8 @@ class RestauranteControllerUnitTest {
                 "Seg-Sex 10:00-22:00",
                 4L,
                 "Maria",
-                "maria@tech.com"
+                "maria@tech.com",
+                1L
         );
         when(service.buscarPorId(5L)).thenReturn(resposta);
 
@@ -65,6 +98,7 @@ class RestauranteControllerUnitTest {
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(resposta, response.getBody());
+        assertEquals(Etags.de(resposta), response.getHeaders().getETag());
         verify(service).buscarPorId(5L);
     }
 
@@ -85,7 +119,8 @@ class RestauranteControllerUnitTest {
                 "Seg-Dom 12:00-22:00",
                 3L,
                 "Carlos",
-                "carlos@tech.com"
+                "carlos@tech.com",
+                1L
         );
         when(service.criar(dto)).thenReturn(resposta);
 
@@ -113,7 +148,8 @@ class RestauranteControllerUnitTest {
                 "Seg-Sex 10:00-22:00",
                 4L,
                 "Lucia",
-                "lucia@tech.com"
+                "lucia@tech.com",
+                1L
         );
         when(service.atualizar(7L, dto)).thenReturn(resposta);
 
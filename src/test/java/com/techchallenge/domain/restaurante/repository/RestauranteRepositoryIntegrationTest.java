@@ -9,6 +9,7 @@ import com.techchallenge.domain.usuario.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -80,4 +81,22 @@ class RestauranteRepositoryIntegrationTest {
         assertThat(atualizado.getEndereco()).isEqualTo("Av. Atualizada, 10");
         assertThat(atualizado.getDono()).isNotNull();
     }
+
+    @Test
+    void projecaoRetornaResponseComDono() {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setNome("Projecao");
+        restaurante.setEndereco("Rua P, 1");
+        restaurante.setTipoCozinha("Japonesa");
+        restaurante.setHorarioFuncionamento("Seg-Dom 12:00-23:00");
+        restaurante.setDono(dono);
+        Restaurante salvo = restauranteRepository.save(restaurante);
+
+        var response = restauranteRepository.findResponseById(salvo.getId()).orElseThrow();
+
+        assertThat(response.nome()).isEqualTo("Projecao");
+        assertThat(response.donoId()).isEqualTo(dono.getId());
+        assertThat(response.donoEmail()).isEqualTo("dono@tech.com");
+        assertThat(restauranteRepository.findResponsePage(0L, Limit.unlimited())).containsExactly(response);
+    }
 }
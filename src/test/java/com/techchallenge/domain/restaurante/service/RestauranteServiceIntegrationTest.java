@@ -1,5 +1,9 @@
 package com.techchallenge.domain.restaurante.service;
 
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
 import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
 import com.techchallenge.domain.restaurante.entity.Restaurante;
@@ -9,14 +13,18 @@ import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,7 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(RestauranteService.class)
+@AutoConfigureJson
+@Import({RestauranteService.class, Paginacao.class, ExportadorNdjson.class, CardapioSnapshots.class,
+        SimpleMeterRegistry.class})
 class RestauranteServiceIntegrationTest {
 
     @Autowired
@@ -73,6 +83,39 @@ class RestauranteServiceIntegrationTest {
         assertThat(restauranteRepository.findById(response.id())).isPresent();
     }
 
+    @Test
+    void listarPaginaPercorreTodosOsRestaurantesPeloCursor() {
+        for (int i = 1; i <= 5; i++) {
+            restauranteService.criar(new RestauranteCreateDTO(
+                    "Cantina " + i, "Rua " + i, "Italiana", "Seg-Dom 11:00-22:00", dono.getId()));
+        }
+
+        var primeira = restauranteService.listarPagina(2, null);
+        var segunda = restauranteService.listarPagina(2, primeira.next());
+        var terceira = restauranteService.listarPagina(2, segunda.next());
+
+        assertThat(primeira.itens()).extracting("nome").containsExactly("Cantina 1", "Cantina 2");
+        assertThat(segunda.itens()).extracting("nome").containsExactly("Cantina 3", "Cantina 4");
+        assertThat(terceira.itens()).extracting("nome").containsExactly("Cantina 5");
+        assertThat(terceira.next()).isNull();
+    }
+
+    @Test
+    void exportarEscreveUmRestaurantePorLinhaEmOrdemDeId() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            restauranteService.criar(new RestauranteCreateDTO(
+                    "Cantina " + i, "Rua " + i, "Italiana", "Seg-Dom 11:00-22:00", dono.getId()));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        restauranteService.exportar(out);
+
+        String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[0]).contains("\"nome\":\"Cantina 1\"", "\"donoEmail\":\"dono@tech.com\"");
+        assertThat(linhas[2]).contains("\"nome\":\"Cantina 3\"");
+    }
+
     @Test
     void criarSemDonoLancaExcecao() {
         RestauranteCreateDTO dto = new RestauranteCreateDTO(
@@ -107,6 +150,22 @@ class RestauranteServiceIntegrationTest {
         assertThat(restauranteRepository.findById(criado.id()).get().getTipoCozinha()).isEqualTo("Brasileira");
     }
 
+    @Test
+    void atualizarIncrementaVersaoEMudaEtag() {
+        var criado = restauranteService.criar(new RestauranteCreateDTO(
+                "Cantina Teste", "Rua do Teste, 10", "Italiana", "Seg-Dom 11:00-22:00", dono.getId()));
+        var antes = restauranteService.buscarPorId(criado.id());
+
+        restauranteService.atualizar(criado.id(), new RestauranteUpdateDTO(
+                "Cantina Teste", "Av. Nova, 20", "Italiana", "Seg-Dom 11:00-22:00", dono.getId()));
+        var depois = restauranteService.buscarPorId(criado.id());
+
+        assertThat(antes.versao()).isZero();
+        assertThat(depois.versao()).isEqualTo(1L);
+        assertThat(Etags.de(depois)).isNotEqualTo(Etags.de(antes));
+        assertThat(Etags.de(restauranteService.buscarPorId(criado.id()))).isEqualTo(Etags.de(depois));
+    }
+
     @Test
     void atualizarRestauranteInexistenteLancaExcecao() {
         RestauranteUpdateDTO dto = new RestauranteUpdateDTO(
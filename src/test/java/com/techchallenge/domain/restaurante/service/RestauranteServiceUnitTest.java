@@ -1,5 +1,6 @@
 package com.techchallenge.domain.restaurante.service;
 
+import com.techchallenge.domain.cardapio.service.CardapioSnapshots;
 import com.techchallenge.domain.restaurante.dto.RestauranteCreateDTO;
 import com.techchallenge.domain.restaurante.dto.RestauranteUpdateDTO;
 import com.techchallenge.domain.restaurante.entity.Restaurante;
@@ -29,6 +30,9 @@ class RestauranteServiceUnitTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private CardapioSnapshots cardapioSnapshots;
+
     @InjectMocks
     private RestauranteService restauranteService;
 
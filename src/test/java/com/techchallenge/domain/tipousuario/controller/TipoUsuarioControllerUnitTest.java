@@ -66,7 +66,8 @@ class TipoUsuarioControllerUnitTest {
                 "Rua B, 456",
                 UsuarioRole.CLIENT,
                 new TipoUsuarioResponseDTO(1L, "Cliente"),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                1L
         );
         when(usuarioService.buscarPorTipo(1L)).thenReturn(List.of(usuario));
 
@@ -87,7 +88,8 @@ class TipoUsuarioControllerUnitTest {
                 "Rua C, 789",
                 UsuarioRole.CLIENT,
                         new TipoUsuarioResponseDTO(1L, "Cliente"),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                1L
                 )));
 
         ResponseEntity<List<UsuarioResponseDTO>> response = controller.buscarUsuariosPorTipoNome("Cliente");
@@ -105,7 +107,8 @@ class TipoUsuarioControllerUnitTest {
                 "Rua B, 456",
                 UsuarioRole.CLIENT,
                 new TipoUsuarioResponseDTO(2L, "Dono de Restaurante"),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                1L
         );
         when(usuarioService.atualizarTipoUsuarioPorEmail("joao@tech.com", 2L))
                 .thenReturn(atualizado);
@@ -0,0 +1,152 @@
+package com.techchallenge.domain.tipousuario.service;
+
+import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
+import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.tipousuario.repository.TipoUsuarioVersaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TipoUsuarioDicionarioTest {
+
+    @Mock
+    private TipoUsuarioRepository repository;
+
+    @Mock
+    private TipoUsuarioVersaoRepository versaoRepository;
+
+    private TipoUsuarioDicionario dicionario;
+
+    @BeforeEach
+    void setup() {
+        dicionario = new TipoUsuarioDicionario(repository, versaoRepository);
+    }
+
+    @Test
+    void buscaPorIdEPorNomeSemConsultarOBancoDepoisDeCarregar() {
+        when(versaoRepository.buscarVersao(1L)).thenReturn(Optional.of(3L));
+        when(repository.findAll()).thenReturn(List.of(
+                new TipoUsuario(1L, "Dono de Restaurante"),
+                new TipoUsuario(2L, "Cliente")));
+
+        dicionario.recarregar();
+
+        assertEquals("Cliente", dicionario.buscarPorId(2L).orElseThrow().getNome());
+        assertEquals(1L, dicionario.buscarPorNome("  dono DE restaurante ").orElseThrow().getId());
+        assertEquals(3L, dicionario.versao());
+        verify(repository, times(1)).findAll();
+        verify(versaoRepository, times(1)).buscarVersao(1L);
+    }
+
+    @Test
+    void instanciasDevolvidasSaoCopias() {
+        when(repository.findAll()).thenReturn(List.of(new TipoUsuario(2L, "Cliente")));
+        dicionario.recarregar();
+
+        dicionario.buscarPorId(2L).orElseThrow().setNome("Alterado");
+
+        assertEquals("Cliente", dicionario.buscarPorId(2L).orElseThrow().getNome());
+    }
+
+    @Test
+    void alteracaoNaVersaoSeguinteAtualizaSemRecarregar() {
+        when(versaoRepository.buscarVersao(1L)).thenReturn(Optional.of(0L)).thenReturn(Optional.of(1L));
+        when(versaoRepository.incrementar(1L)).thenReturn(1);
+        when(repository.findAll()).thenReturn(List.of(new TipoUsuario(2L, "Cliente")));
+        dicionario.recarregar();
+
+        dicionario.registrarAlteracao(new TipoUsuario(2L, "Consumidor"));
+
+        assertTrue(dicionario.buscarPorNome("consumidor").isPresent());
+        assertEquals(1L, dicionario.versao());
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void remocaoTiraOTipoDosDoisIndices() {
+        when(versaoRepository.buscarVersao(1L)).thenReturn(Optional.of(0L)).thenReturn(Optional.of(1L));
+        when(versaoRepository.incrementar(1L)).thenReturn(1);
+        when(repository.findAll()).thenReturn(List.of(new TipoUsuario(2L, "Cliente")));
+        dicionario.recarregar();
+
+        dicionario.registrarRemocao(2L);
+
+        assertTrue(dicionario.buscarPorId(2L).isEmpty());
+        assertTrue(dicionario.buscarPorNome("Cliente").isEmpty());
+    }
+
+    @Test
+    void saltoDeVersaoRecarregaTudo() {
+        when(versaoRepository.buscarVersao(1L)).thenReturn(Optional.of(0L)).thenReturn(Optional.of(2L));
+        when(versaoRepository.incrementar(1L)).thenReturn(1);
+        when(repository.findAll())
+                .thenReturn(List.of(new TipoUsuario(2L, "Cliente")))
+                .thenReturn(List.of(new TipoUsuario(2L, "Cliente"), new TipoUsuario(3L, "Entregador"),
+                        new TipoUsuario(4L, "Garcom")));
+        dicionario.recarregar();
+
+        dicionario.registrarAlteracao(new TipoUsuario(4L, "Garcom"));
+
+        assertTrue(dicionario.buscarPorNome("Entregador").isPresent());
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    void reconciliacaoSoRecarregaQuandoAVersaoMuda() {
+        when(versaoRepository.buscarVersao(1L))
+                .thenReturn(Optional.of(5L))
+                .thenReturn(Optional.of(5L))
+                .thenReturn(Optional.of(6L));
+        when(repository.findAll()).thenReturn(List.of(new TipoUsuario(2L, "Cliente")));
+        dicionario.recarregar();
+
+        dicionario.reconciliar();
+        verify(repository, times(1)).findAll();
+
+        dicionario.reconciliar();
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    void tipoAusenteSoConsultaAVersao() {
+        when(versaoRepository.buscarVersao(1L)).thenReturn(Optional.of(0L));
+        when(repository.findAll()).thenReturn(List.of(new TipoUsuario(2L, "Cliente")));
+        dicionario.recarregar();
+
+        assertTrue(dicionario.buscarPorId(99L).isEmpty());
+        assertTrue(dicionario.buscarPorId(99L).isEmpty());
+        verify(repository, times(1)).findAll();
+        verify(versaoRepository, times(2)).buscarVersao(1L);
+    }
+
+    @Test
+    void ausenciaLembradaValeAteAProximaVersao() {
+        when(versaoRepository.buscarVersao(1L))
+                .thenReturn(Optional.of(0L))
+                .thenReturn(Optional.of(0L))
+                .thenReturn(Optional.of(1L));
+        when(repository.findAll())
+                .thenReturn(List.of(new TipoUsuario(2L, "Cliente")))
+                .thenReturn(List.of(new TipoUsuario(2L, "Cliente"), new TipoUsuario(3L, "Entregador")));
+        dicionario.recarregar();
+
+        assertTrue(dicionario.buscarPorNome("Entregador").isEmpty());
+        assertTrue(dicionario.buscarPorNome("entregador").isEmpty());
+        verify(versaoRepository, times(2)).buscarVersao(1L);
+
+        dicionario.reconciliar();
+
+        // A reconciliação lê a versão e recarrega (mais duas leituras); a busca seguinte já acha no snapshot novo
+        assertEquals(3L, dicionario.buscarPorNome("Entregador").orElseThrow().getId());
+        verify(versaoRepository, times(4)).buscarVersao(1L);
+    }
+}
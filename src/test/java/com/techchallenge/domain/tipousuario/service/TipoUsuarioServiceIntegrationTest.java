@@ -20,7 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(TipoUsuarioService.class)
+@Import({TipoUsuarioService.class, TipoUsuarioDicionario.class})
 class TipoUsuarioServiceIntegrationTest {
 
     @Autowired
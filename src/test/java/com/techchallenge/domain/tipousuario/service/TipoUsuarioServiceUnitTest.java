@@ -28,6 +28,9 @@ class TipoUsuarioServiceUnitTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private TipoUsuarioDicionario dicionario;
+
     @InjectMocks
     private TipoUsuarioService service;
 
@@ -52,6 +55,7 @@ class TipoUsuarioServiceUnitTest {
 
         assertEquals(1L, response.id());
         assertEquals("NovoTipo", response.nome());
+        verify(dicionario).registrarAlteracao(salvo);
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.techchallenge.domain.usuario.controller;
 
+import com.techchallenge.configuration.etag.Etags;
+import com.techchallenge.configuration.paginacao.PaginaDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioCreateDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioUpdateDTO;
@@ -17,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -42,7 +45,7 @@ class UsuarioControllerUnitTest {
 
     @Test
     void listarTodosComoAdminRetornaLista() {
-        when(request.getAttribute("role")).thenReturn("ADMIN");
+        when(request.isUserInRole("ADMIN")).thenReturn(true);
         UsuarioResponseDTO usuario = usuarioResponse(1L, "admin@tech.com");
         when(service.listarTodos()).thenReturn(List.of(usuario));
 
@@ -56,12 +59,34 @@ class UsuarioControllerUnitTest {
 
     @Test
     void listarTodosSemPermissaoLancaSecurityException() {
-        when(request.getAttribute("role")).thenReturn("CLIENT");
+        when(request.isUserInRole("ADMIN")).thenReturn(false);
 
         assertThrows(SecurityException.class, () -> controller.listarTodos());
         verifyNoInteractions(service);
     }
 
+    @Test
+    void listarPaginaComoAdminRetornaPagina() {
+        when(request.isUserInRole("ADMIN")).thenReturn(true);
+        UsuarioResponseDTO usuario = usuarioResponse(1L, "admin@tech.com");
+        PaginaDTO<UsuarioResponseDTO> pagina = new PaginaDTO<>(List.of(usuario), "MQ");
+        when(service.listarPagina(10, null)).thenReturn(pagina);
+
+        ResponseEntity<PaginaDTO<UsuarioResponseDTO>> response = controller.listarPagina(10, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(pagina, response.getBody());
+        verify(service).listarPagina(10, null);
+    }
+
+    @Test
+    void listarPaginaSemPermissaoLancaSecurityException() {
+        when(request.isUserInRole("ADMIN")).thenReturn(false);
+
+        assertThrows(SecurityException.class, () -> controller.listarPagina(null, null));
+        verifyNoInteractions(service);
+    }
+
     @Test
     void buscarPorIdComoAdminIgnoraPermissao() {
         UsuarioResponseDTO usuario = usuarioResponse(2L, "admin@tech.com");
@@ -72,6 +97,8 @@ class UsuarioControllerUnitTest {
 
         assertEquals(200, response.getStatusCodeValue());
         assertEquals(usuario, response.getBody());
+        assertEquals(Etags.de(usuario), response.getHeaders().getETag());
+        assertEquals(-1, response.getHeaders().getLastModified());
         verify(service).buscarPorId(2L);
     }
 
@@ -80,8 +107,7 @@ class UsuarioControllerUnitTest {
         UsuarioResponseDTO usuario = usuarioResponse(3L, "cliente@tech.com");
         when(service.buscarPorId(3L)).thenReturn(usuario);
         when(request.isUserInRole("ADMIN")).thenReturn(false);
-        when(request.getAttribute("role")).thenReturn("CLIENT");
-        when(request.getAttribute("email")).thenReturn("cliente@tech.com");
+        when(request.getUserPrincipal()).thenReturn((Principal) () -> "cliente@tech.com");
 
         ResponseEntity<UsuarioResponseDTO> response = controller.buscarPorId(3L);
 
@@ -95,8 +121,7 @@ class UsuarioControllerUnitTest {
         UsuarioResponseDTO usuario = usuarioResponse(4L, "outro@tech.com");
         when(service.buscarPorId(4L)).thenReturn(usuario);
         when(request.isUserInRole("ADMIN")).thenReturn(false);
-        when(request.getAttribute("role")).thenReturn("CLIENT");
-        when(request.getAttribute("email")).thenReturn("cliente@tech.com");
+        when(request.getUserPrincipal()).thenReturn((Principal) () -> "cliente@tech.com");
 
         assertThrows(SecurityException.class, () -> controller.buscarPorId(4L));
     }
@@ -142,20 +167,20 @@ class UsuarioControllerUnitTest {
 
     @Test
     void buscarPorNomeEncaminhaParaServico() {
-        when(service.buscarPorNome("joao")).thenReturn(List.of(usuarioResponse(8L, "joao@tech.com")));
+        when(service.buscarPorNome("joao", 10)).thenReturn(List.of(usuarioResponse(8L, "joao@tech.com")));
 
-        ResponseEntity<List<UsuarioResponseDTO>> response = controller.buscarPorNome("joao");
+        ResponseEntity<List<UsuarioResponseDTO>> response = controller.buscarPorNome("joao", 10);
 
         assertEquals(200, response.getStatusCodeValue());
         assertEquals(1, response.getBody().size());
-        verify(service).buscarPorNome("joao");
+        verify(service).buscarPorNome("joao", 10);
     }
 
     @Test
     void atualizarUsuarioChamaServicoComPermissao() {
         UsuarioResponseDTO buscado = usuarioResponse(9L, "user@tech.com");
         when(service.buscarPorId(9L)).thenReturn(buscado);
-        when(request.getAttribute("role")).thenReturn("ADMIN");
+        when(request.isUserInRole("ADMIN")).thenReturn(true);
         UsuarioUpdateDTO dto = new UsuarioUpdateDTO("Nome Atualizado", "user@tech.com", "Rua Atualizada");
         UsuarioResponseDTO atualizado = usuarioResponse(9L, "user@tech.com");
         when(service.atualizar(9L, dto)).thenReturn(atualizado);
@@ -172,7 +197,7 @@ class UsuarioControllerUnitTest {
     void atualizarSenhaChamaServicoComPermissao() {
         UsuarioResponseDTO buscado = usuarioResponse(10L, "senha@tech.com");
         when(service.buscarPorId(10L)).thenReturn(buscado);
-        when(request.getAttribute("role")).thenReturn("ADMIN");
+        when(request.isUserInRole("ADMIN")).thenReturn(true);
         UsuarioUpdateSenhaDTO dto = new UsuarioUpdateSenhaDTO("123456", "Nova@123");
 
         ResponseEntity<Void> response = controller.atualizarSenha(10L, dto);
@@ -186,7 +211,7 @@ class UsuarioControllerUnitTest {
     void deletarChamaServicoComPermissao() {
         UsuarioResponseDTO buscado = usuarioResponse(11L, "delete@tech.com");
         when(service.buscarPorId(11L)).thenReturn(buscado);
-        when(request.getAttribute("role")).thenReturn("ADMIN");
+        when(request.isUserInRole("ADMIN")).thenReturn(true);
 
         ResponseEntity<Void> response = controller.deletar(11L);
 
@@ -203,7 +228,8 @@ class UsuarioControllerUnitTest {
                 "Rua Teste",
                 UsuarioRole.CLIENT,
                 null,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                1L
         );
     }
 }
@@ -7,11 +7,11 @@ import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,22 +51,6 @@ class UsuarioRepositoryIntegrationTest {
         assertTrue(usuarioRepository.existsByEmail("maria@tech.com"));
     }
 
-    @Test
-    void buscarUsuariosPorNomeContendo() {
-        Usuario u1 = new Usuario();
-        u1.setNome("Joao Victor");
-        u1.setEmail("joao@tech.com");
-        u1.setSenha("123456");
-        u1.setEndereco("Rua B, 2");
-        u1.setRole(UsuarioRole.CLIENT);
-        u1.setUltimaAtualizacao(LocalDateTime.now());
-        u1.setTipoUsuario(tipoCliente);
-        usuarioRepository.save(u1);
-
-        List<Usuario> lista = usuarioRepository.findByNomeContainingIgnoreCase("joao");
-        assertFalse(lista.isEmpty());
-    }
-
     @Test
     void existeUsuarioPorTipoId() {
         Usuario u = new Usuario();
@@ -81,6 +65,25 @@ class UsuarioRepositoryIntegrationTest {
         usuarioRepository.save(u);
 
         assertTrue(usuarioRepository.existsByTipoUsuarioId(tipoCliente.getId()));
-        assertEquals(1, usuarioRepository.findByTipoUsuarioId(tipoCliente.getId()).size());
+    }
+
+    @Test
+    void projecaoRetornaResponseComTipo() {
+        Usuario u = new Usuario();
+        u.setNome("Ana Projecao");
+        u.setEmail("ana@tech.com");
+        u.setSenha("123456");
+        u.setEndereco("Rua D, 4");
+        u.setRole(UsuarioRole.CLIENT);
+        u.setUltimaAtualizacao(LocalDateTime.now());
+        u.setTipoUsuario(tipoCliente);
+        usuarioRepository.save(u);
+
+        var response = usuarioRepository.findResponseById(u.getId()).orElseThrow();
+
+        assertEquals("ana@tech.com", response.email());
+        assertEquals("Cliente", response.tipoUsuario().nome());
+        assertEquals(1, usuarioRepository.findResponseByTipoUsuarioId(tipoCliente.getId()).size());
+        assertEquals(1, usuarioRepository.findResponsePage(0L, Limit.unlimited()).size());
     }
 }
@@ -5,8 +5,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -14,22 +12,19 @@ import static org.mockito.Mockito.*;
 class UsuarioRepositoryUnitTest {
 
     @Test
-    void findByNomeEtcSimulados() {
+    void findByEmailEtcSimulados() {
         UsuarioRepository repository = mock(UsuarioRepository.class);
 
         Usuario usuario = new Usuario();
         usuario.setId(1L);
         usuario.setNome("Joao");
 
-        when(repository.findByNomeContainingIgnoreCase("joao")).thenReturn(List.of(usuario));
         when(repository.existsByEmail("joao@tech.com")).thenReturn(true);
         when(repository.findByEmail("joao@tech.com")).thenReturn(java.util.Optional.of(usuario));
 
-        assertEquals(1, repository.findByNomeContainingIgnoreCase("joao").size());
         assertTrue(repository.existsByEmail("joao@tech.com"));
         assertTrue(repository.findByEmail("joao@tech.com").isPresent());
 
-        verify(repository).findByNomeContainingIgnoreCase("joao");
         verify(repository).existsByEmail("joao@tech.com");
         verify(repository).findByEmail("joao@tech.com");
     }
@@ -0,0 +1,53 @@
+package com.techchallenge.domain.usuario.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityBeansConfigTest {
+
+    private final SecurityBeansConfig config = new SecurityBeansConfig();
+
+    @Test
+    void gravaAlgoritmoECustoNoHash() {
+        PasswordEncoder encoder = config.passwordEncoder("bcrypt", 5);
+
+        String hash = encoder.encode("123456");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"), hash);
+        assertTrue(encoder.matches("123456", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void hashLegadoSemPrefixoConfereEPedeAtualizacao() {
+        PasswordEncoder encoder = config.passwordEncoder("bcrypt", 5);
+        String legado = new BCryptPasswordEncoder(4).encode("123456");
+
+        assertTrue(encoder.matches("123456", legado));
+        assertTrue(encoder.upgradeEncoding(legado));
+    }
+
+    @Test
+    void custoMenorQueOConfiguradoPedeAtualizacao() {
+        String antigo = config.passwordEncoder("bcrypt", 4).encode("123456");
+
+        PasswordEncoder encoder = config.passwordEncoder("bcrypt", 6);
+
+        assertTrue(encoder.matches("123456", antigo));
+        assertTrue(encoder.upgradeEncoding(antigo));
+    }
+
+    @Test
+    void trocarAlgoritmoMantemHashesAntigosValidos() {
+        String bcrypt = config.passwordEncoder("bcrypt", 4).encode("123456");
+
+        PasswordEncoder encoder = config.passwordEncoder("pbkdf2", 4);
+
+        assertTrue(encoder.matches("123456", bcrypt));
+        assertTrue(encoder.upgradeEncoding(bcrypt));
+        assertTrue(encoder.encode("123456").startsWith("{pbkdf2}"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.techchallenge.domain.usuario.security;
+
+import com.techchallenge.domain.usuario.exception.SenhaSobrecarregadaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SenhaExecutorTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SenhaExecutor senhaExecutor;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        senhaExecutor = new SenhaExecutor(passwordEncoder, meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senhaExecutor.destroy();
+    }
+
+    @Test
+    void codificaEConfereForaDaThreadChamadora() {
+        when(passwordEncoder.encode("123456")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(passwordEncoder.matches("123456", "hash")).thenReturn(true);
+
+        assertEquals("senha-1", senhaExecutor.codificar("123456"));
+        assertTrue(senhaExecutor.conferir("123456", "hash"));
+
+        assertEquals(1, meterRegistry.get("auth.senha.duracao").tag("operacao", "codificar").timer().count());
+        assertEquals(1, meterRegistry.get("auth.senha.duracao").tag("operacao", "conferir").timer().count());
+    }
+
+    @Test
+    void recusaNaHoraComAFilaCheia() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            liberar.await();
+            return true;
+        });
+
+        CompletableFuture<Boolean> executando = senhaExecutor.conferirAsync("a", "hash");
+        CompletableFuture<Boolean> naFila = senhaExecutor.conferirAsync("b", "hash");
+
+        assertThrows(SenhaSobrecarregadaException.class, () -> senhaExecutor.conferirAsync("c", "hash"));
+        assertEquals(1.0, meterRegistry.get("auth.senha.rejeicoes").counter().count());
+
+        liberar.countDown();
+        assertTrue(executando.get(5, TimeUnit.SECONDS));
+        assertTrue(naFila.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void erroDoEncoderChegaSemEmbrulho() {
+        when(passwordEncoder.encode("x")).thenThrow(new IllegalArgumentException("senha inválida"));
+
+        assertThrows(IllegalArgumentException.class, () -> senhaExecutor.codificar("x"));
+    }
+}
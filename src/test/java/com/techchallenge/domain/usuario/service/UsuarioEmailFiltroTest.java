@@ -0,0 +1,118 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.domain.usuario.dto.UsuarioEmailDTO;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioEmailFiltroTest {
+
+    @Mock
+    private UsuarioRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UsuarioEmailFiltro filtro;
+
+    @BeforeEach
+    void setup() {
+        filtro = new UsuarioEmailFiltro(repository, meterRegistry);
+    }
+
+    @Test
+    void antesDaCargaTudoEhTalvez() {
+        assertTrue(filtro.talvezCadastrado("qualquer@tech.com"));
+    }
+
+    @Test
+    void cargaPaginadaCobreTodosOsEmailsSemFalsoNegativo() {
+        List<UsuarioEmailDTO> primeira = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            primeira.add(new UsuarioEmailDTO(id, "user" + id + "@tech.com"));
+        }
+        when(repository.findEmailPage(eq(0L), any(Limit.class))).thenReturn(primeira);
+        when(repository.findEmailPage(eq(10_000L), any(Limit.class)))
+                .thenReturn(List.of(new UsuarioEmailDTO(10_001L, "Ultimo@Tech.com")));
+
+        filtro.reconstruir();
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filtro.talvezCadastrado("user" + id + "@tech.com"));
+        }
+        assertTrue(filtro.talvezCadastrado(" ultimo@tech.com"));
+
+        int negativos = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (!filtro.talvezCadastrado("bot" + i + "@spam.com")) {
+                negativos++;
+            }
+        }
+        assertTrue(negativos > 950, "negativos: " + negativos);
+        assertEquals(negativos, meterRegistry.get("usuario.email.filtro").tag("resultado", "negativo")
+                .counter().count());
+    }
+
+    @Test
+    void cadastroDepoisDaCargaEntraNoFiltro() {
+        when(repository.findEmailPage(anyLong(), any(Limit.class))).thenReturn(List.of());
+        filtro.reconstruir();
+        assertFalse(filtro.talvezCadastrado("novo@tech.com"));
+
+        filtro.registrar("novo@tech.com");
+
+        assertTrue(filtro.talvezCadastrado("novo@tech.com"));
+    }
+
+    @Test
+    void sincronizacaoTrazEmailsCadastradosEmOutroNo() {
+        when(repository.findEmailPage(anyLong(), any(Limit.class))).thenReturn(List.of());
+        filtro.reconstruir();
+        when(repository.findEmailAtualizadoDesde(any(LocalDateTime.class)))
+                .thenReturn(List.of(new UsuarioEmailDTO(7L, "outro-no@tech.com")));
+
+        filtro.sincronizar();
+
+        assertTrue(filtro.talvezCadastrado("outro-no@tech.com"));
+    }
+
+    @Test
+    void reconstrucaoDescartaRemovidos() {
+        when(repository.findEmailPage(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(new UsuarioEmailDTO(1L, "saiu@tech.com")))
+                .thenReturn(List.of());
+        filtro.reconstruir();
+        assertTrue(filtro.talvezCadastrado("saiu@tech.com"));
+
+        filtro.reconstruir();
+
+        assertFalse(filtro.talvezCadastrado("saiu@tech.com"));
+    }
+
+    @Test
+    void falsoPositivoEhContadoEATaxaEstimadaFicaExposta() {
+        when(repository.findEmailPage(anyLong(), any(Limit.class))).thenReturn(List.of());
+        filtro.reconstruir();
+
+        filtro.falsoPositivo();
+
+        assertEquals(1.0, meterRegistry.get("usuario.email.filtro").tag("resultado", "falso_positivo")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("usuario.email.filtro.falso_positivo.estimado").gauge().value());
+    }
+}
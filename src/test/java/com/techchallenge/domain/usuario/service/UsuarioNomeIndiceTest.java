@@ -0,0 +1,196 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.domain.usuario.dto.UsuarioNomeDTO;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioNomeIndiceTest {
+
+    @Mock
+    private UsuarioRepository repository;
+
+    private UsuarioNomeIndice indice;
+
+    @BeforeEach
+    void setup() {
+        indice = new UsuarioNomeIndice(repository);
+    }
+
+    @Test
+    void normalizaAcentosMaiusculasEEspacos() {
+        assertEquals("joao da conceicao", UsuarioNomeIndice.normalizar("  JOÃO   da  Conceição "));
+        assertEquals("", UsuarioNomeIndice.normalizar(null));
+    }
+
+    @Test
+    void buscaSemAcentoEOrdenaPorRelevancia() {
+        carregar(
+                new UsuarioNomeDTO(1L, "Mariana Souza"),
+                new UsuarioNomeDTO(2L, "Ana"),
+                new UsuarioNomeDTO(3L, "Anália Prado"),
+                new UsuarioNomeDTO(4L, "Paula Ana Lima"),
+                new UsuarioNomeDTO(5L, "Bruno Costa"));
+
+        assertEquals(List.of(2L, 3L, 4L, 1L), indice.buscar("ANA", 10));
+        assertEquals(List.of(3L), indice.buscar("analia", 10));
+        assertEquals(List.of(2L, 3L), indice.buscar("ana", 2));
+        assertTrue(indice.buscar("carlos", 10).isEmpty());
+    }
+
+    @Test
+    void resultadoIgualAVarreduraCompleta() {
+        String[] partes = {"ana", "maria", "joao", "silva", "souza", "mariana", "ananias", "jo"};
+        Random random = new Random(7);
+        UsuarioNomeDTO[] usuarios = new UsuarioNomeDTO[2000];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new UsuarioNomeDTO((long) i + 1, partes[random.nextInt(partes.length)] + " "
+                    + partes[random.nextInt(partes.length)]);
+        }
+        carregar(usuarios);
+
+        for (String termo : List.of("ana", "an", "a", "joao s", "ria", "silva souza", "ias ma")) {
+            List<Long> esperado = Arrays.stream(usuarios)
+                    .filter(u -> UsuarioNomeIndice.nivel(u.nome(), termo) >= 0)
+                    .sorted(Comparator.comparingInt((UsuarioNomeDTO u) -> UsuarioNomeIndice.nivel(u.nome(), termo))
+                            .thenComparing(UsuarioNomeDTO::id))
+                    .map(UsuarioNomeDTO::id)
+                    .limit(300)
+                    .toList();
+
+            assertEquals(esperado, indice.buscar(termo, 300), termo);
+        }
+    }
+
+    @Test
+    void termoCurtoUsaUnigramasEBigramas() {
+        carregar(
+                new UsuarioNomeDTO(1L, "Lu"),
+                new UsuarioNomeDTO(2L, "Luana"),
+                new UsuarioNomeDTO(3L, "Tallulah"),
+                new UsuarioNomeDTO(4L, "Paulo"));
+
+        assertEquals(List.of(1L, 2L, 3L), indice.buscar("lu", 10));
+    }
+
+    @Test
+    void termoDeUmaLetraAchaPorNivel() {
+        carregar(
+                new UsuarioNomeDTO(1L, "Bia"),
+                new UsuarioNomeDTO(2L, "B"),
+                new UsuarioNomeDTO(3L, "Ana Beatriz"),
+                new UsuarioNomeDTO(4L, "Caio"));
+
+        assertEquals(List.of(2L, 1L, 3L), indice.buscar("b", 10));
+    }
+
+    @Test
+    void idsEsparsosEAcimaDeIntFuncionam() {
+        long grande = 5_000_000_000L;
+        carregar(new UsuarioNomeDTO(3L, "Marta"), new UsuarioNomeDTO(grande, "Marcia"));
+
+        indice.registrar(Long.MAX_VALUE - 1, "Mariana");
+        assertEquals(List.of(3L, grande, Long.MAX_VALUE - 1), indice.buscar("mar", 10));
+
+        indice.registrar(grande, "Joana");
+        indice.remover(3L);
+        assertEquals(List.of(Long.MAX_VALUE - 1), indice.buscar("mar", 10));
+        assertEquals(List.of(grande), indice.buscar("jo", 10));
+        assertEquals(2, indice.tamanho());
+    }
+
+    @Test
+    void muitasRemocoesCompactamSemPerderNemReordenar() {
+        UsuarioNomeDTO[] usuarios = new UsuarioNomeDTO[5000];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new UsuarioNomeDTO(i * 7L + 1, "Usuario " + i);
+        }
+        carregar(usuarios);
+
+        for (int i = 0; i < usuarios.length; i++) {
+            if (i % 5 != 0) {
+                indice.remover(usuarios[i].id());
+            }
+        }
+
+        List<Long> esperados = Arrays.stream(usuarios)
+                .filter(u -> Integer.parseInt(u.nome().substring(8)) % 5 == 0)
+                .map(UsuarioNomeDTO::id)
+                .toList();
+        assertEquals(esperados, indice.buscar("usuario", 5000));
+        assertEquals(1000, indice.tamanho());
+    }
+
+    @Test
+    void trigramasNaoBastamOTermoPrecisaEstarContido() {
+        // "abc" e "bcd" aparecem em "abcxbcd", mas "abcd" não
+        carregar(new UsuarioNomeDTO(1L, "abcxbcd"));
+
+        assertTrue(indice.buscar("abcd", 10).isEmpty());
+    }
+
+    @Test
+    void registrarERemoverMantemOIndiceEmDia() {
+        carregar(new UsuarioNomeDTO(1L, "Carlos Alberto"));
+
+        indice.registrar(2L, "Carla Dias");
+        indice.registrar(1L, "Roberto Alves");
+        indice.remover(2L);
+
+        assertTrue(indice.buscar("carl", 10).isEmpty());
+        assertEquals(List.of(1L), indice.buscar("robert", 10));
+        assertEquals(1, indice.tamanho());
+    }
+
+    @Test
+    void carregaLazyNaPrimeiraBusca() {
+        when(repository.findNomePage(anyLong(), any(Limit.class))).thenReturn(List.of(new UsuarioNomeDTO(1L, "Renata")));
+
+        assertEquals(List.of(1L), indice.buscar("renata", 10));
+        indice.buscar("renata", 10);
+
+        verify(repository, times(1)).findNomePage(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void sincronizarAplicaAlteracoesDeOutrosNos() {
+        carregar(new UsuarioNomeDTO(1L, "Fernanda"));
+        when(repository.findNomeAtualizadoDesde(any(LocalDateTime.class)))
+                .thenReturn(List.of(new UsuarioNomeDTO(1L, "Fernanda Lopes"), new UsuarioNomeDTO(7L, "Otavio")));
+
+        indice.sincronizar();
+
+        assertEquals(List.of(1L), indice.buscar("lopes", 10));
+        assertEquals(List.of(7L), indice.buscar("otávio", 10));
+    }
+
+    @Test
+    void descartarTiraIdsQueNaoExistemMais() {
+        carregar(new UsuarioNomeDTO(1L, "Gustavo"), new UsuarioNomeDTO(2L, "Gustava"));
+
+        indice.descartar(List.of(1L));
+
+        assertEquals(List.of(2L), indice.buscar("gustav", 10));
+    }
+
+    private void carregar(UsuarioNomeDTO... usuarios) {
+        when(repository.findNomePage(anyLong(), any(Limit.class))).thenReturn(List.of(usuarios));
+        indice.recarregar();
+    }
+}
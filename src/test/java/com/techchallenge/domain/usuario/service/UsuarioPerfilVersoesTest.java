@@ -0,0 +1,112 @@
+package com.techchallenge.domain.usuario.service;
+
+import com.techchallenge.domain.usuario.dto.UsuarioVersaoDTO;
+import com.techchallenge.domain.usuario.entity.Usuario;
+import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioPerfilVersoesTest {
+
+    private static final long UMA_HORA_MS = 3_600_000L;
+
+    @Mock
+    private UsuarioRepository repository;
+
+    private UsuarioPerfilVersoes perfilVersoes;
+
+    @BeforeEach
+    void setup() {
+        perfilVersoes = new UsuarioPerfilVersoes(repository, UMA_HORA_MS);
+    }
+
+    @Test
+    void usuarioSemAlteracaoConhecidaConfiaNoToken() {
+        assertTrue(perfilVersoes.atual(1L, 0L));
+    }
+
+    @Test
+    void alteracaoDepoisDoTokenInvalidaOPerfilDoToken() {
+        long versaoToken = 3L;
+
+        perfilVersoes.registrar(usuario(1L, 4L, LocalDateTime.now()));
+
+        assertFalse(perfilVersoes.atual(1L, versaoToken));
+        assertTrue(perfilVersoes.atual(1L, 4L));
+    }
+
+    @Test
+    void duasAlteracoesNoMesmoSegundoTemVersoesDiferentes() {
+        LocalDateTime segundo = LocalDateTime.now().withNano(0);
+        Usuario primeira = usuario(1L, 1L, segundo);
+        perfilVersoes.registrar(primeira);
+
+        // Token emitido entre as duas gravações, no mesmo segundo
+        long versaoToken = UsuarioPerfilVersoes.versao(primeira.getVersao());
+        assertTrue(perfilVersoes.atual(1L, versaoToken));
+
+        perfilVersoes.registrar(usuario(1L, 2L, segundo.plusNanos(500_000_000)));
+
+        assertFalse(perfilVersoes.atual(1L, versaoToken));
+    }
+
+    @Test
+    void versaoMaisVelhaNaoVoltaAtras() {
+        perfilVersoes.registrar(usuario(1L, 5L, LocalDateTime.now()));
+        perfilVersoes.registrar(usuario(1L, 4L, LocalDateTime.now()));
+
+        assertFalse(perfilVersoes.atual(1L, 4L));
+    }
+
+    @Test
+    void removidoInvalidaTokensAnteriores() {
+        perfilVersoes.remover(1L);
+
+        assertFalse(perfilVersoes.atual(1L, Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void sincronizarTrazAlteracoesDeOutrosNosEDescartaAsExpiradas() {
+        LocalDateTime agora = LocalDateTime.now();
+        when(repository.findVersaoAtualizadoDesde(any(LocalDateTime.class)))
+                .thenReturn(List.of(new UsuarioVersaoDTO(9L, agora.minusHours(3), 7L)))
+                .thenReturn(List.of(new UsuarioVersaoDTO(2L, agora.minusMinutes(1), 3L)));
+        perfilVersoes.sincronizar();
+
+        perfilVersoes.sincronizar();
+
+        assertFalse(perfilVersoes.atual(2L, 2L));
+        assertTrue(perfilVersoes.atual(2L, 3L));
+        assertTrue(perfilVersoes.atual(9L, 0L));
+        assertEquals(1, perfilVersoes.tamanho());
+    }
+
+    @Test
+    void primeiraSincronizacaoCobreAValidadeDoToken() {
+        LocalDateTime antes = LocalDateTime.now();
+
+        perfilVersoes.sincronizar();
+
+        verify(repository).findVersaoAtualizadoDesde(argThat(desde ->
+                !desde.isBefore(antes.minusHours(1)) && desde.isBefore(antes.minusMinutes(59))));
+    }
+
+    private static Usuario usuario(Long id, Long versao, LocalDateTime ultimaAtualizacao) {
+        Usuario usuario = new Usuario();
+        usuario.setId(id);
+        usuario.setVersao(versao);
+        usuario.setUltimaAtualizacao(ultimaAtualizacao);
+        return usuario;
+    }
+}
@@ -1,26 +1,40 @@
 package com.techchallenge.domain.usuario.service;
 
+import com.techchallenge.configuration.campos.RegistroParcial;
+import com.techchallenge.configuration.exportacao.ExportadorNdjson;
+import com.techchallenge.configuration.paginacao.Paginacao;
+import com.techchallenge.domain.tipousuario.dto.TipoUsuarioResponseDTO;
 import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
 import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.tipousuario.service.TipoUsuarioDicionario;
 import com.techchallenge.domain.usuario.dto.UsuarioCreateDTO;
+import com.techchallenge.domain.usuario.dto.UsuarioResponseDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioUpdateSenhaDTO;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
 import com.techchallenge.domain.usuario.security.SecurityBeansConfig;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({UsuarioService.class, SecurityBeansConfig.class})
+@AutoConfigureJson
+@Import({UsuarioService.class, SecurityBeansConfig.class, SenhaExecutor.class, SimpleMeterRegistry.class,
+        Paginacao.class, ExportadorNdjson.class, TipoUsuarioDicionario.class, UsuarioNomeIndice.class,
+        UsuarioPerfilVersoes.class, UsuarioEmailFiltro.class})
 class UsuarioServiceIntegrationTest {
 
     @Autowired
@@ -32,6 +46,12 @@ class UsuarioServiceIntegrationTest {
     @Autowired
     private TipoUsuarioRepository tipoUsuarioRepository;
 
+    @Autowired
+    private TipoUsuarioDicionario tipoUsuarioDicionario;
+
+    @Autowired
+    private UsuarioNomeIndice nomeIndice;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -42,6 +62,7 @@ class UsuarioServiceIntegrationTest {
         cliente = new TipoUsuario();
         cliente.setNome("Cliente");
         cliente = tipoUsuarioRepository.save(cliente);
+        tipoUsuarioDicionario.recarregar();
     }
 
     @Test
@@ -76,7 +97,32 @@ class UsuarioServiceIntegrationTest {
 
     @Test
     void buscarPorNomeInvalidoLancaExcecao() {
-        assertThrows(IllegalArgumentException.class, () -> usuarioService.buscarPorNome(" "));
+        assertThrows(IllegalArgumentException.class, () -> usuarioService.buscarPorNome(" ", null));
+    }
+
+    @Test
+    void buscarPorNomeIgnoraAcentoEOrdenaPorRelevancia() {
+        usuarioService.criar(new UsuarioCreateDTO("Ana Joãozinha", "ana.joaozinha@tech.com", "123456", "Rua D, 4", cliente.getId()));
+        usuarioService.criar(new UsuarioCreateDTO("João Silva", "joao.silva@tech.com", "123456", "Rua D, 5", cliente.getId()));
+        usuarioService.criar(new UsuarioCreateDTO("Maria Joao", "maria.joao@tech.com", "123456", "Rua D, 6", cliente.getId()));
+        // Dentro da transação do teste não há commit: recarrega para o índice enxergar os cadastros
+        nomeIndice.recarregar();
+
+        var encontrados = usuarioService.buscarPorNome("JOAO", null);
+
+        assertEquals(List.of("joao.silva@tech.com", "ana.joaozinha@tech.com", "maria.joao@tech.com"),
+                encontrados.stream().map(UsuarioResponseDTO::email).toList());
+        assertEquals(1, usuarioService.buscarPorNome("joao", 1).size());
+    }
+
+    @Test
+    void buscarPorNomeDescartaUsuarioRemovidoForaDoIndice() {
+        var criado = usuarioService.criar(new UsuarioCreateDTO("Removido", "removido@tech.com", "123456", "Rua E, 7", cliente.getId()));
+        nomeIndice.recarregar();
+        usuarioRepository.deleteById(criado.id());
+
+        assertTrue(usuarioService.buscarPorNome("removido", null).isEmpty());
+        assertTrue(nomeIndice.buscar("removido", 10).isEmpty());
     }
 
     @Test
@@ -102,8 +148,33 @@ class UsuarioServiceIntegrationTest {
         assertTrue(passwordEncoder.matches("NovaSenha@123", atualizado.getSenha()));
     }
 
+    @Test
+    void atualizarHashSenhaNaoSobrescreveTrocaConcorrente() {
+        var criado = usuarioService.criar(new UsuarioCreateDTO(
+                "Rehash", "rehash@tech.com", "123456", "Rua D, 4", cliente.getId()));
+        String hashLido = usuarioRepository.findById(criado.id()).orElseThrow().getSenha();
+
+        usuarioService.atualizarSenha(criado.id(), new UsuarioUpdateSenhaDTO("123456", "Trocada@123"));
+
+        assertFalse(usuarioService.atualizarHashSenha(criado.id(), hashLido, "{bcrypt}novo"));
+        assertTrue(passwordEncoder.matches("Trocada@123",
+                usuarioRepository.findById(criado.id()).orElseThrow().getSenha()));
+    }
+
     @Test
     void deletarUsuarioInexistenteLancaExcecao() {
         assertThrows(EntityNotFoundException.class, () -> usuarioService.deletar(999L));
     }
+
+    @Test
+    void buscarPorIdParcialMontaTipoUsuarioELevaEmailInterno() {
+        var criado = usuarioService.criar(new UsuarioCreateDTO(
+                "Joao", "joao.campos@tech.com", "123456", "Rua A, 1", cliente.getId()));
+
+        RegistroParcial registro = usuarioService.buscarPorIdParcial(criado.id(), "nome,tipoUsuario");
+
+        assertEquals(List.of("nome", "tipoUsuario"), List.copyOf(registro.campos().keySet()));
+        assertEquals(new TipoUsuarioResponseDTO(cliente.getId(), "Cliente"), registro.campos().get("tipoUsuario"));
+        assertEquals("joao.campos@tech.com", registro.interno("email"));
+    }
 }
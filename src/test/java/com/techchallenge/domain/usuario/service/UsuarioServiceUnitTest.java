@@ -1,19 +1,20 @@
 package com.techchallenge.domain.usuario.service;
 
 import com.techchallenge.domain.tipousuario.entity.TipoUsuario;
-import com.techchallenge.domain.tipousuario.repository.TipoUsuarioRepository;
+import com.techchallenge.domain.tipousuario.service.TipoUsuarioDicionario;
 import com.techchallenge.domain.usuario.dto.UsuarioCreateDTO;
 import com.techchallenge.domain.usuario.dto.UsuarioUpdateSenhaDTO;
 import com.techchallenge.domain.usuario.entity.Usuario;
 import com.techchallenge.domain.usuario.entity.UsuarioRole;
 import com.techchallenge.domain.usuario.repository.UsuarioRepository;
+import com.techchallenge.domain.usuario.security.SenhaExecutor;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -27,14 +28,28 @@ class UsuarioServiceUnitTest {
     private UsuarioRepository usuarioRepository;
 
     @Mock
-    private TipoUsuarioRepository tipoUsuarioRepository;
+    private TipoUsuarioDicionario tipoUsuarioDicionario;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UsuarioNomeIndice nomeIndice;
+
+    @Mock
+    private UsuarioPerfilVersoes perfilVersoes;
+
+    @Mock
+    private SenhaExecutor senhaExecutor;
+
+    @Mock
+    private UsuarioEmailFiltro emailFiltro;
 
     @InjectMocks
     private UsuarioService usuarioService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(emailFiltro.talvezCadastrado(any())).thenReturn(true);
+    }
+
     @Test
     void criarComEmailExistenteLancaErro() {
         when(usuarioRepository.existsByEmail("dup@tech.com")).thenReturn(true);
@@ -46,8 +61,8 @@ class UsuarioServiceUnitTest {
     @Test
     void criarSemTipoAssumeCliente() {
         when(usuarioRepository.existsByEmail("novo@tech.com")).thenReturn(false);
-        when(passwordEncoder.encode("123456")).thenReturn("hash");
-        when(tipoUsuarioRepository.findByNomeIgnoreCase("Cliente"))
+        when(senhaExecutor.codificar("123456")).thenReturn("hash");
+        when(tipoUsuarioDicionario.buscarPorNome("Cliente"))
                 .thenReturn(Optional.of(new TipoUsuario(1L, "Cliente")));
 
         when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -65,9 +80,42 @@ class UsuarioServiceUnitTest {
         assertThrows(EntityNotFoundException.class, () -> usuarioService.buscarPorEmail("missing@tech.com"));
     }
 
+    @Test
+    void emailForaDoFiltroNaoConsultaOBanco() {
+        when(emailFiltro.talvezCadastrado("bot@tech.com")).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> usuarioService.buscarPorEmail("bot@tech.com"));
+
+        verify(usuarioRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void cadastroConsultaOBancoMesmoComEmailForaDoFiltro() {
+        lenient().when(emailFiltro.talvezCadastrado("outro-no@tech.com")).thenReturn(false);
+        when(usuarioRepository.existsByEmail("outro-no@tech.com")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> usuarioService.criar(
+                new UsuarioCreateDTO("Novo", "outro-no@tech.com", "123456", "Rua B", null)));
+
+        verify(usuarioRepository, never()).save(any());
+    }
+
+    @Test
+    void cadastroEntraNoFiltro() {
+        when(senhaExecutor.codificar("123456")).thenReturn("hash");
+        when(tipoUsuarioDicionario.buscarPorNome("Cliente"))
+                .thenReturn(Optional.of(new TipoUsuario(1L, "Cliente")));
+        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        usuarioService.criar(new UsuarioCreateDTO("Novo", "novo@tech.com", "123456", "Rua B", null));
+
+        verify(usuarioRepository).existsByEmail("novo@tech.com");
+        verify(emailFiltro).registrar("novo@tech.com");
+    }
+
     @Test
     void buscarPorNomeComParametroVazioLancaErro() {
-        assertThrows(IllegalArgumentException.class, () -> usuarioService.buscarPorNome(" "));
+        assertThrows(IllegalArgumentException.class, () -> usuarioService.buscarPorNome(" ", null));
     }
 
     @Test
@@ -77,7 +125,7 @@ class UsuarioServiceUnitTest {
         usuario.setSenha("hash");
 
         when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
-        when(passwordEncoder.matches("errada", "hash")).thenReturn(false);
+        when(senhaExecutor.conferir("errada", "hash")).thenReturn(false);
 
         assertThrows(IllegalArgumentException.class,
                 () -> usuarioService.atualizarSenha(1L, new UsuarioUpdateSenhaDTO("errada", "nova")));
@@ -101,7 +149,7 @@ class UsuarioServiceUnitTest {
         tipo.setNome("Dono de Restaurante");
 
         when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
-        when(tipoUsuarioRepository.findById(2L)).thenReturn(Optional.of(tipo));
+        when(tipoUsuarioDicionario.buscarPorId(2L)).thenReturn(Optional.of(tipo));
         when(usuarioRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         var response = usuarioService.atualizarTipoUsuario(1L, 2L);